@@ -24,6 +24,7 @@ import org.ballerinalang.model.NativeScope;
 import org.ballerinalang.model.SymbolName;
 import org.ballerinalang.util.BLangDiagnosticListener;
 import org.ballerinalang.util.codegen.CodeGenerator;
+import org.ballerinalang.util.codegen.PeepholeOptimizer;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.ballerinalang.util.program.BLangPackages;
 import org.ballerinalang.util.program.BLangPrograms;
@@ -48,6 +49,7 @@ import java.util.List;
  */
 public class BLangProgramLoader {
     private boolean disableSemanticAnalyzer = false;
+    private boolean disablePeepholeOptimizer = Boolean.getBoolean(PeepholeOptimizer.SYSTEM_PROP_DISABLE_OPTIMIZER);
     private PackageRepository packageRepository;
     private BLangDiagnosticListener diagnosticListener;
 
@@ -136,6 +138,7 @@ public class BLangProgramLoader {
         bLangProgram.accept(semanticAnalyzer);
 
         CodeGenerator codeGenerator = new CodeGenerator();
+        codeGenerator.setPeepholeOptimizerEnabled(!disablePeepholeOptimizer);
         bLangProgram.accept(codeGenerator);
 
         ProgramFile programFile = codeGenerator.getProgramFile();
@@ -167,6 +170,7 @@ public class BLangProgramLoader {
         bLangProgram.accept(semanticAnalyzer);
 
         CodeGenerator codeGenerator = new CodeGenerator();
+        codeGenerator.setPeepholeOptimizerEnabled(!disablePeepholeOptimizer);
         bLangProgram.accept(codeGenerator);
 
         ProgramFile programFile = codeGenerator.getProgramFile();
@@ -199,6 +203,7 @@ public class BLangProgramLoader {
         bLangProgram.accept(semanticAnalyzer);
 
         CodeGenerator codeGenerator = new CodeGenerator();
+        codeGenerator.setPeepholeOptimizerEnabled(!disablePeepholeOptimizer);
         bLangProgram.accept(codeGenerator);
 
         ProgramFile programFile = codeGenerator.getProgramFile();
@@ -240,6 +245,11 @@ public class BLangProgramLoader {
         return this;
     }
 
+    public BLangProgramLoader disablePeepholeOptimizer() {
+        this.disablePeepholeOptimizer = true;
+        return this;
+    }
+
     public BLangProgramLoader setPackageRepository(PackageRepository packageRepository) {
         this.packageRepository = packageRepository;
         return this;
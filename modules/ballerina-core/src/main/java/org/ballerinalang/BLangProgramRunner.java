@@ -43,6 +43,7 @@ import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.runtime.worker.WorkerDataChannels;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.services.dispatchers.DispatcherRegistry;
 import org.ballerinalang.util.codegen.FunctionInfo;
@@ -163,11 +164,12 @@ public class BLangProgramRunner {
                 defaultWorkerInfo, -1, new int[0]);
         callerSF.getRefRegs()[0] = arrayArgs;
         int[] argRegs = {0};
-        BLangVMWorkers.invoke(programFile, mainFuncInfo, callerSF, argRegs);
+        WorkerDataChannels workerDataChannels = BLangVMWorkers.invoke(programFile, mainFuncInfo, callerSF, argRegs);
 
         org.ballerinalang.bre.bvm.StackFrame stackFrame = new org.ballerinalang.bre.bvm.StackFrame(mainFuncInfo,
                 defaultWorkerInfo, -1, new int[0]);
         stackFrame.getRefLocalVars()[0] = arrayArgs;
+        stackFrame.setWorkerDataChannels(workerDataChannels);
         controlStackNew.pushFrame(stackFrame);
 
         BLangVM bLangVM = new BLangVM(programFile);
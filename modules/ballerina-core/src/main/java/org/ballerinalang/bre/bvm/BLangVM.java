@@ -18,7 +18,6 @@
 package org.ballerinalang.bre.bvm;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.ballerinalang.bre.BallerinaTransactionManager;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.StackVarLocation;
@@ -55,12 +54,15 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.model.values.StructureType;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
 import org.ballerinalang.natives.connectors.BalConnectorCallback;
 import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
 import org.ballerinalang.runtime.DefaultBalCallback;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.runtime.worker.WorkerCallback;
 import org.ballerinalang.runtime.worker.WorkerDataChannel;
+import org.ballerinalang.runtime.worker.WorkerDataChannels;
 import org.ballerinalang.services.DefaultServerConnectorErrorHandler;
 import org.ballerinalang.util.codegen.ActionInfo;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
@@ -80,6 +82,7 @@ import org.ballerinalang.util.codegen.cpentries.ForkJoinCPEntry;
 import org.ballerinalang.util.codegen.cpentries.FunctionCallCPEntry;
 import org.ballerinalang.util.codegen.cpentries.FunctionRefCPEntry;
 import org.ballerinalang.util.codegen.cpentries.IntegerCPEntry;
+import org.ballerinalang.util.codegen.cpentries.JSONCPEntry;
 import org.ballerinalang.util.codegen.cpentries.StringCPEntry;
 import org.ballerinalang.util.codegen.cpentries.StructureRefCPEntry;
 import org.ballerinalang.util.codegen.cpentries.TypeCPEntry;
@@ -99,13 +102,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.StringJoiner;
-import java.util.concurrent.CancellationException;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @since 0.87
@@ -113,6 +117,14 @@ import java.util.concurrent.TimeoutException;
 public class BLangVM {
 
     private static final Logger logger = LoggerFactory.getLogger(BLangVM.class);
+
+    // Total number of instructions dispatched by all the VM instances
+    private static final LongAdder dispatchedInstructionCount = new LongAdder();
+
+    // Fork/join branches which are currently running, and branches cancelled due to a join or a timeout
+    private static final LongAdder activeForkBranchCount = new LongAdder();
+    private static final LongAdder cancelledForkBranchCount = new LongAdder();
+
     private Context context;
     private ControlStackNew controlStack;
     private ProgramFile programFile;
@@ -122,11 +134,26 @@ public class BLangVM {
 
     // Instruction pointer;
     private int ip = 0;
-    private Instruction[] code;
+    private int[] code;
     private int workerEndIP = -1;
 
+    // Number of instructions dispatched by the current run, added to the total once the run stops
+    private long dispatchCount;
+
+    // Set by another thread to stop executing this VM. Checked before each instruction
+    private volatile boolean cancelled;
+
+    // Channel this VM is waiting on for the reply of a worker. Woken up if this VM is cancelled while waiting
+    private volatile WorkerDataChannel waitingChannel;
+
+    // Callback of the non-blocking action this VM is suspended on. Notified once this VM stops executing
+    private BalConnectorCallback suspendedCallback;
+
     private StructureType globalMemBlock;
 
+    // Reused for the calls to native functions which take their arguments from the registers
+    private final NativeCallFrame nativeCallFrame = new NativeCallFrame();
+
     public BLangVM(ProgramFile programFile) {
         this.programFile = programFile;
         this.globalMemBlock = programFile.getGlobalMemoryBlock();
@@ -135,6 +162,7 @@ public class BLangVM {
     // TODO Remove
     private void traceCode(PackageInfo packageInfo) {
         PrintStream printStream = System.out;
+        Instruction[] code = packageInfo.getInstructions();
         for (int i = 0; i < code.length; i++) {
             printStream.println(i + ": " + Mnemonics.getMnem(code[i].getOpcode()) + " " +
                     getOperandsLine(code[i].getOperands()));
@@ -150,7 +178,7 @@ public class BLangVM {
     public void run(Context context) {
         StackFrame currentFrame = context.getControlStackNew().getCurrentFrame();
         this.constPool = currentFrame.packageInfo.getConstPool();
-        this.code = currentFrame.packageInfo.getInstructions();
+        this.code = currentFrame.packageInfo.getCode();
 
         this.context = context;
         this.controlStack = context.getControlStackNew();
@@ -166,7 +194,7 @@ public class BLangVM {
             BType[] retTypes = context.actionInfo.getRetParamTypes();
             StackFrame calleeSF = controlStack.popFrame();
             this.constPool = controlStack.currentFrame.packageInfo.getConstPool();
-            this.code = controlStack.currentFrame.packageInfo.getInstructions();
+            this.code = controlStack.currentFrame.packageInfo.getCode();
             handleReturnFromNativeCallableUnit(controlStack.currentFrame, context.funcCallCPEntry.getRetRegs(),
                     calleeSF.returnValues, retTypes);
 
@@ -177,6 +205,13 @@ public class BLangVM {
             context.actionInfo = null;
         }
         exec();
+
+        BalConnectorCallback callback = suspendedCallback;
+        if (callback != null) {
+            // From here on the VM may be resumed by the thread which completes the action
+            suspendedCallback = null;
+            callback.suspended();
+        }
     }
 
     public void execWorker(Context context, int startIP, int endIP) {
@@ -185,7 +220,7 @@ public class BLangVM {
         run(context);
 //        StackFrame currentFrame = context.getControlStackNew().getCurrentFrame();
 //        this.constPool = currentFrame.packageInfo.getConstPool();
-//        this.code = currentFrame.packageInfo.getInstructions();
+//        this.code = currentFrame.packageInfo.getCode();
 //
 //        this.context = context;
 //        this.controlStack = context.getControlStackNew();
@@ -201,12 +236,23 @@ public class BLangVM {
      * Act as a virtual CPU
      */
     private void exec() {
+        try {
+            dispatch();
+        } finally {
+            // Counted even when an instruction throws, e.g. on an unsupported opcode
+            dispatchedInstructionCount.add(dispatchCount);
+            dispatchCount = 0;
+        }
+    }
+
+    private void dispatch() {
         int i;
         int j;
         int k;
         int lvIndex; // Index of the local variable
         int cpIndex; // Index of the constant pool
         int fieldIndex;
+        int pc; // Index of the first operand of the current instruction in the code stream
 
         int[] fieldCount;
 
@@ -240,483 +286,489 @@ public class BLangVM {
         int callersRetRegIndex;
 
         // TODO use HALT Instruction in the while condition
-        while (ip >= 0 && ip < code.length && controlStack.fp >= 0 && (ip != workerEndIP)) {
+        while (ip >= 0 && ip * Instruction.WIDTH < code.length && controlStack.fp >= 0 && (ip != workerEndIP) &&
+                !cancelled) {
 
-            Instruction instruction = code[ip];
-            int opcode = instruction.getOpcode();
-            int[] operands = instruction.getOperands();
+            pc = ip * Instruction.WIDTH;
+            int opcode = code[pc++];
             ip++;
+            dispatchCount++;
             StackFrame sf = controlStack.getCurrentFrame();
 
             switch (opcode) {
                 case InstructionCodes.ICONST:
-                    cpIndex = operands[0];
-                    i = operands[1];
+                    cpIndex = code[pc];
+                    i = code[pc + 1];
                     sf.longRegs[i] = ((IntegerCPEntry) constPool[cpIndex]).getValue();
                     break;
                 case InstructionCodes.FCONST:
-                    cpIndex = operands[0];
-                    i = operands[1];
+                    cpIndex = code[pc];
+                    i = code[pc + 1];
                     sf.doubleRegs[i] = ((FloatCPEntry) constPool[cpIndex]).getValue();
                     break;
                 case InstructionCodes.SCONST:
-                    cpIndex = operands[0];
-                    i = operands[1];
+                    cpIndex = code[pc];
+                    i = code[pc + 1];
                     sf.stringRegs[i] = ((StringCPEntry) constPool[cpIndex]).getValue();
                     break;
+                case InstructionCodes.JSONCONST:
+                    cpIndex = code[pc];
+                    i = code[pc + 1];
+                    sf.refRegs[i] = new BJSON(((JSONCPEntry) constPool[cpIndex]).getValue().deepCopy());
+                    break;
                 case InstructionCodes.ICONST_0:
-                    i = operands[0];
+                    i = code[pc];
                     sf.longRegs[i] = 0;
                     break;
                 case InstructionCodes.ICONST_1:
-                    i = operands[0];
+                    i = code[pc];
                     sf.longRegs[i] = 1;
                     break;
                 case InstructionCodes.ICONST_2:
-                    i = operands[0];
+                    i = code[pc];
                     sf.longRegs[i] = 2;
                     break;
                 case InstructionCodes.ICONST_3:
-                    i = operands[0];
+                    i = code[pc];
                     sf.longRegs[i] = 3;
                     break;
                 case InstructionCodes.ICONST_4:
-                    i = operands[0];
+                    i = code[pc];
                     sf.longRegs[i] = 4;
                     break;
                 case InstructionCodes.ICONST_5:
-                    i = operands[0];
+                    i = code[pc];
                     sf.longRegs[i] = 5;
                     break;
                 case InstructionCodes.FCONST_0:
-                    i = operands[0];
+                    i = code[pc];
                     sf.doubleRegs[i] = 0;
                     break;
                 case InstructionCodes.FCONST_1:
-                    i = operands[0];
+                    i = code[pc];
                     sf.doubleRegs[i] = 1;
                     break;
                 case InstructionCodes.FCONST_2:
-                    i = operands[0];
+                    i = code[pc];
                     sf.doubleRegs[i] = 2;
                     break;
                 case InstructionCodes.FCONST_3:
-                    i = operands[0];
+                    i = code[pc];
                     sf.doubleRegs[i] = 3;
                     break;
                 case InstructionCodes.FCONST_4:
-                    i = operands[0];
+                    i = code[pc];
                     sf.doubleRegs[i] = 4;
                     break;
                 case InstructionCodes.FCONST_5:
-                    i = operands[0];
+                    i = code[pc];
                     sf.doubleRegs[i] = 5;
                     break;
                 case InstructionCodes.BCONST_0:
-                    i = operands[0];
+                    i = code[pc];
                     sf.intRegs[i] = 0;
                     break;
                 case InstructionCodes.BCONST_1:
-                    i = operands[0];
+                    i = code[pc];
                     sf.intRegs[i] = 1;
                     break;
                 case InstructionCodes.RCONST_NULL:
-                    i = operands[0];
+                    i = code[pc];
                     sf.refRegs[i] = null;
                     break;
 
                 case InstructionCodes.ILOAD:
-                    lvIndex = operands[0];
-                    i = operands[1];
+                    lvIndex = code[pc];
+                    i = code[pc + 1];
                     sf.longRegs[i] = sf.longLocalVars[lvIndex];
                     break;
                 case InstructionCodes.FLOAD:
-                    lvIndex = operands[0];
-                    i = operands[1];
+                    lvIndex = code[pc];
+                    i = code[pc + 1];
                     sf.doubleRegs[i] = sf.doubleLocalVars[lvIndex];
                     break;
                 case InstructionCodes.SLOAD:
-                    lvIndex = operands[0];
-                    i = operands[1];
+                    lvIndex = code[pc];
+                    i = code[pc + 1];
                     sf.stringRegs[i] = sf.stringLocalVars[lvIndex];
                     break;
                 case InstructionCodes.BLOAD:
-                    lvIndex = operands[0];
-                    i = operands[1];
+                    lvIndex = code[pc];
+                    i = code[pc + 1];
                     sf.intRegs[i] = sf.intLocalVars[lvIndex];
                     break;
                 case InstructionCodes.LLOAD:
-                    lvIndex = operands[0];
-                    i = operands[1];
+                    lvIndex = code[pc];
+                    i = code[pc + 1];
                     sf.byteRegs[i] = sf.byteLocalVars[lvIndex];
                     break;
                 case InstructionCodes.RLOAD:
-                    lvIndex = operands[0];
-                    i = operands[1];
+                    lvIndex = code[pc];
+                    i = code[pc + 1];
                     sf.refRegs[i] = sf.refLocalVars[lvIndex];
                     break;
                 case InstructionCodes.IALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bIntArray = (BIntArray) sf.refRegs[i];
                     sf.longRegs[k] = bIntArray.get(sf.longRegs[j]);
                     break;
                 case InstructionCodes.FALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bFloatArray = (BFloatArray) sf.refRegs[i];
                     sf.doubleRegs[k] = bFloatArray.get(sf.longRegs[j]);
                     break;
                 case InstructionCodes.SALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bStringArray = (BStringArray) sf.refRegs[i];
                     sf.stringRegs[k] = bStringArray.get(sf.longRegs[j]);
                     break;
                 case InstructionCodes.BALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bBooleanArray = (BBooleanArray) sf.refRegs[i];
                     sf.intRegs[k] = bBooleanArray.get(sf.longRegs[j]);
                     break;
                 case InstructionCodes.LALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bBlobArray = (BBlobArray) sf.refRegs[i];
                     sf.byteRegs[k] = bBlobArray.get(sf.longRegs[j]);
                     break;
                 case InstructionCodes.RALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bArray = (BRefValueArray) sf.refRegs[i];
                     sf.refRegs[k] = bArray.get(sf.longRegs[j]);
                     break;
                 case InstructionCodes.JSONALOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     // TODO Proper error handling
-                    sf.refRegs[k] = JSONUtils.getArrayElement((BJSON) sf.refRegs[i], sf.longRegs[j]);
+                    sf.refRegs[k] = JSONUtils.getArrayElement((BJSON) sf.refRegs[i], sf.longRegs[j], sf.refRegs[k]);
                     break;
                 case InstructionCodes.IGLOAD:
                     // Global variable index
-                    i = operands[0];
+                    i = code[pc];
                     // Stack registry index
-                    j = operands[1];
+                    j = code[pc + 1];
                     sf.longRegs[j] = globalMemBlock.getIntField(i);
                     break;
                 case InstructionCodes.FGLOAD:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.doubleRegs[j] = globalMemBlock.getFloatField(i);
                     break;
                 case InstructionCodes.SGLOAD:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.stringRegs[j] = globalMemBlock.getStringField(i);
                     break;
                 case InstructionCodes.BGLOAD:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.intRegs[j] = globalMemBlock.getBooleanField(i);
                     break;
                 case InstructionCodes.LGLOAD:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.byteRegs[j] = globalMemBlock.getBlobField(i);
                     break;
                 case InstructionCodes.RGLOAD:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = globalMemBlock.getRefField(i);
                     break;
 
                 case InstructionCodes.ISTORE:
-                    i = operands[0];
-                    lvIndex = operands[1];
+                    i = code[pc];
+                    lvIndex = code[pc + 1];
                     sf.longLocalVars[lvIndex] = sf.longRegs[i];
                     break;
                 case InstructionCodes.FSTORE:
-                    i = operands[0];
-                    lvIndex = operands[1];
+                    i = code[pc];
+                    lvIndex = code[pc + 1];
                     sf.doubleLocalVars[lvIndex] = sf.doubleRegs[i];
                     break;
                 case InstructionCodes.SSTORE:
-                    i = operands[0];
-                    lvIndex = operands[1];
+                    i = code[pc];
+                    lvIndex = code[pc + 1];
                     sf.stringLocalVars[lvIndex] = sf.stringRegs[i];
                     break;
                 case InstructionCodes.BSTORE:
-                    i = operands[0];
-                    lvIndex = operands[1];
+                    i = code[pc];
+                    lvIndex = code[pc + 1];
                     sf.intLocalVars[lvIndex] = sf.intRegs[i];
                     break;
                 case InstructionCodes.LSTORE:
-                    i = operands[0];
-                    lvIndex = operands[1];
+                    i = code[pc];
+                    lvIndex = code[pc + 1];
                     sf.byteLocalVars[lvIndex] = sf.byteRegs[i];
                     break;
                 case InstructionCodes.RSTORE:
-                    i = operands[0];
-                    lvIndex = operands[1];
+                    i = code[pc];
+                    lvIndex = code[pc + 1];
                     sf.refLocalVars[lvIndex] = sf.refRegs[i];
                     break;
                 case InstructionCodes.IASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bIntArray = (BIntArray) sf.refRegs[i];
                     bIntArray.add(sf.longRegs[j], sf.longRegs[k]);
                     break;
                 case InstructionCodes.FASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bFloatArray = (BFloatArray) sf.refRegs[i];
                     bFloatArray.add(sf.longRegs[j], sf.doubleRegs[k]);
                     break;
                 case InstructionCodes.SASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bStringArray = (BStringArray) sf.refRegs[i];
                     bStringArray.add(sf.longRegs[j], sf.stringRegs[k]);
                     break;
                 case InstructionCodes.BASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bBooleanArray = (BBooleanArray) sf.refRegs[i];
                     bBooleanArray.add(sf.longRegs[j], sf.intRegs[k]);
                     break;
                 case InstructionCodes.LASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bBlobArray = (BBlobArray) sf.refRegs[i];
                     bBlobArray.add(sf.longRegs[j], sf.byteRegs[k]);
                     break;
                 case InstructionCodes.RASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bArray = (BRefValueArray) sf.refRegs[i];
                     bArray.add(sf.longRegs[j], sf.refRegs[k]);
                     break;
                 case InstructionCodes.JSONASTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     // TODO Proper error handling
                     JSONUtils.setArrayElement((BJSON) sf.refRegs[i], sf.longRegs[j], (BJSON) sf.refRegs[k]);
                     break;
                 case InstructionCodes.IGSTORE:
                     // Stack reg index
-                    i = operands[0];
+                    i = code[pc];
                     // Global var index
-                    j = operands[1];
+                    j = code[pc + 1];
                     globalMemBlock.setIntField(j, sf.longRegs[i]);
                     break;
                 case InstructionCodes.FGSTORE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     globalMemBlock.setFloatField(j, sf.doubleRegs[i]);
                     break;
                 case InstructionCodes.SGSTORE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     globalMemBlock.setStringField(j, sf.stringRegs[i]);
                     break;
                 case InstructionCodes.BGSTORE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     globalMemBlock.setBooleanField(j, sf.intRegs[i]);
                     break;
                 case InstructionCodes.LGSTORE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     globalMemBlock.setBlobField(j, sf.byteRegs[i]);
                     break;
                 case InstructionCodes.RGSTORE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     globalMemBlock.setRefField(j, sf.refRegs[i]);
                     break;
 
                 case InstructionCodes.IFIELDLOAD:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     sf.longRegs[j] = structureType.getIntField(fieldIndex);
                     break;
                 case InstructionCodes.FFIELDLOAD:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     sf.doubleRegs[j] = structureType.getFloatField(fieldIndex);
                     break;
                 case InstructionCodes.SFIELDLOAD:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     sf.stringRegs[j] = structureType.getStringField(fieldIndex);
                     break;
                 case InstructionCodes.BFIELDLOAD:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     sf.intRegs[j] = structureType.getBooleanField(fieldIndex);
                     break;
                 case InstructionCodes.LFIELDLOAD:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     sf.byteRegs[j] = structureType.getBlobField(fieldIndex);
                     break;
                 case InstructionCodes.RFIELDLOAD:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     sf.refRegs[j] = structureType.getRefField(fieldIndex);
                     break;
                 case InstructionCodes.IFIELDSTORE:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     structureType.setIntField(fieldIndex, sf.longRegs[j]);
                     break;
                 case InstructionCodes.FFIELDSTORE:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     structureType.setFloatField(fieldIndex, sf.doubleRegs[j]);
                     break;
                 case InstructionCodes.SFIELDSTORE:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     structureType.setStringField(fieldIndex, sf.stringRegs[j]);
                     break;
                 case InstructionCodes.BFIELDSTORE:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     structureType.setBooleanField(fieldIndex, sf.intRegs[j]);
                     break;
                 case InstructionCodes.LFIELDSTORE:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     structureType.setBlobField(fieldIndex, sf.byteRegs[j]);
                     break;
                 case InstructionCodes.RFIELDSTORE:
-                    i = operands[0];
-                    fieldIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    fieldIndex = code[pc + 1];
+                    j = code[pc + 2];
                     structureType = (StructureType) sf.refRegs[i];
                     structureType.setRefField(fieldIndex, sf.refRegs[j]);
                     break;
 
                 case InstructionCodes.MAPLOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bMap = (BMap<String, BRefType>) sf.refRegs[i];
                     sf.refRegs[k] = bMap.get(sf.stringRegs[j]);
                     break;
                 case InstructionCodes.MAPSTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bMap = (BMap<String, BRefType>) sf.refRegs[i];
                     bMap.put(sf.stringRegs[j], sf.refRegs[k]);
                     break;
 
                 case InstructionCodes.JSONLOAD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     // TODO Proper error handling
-                    sf.refRegs[k] = JSONUtils.getElement((BJSON) sf.refRegs[i], sf.stringRegs[j]);
+                    sf.refRegs[k] = JSONUtils.getElement((BJSON) sf.refRegs[i], sf.stringRegs[j], sf.refRegs[k]);
                     break;
                 case InstructionCodes.JSONSTORE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     // TODO Proper error handling
                     JSONUtils.setElement((BJSON) sf.refRegs[i], sf.stringRegs[j], (BJSON) sf.refRegs[k]);
                     break;
 
                 case InstructionCodes.IADD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.longRegs[k] = sf.longRegs[i] + sf.longRegs[j];
                     break;
                 case InstructionCodes.FADD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.doubleRegs[k] = sf.doubleRegs[i] + sf.doubleRegs[j];
                     break;
                 case InstructionCodes.SADD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.stringRegs[k] = sf.stringRegs[i] + sf.stringRegs[j];
                     break;
                 case InstructionCodes.XMLADD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     // Here it is assumed that a refType addition can only be a xml-concat.
                     sf.refRegs[k] = XMLUtils.concatenate((BXML) sf.refRegs[i], (BXML) sf.refRegs[j]);
                     break;
                 case InstructionCodes.ISUB:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.longRegs[k] = sf.longRegs[i] - sf.longRegs[j];
                     break;
                 case InstructionCodes.FSUB:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.doubleRegs[k] = sf.doubleRegs[i] - sf.doubleRegs[j];
                     break;
                 case InstructionCodes.IMUL:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.longRegs[k] = sf.longRegs[i] * sf.longRegs[j];
                     break;
                 case InstructionCodes.FMUL:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.doubleRegs[k] = sf.doubleRegs[i] * sf.doubleRegs[j];
                     break;
                 case InstructionCodes.IDIV:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     if (sf.longRegs[j] == 0) {
                         context.setError(BLangVMErrors.createError(context, ip, " / by zero"));
@@ -727,9 +779,9 @@ public class BLangVM {
                     sf.longRegs[k] = sf.longRegs[i] / sf.longRegs[j];
                     break;
                 case InstructionCodes.FDIV:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     if (sf.doubleRegs[j] == 0) {
                         context.setError(BLangVMErrors.createError(context, ip, " / by zero"));
@@ -740,9 +792,9 @@ public class BLangVM {
                     sf.doubleRegs[k] = sf.doubleRegs[i] / sf.doubleRegs[j];
                     break;
                 case InstructionCodes.IMOD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     if (sf.longRegs[j] == 0) {
                         context.setError(BLangVMErrors.createError(context, ip, " / by zero"));
@@ -753,9 +805,9 @@ public class BLangVM {
                     sf.longRegs[k] = sf.longRegs[i] % sf.longRegs[j];
                     break;
                 case InstructionCodes.FMOD:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     if (sf.doubleRegs[j] == 0) {
                         context.setError(BLangVMErrors.createError(context, ip, " / by zero"));
@@ -766,175 +818,243 @@ public class BLangVM {
                     sf.doubleRegs[k] = sf.doubleRegs[i] % sf.doubleRegs[j];
                     break;
                 case InstructionCodes.INEG:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.longRegs[j] = -sf.longRegs[i];
                     break;
                 case InstructionCodes.FNEG:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.doubleRegs[j] = -sf.doubleRegs[i];
                     break;
                 case InstructionCodes.BNOT:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.intRegs[j] = sf.intRegs[i] == 0 ? 1 : 0;
                     break;
 
                 case InstructionCodes.IEQ:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.longRegs[i] == sf.longRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.FEQ:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.doubleRegs[i] == sf.doubleRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.SEQ:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.stringRegs[i].equals(sf.stringRegs[j]) ? 1 : 0;
                     break;
                 case InstructionCodes.BEQ:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.intRegs[i] == sf.intRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.REQ:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.refRegs[i] == sf.refRegs[j] ? 1 : 0;
                     break;
 
                 case InstructionCodes.INE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.longRegs[i] != sf.longRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.FNE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.doubleRegs[i] != sf.doubleRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.SNE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = !(sf.stringRegs[i].equals(sf.stringRegs[j])) ? 1 : 0;
                     break;
                 case InstructionCodes.BNE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.intRegs[i] != sf.intRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.RNE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.refRegs[i] != sf.refRegs[j] ? 1 : 0;
                     break;
 
                 case InstructionCodes.IGT:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.longRegs[i] > sf.longRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.FGT:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.doubleRegs[i] > sf.doubleRegs[j] ? 1 : 0;
                     break;
 
                 case InstructionCodes.IGE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.longRegs[i] >= sf.longRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.FGE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.doubleRegs[i] >= sf.doubleRegs[j] ? 1 : 0;
                     break;
 
                 case InstructionCodes.ILT:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.longRegs[i] < sf.longRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.FLT:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.doubleRegs[i] < sf.doubleRegs[j] ? 1 : 0;
                     break;
 
                 case InstructionCodes.ILE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.longRegs[i] <= sf.longRegs[j] ? 1 : 0;
                     break;
                 case InstructionCodes.FLE:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     sf.intRegs[k] = sf.doubleRegs[i] <= sf.doubleRegs[j] ? 1 : 0;
                     break;
 
                 case InstructionCodes.REQ_NULL:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     if (sf.refRegs[i] == null) {
                         ip = j;
                     }
                     break;
                 case InstructionCodes.RNE_NULL:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     if (sf.refRegs[i] != null) {
                         ip = j;
                     }
                     break;
 
                 case InstructionCodes.BR_TRUE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     if (sf.intRegs[i] == 1) {
                         ip = j;
                     }
                     break;
                 case InstructionCodes.BR_FALSE:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     if (sf.intRegs[i] == 0) {
                         ip = j;
                     }
                     break;
 
+                case InstructionCodes.IEQ_BR_FALSE:
+                    i = code[pc];
+                    j = code[pc + 1];
+                    ip = sf.longRegs[i] == sf.longRegs[j] ? ip + 1 : code[pc + Instruction.WIDTH + 1];
+                    break;
+                case InstructionCodes.INE_BR_FALSE:
+                    i = code[pc];
+                    j = code[pc + 1];
+                    ip = sf.longRegs[i] != sf.longRegs[j] ? ip + 1 : code[pc + Instruction.WIDTH + 1];
+                    break;
+                case InstructionCodes.IGT_BR_FALSE:
+                    i = code[pc];
+                    j = code[pc + 1];
+                    ip = sf.longRegs[i] > sf.longRegs[j] ? ip + 1 : code[pc + Instruction.WIDTH + 1];
+                    break;
+                case InstructionCodes.IGE_BR_FALSE:
+                    i = code[pc];
+                    j = code[pc + 1];
+                    ip = sf.longRegs[i] >= sf.longRegs[j] ? ip + 1 : code[pc + Instruction.WIDTH + 1];
+                    break;
+                case InstructionCodes.ILT_BR_FALSE:
+                    i = code[pc];
+                    j = code[pc + 1];
+                    ip = sf.longRegs[i] < sf.longRegs[j] ? ip + 1 : code[pc + Instruction.WIDTH + 1];
+                    break;
+                case InstructionCodes.ILE_BR_FALSE:
+                    i = code[pc];
+                    j = code[pc + 1];
+                    ip = sf.longRegs[i] <= sf.longRegs[j] ? ip + 1 : code[pc + Instruction.WIDTH + 1];
+                    break;
+                case InstructionCodes.IADD_LOCALS:
+                    sf.longLocalVars[code[pc + 3 * Instruction.WIDTH + 1]] = sf.longLocalVars[code[pc]] +
+                            sf.longLocalVars[code[pc + Instruction.WIDTH]];
+                    ip += 3;
+                    break;
+                case InstructionCodes.IADD_LOCAL_CONST:
+                    sf.longLocalVars[code[pc + 3 * Instruction.WIDTH + 1]] = sf.longLocalVars[code[pc]] + code[pc + 2];
+                    ip += 3;
+                    break;
+                case InstructionCodes.IMOVE_LOCAL:
+                    sf.longLocalVars[code[pc + Instruction.WIDTH + 1]] = sf.longLocalVars[code[pc]];
+                    ip++;
+                    break;
+                case InstructionCodes.FMOVE_LOCAL:
+                    sf.doubleLocalVars[code[pc + Instruction.WIDTH + 1]] = sf.doubleLocalVars[code[pc]];
+                    ip++;
+                    break;
+                case InstructionCodes.SMOVE_LOCAL:
+                    sf.stringLocalVars[code[pc + Instruction.WIDTH + 1]] = sf.stringLocalVars[code[pc]];
+                    ip++;
+                    break;
+                case InstructionCodes.BMOVE_LOCAL:
+                    sf.intLocalVars[code[pc + Instruction.WIDTH + 1]] = sf.intLocalVars[code[pc]];
+                    ip++;
+                    break;
+                case InstructionCodes.RMOVE_LOCAL:
+                    sf.refLocalVars[code[pc + Instruction.WIDTH + 1]] = sf.refLocalVars[code[pc]];
+                    ip++;
+                    break;
+                case InstructionCodes.ICONST_FOLDED:
+                    sf.longRegs[code[pc + 1]] = code[pc];
+                    ip += 2;
+                    break;
+                case InstructionCodes.ISTORE_CONST:
+                    sf.longLocalVars[code[pc + 1]] = code[pc];
+                    ip += code[pc + 2];
+                    break;
+
                 case InstructionCodes.GOTO:
-                    i = operands[0];
+                    i = code[pc];
                     ip = i;
                     break;
                 case InstructionCodes.CALL:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     funcRefCPEntry = (FunctionRefCPEntry) constPool[cpIndex];
                     functionInfo = funcRefCPEntry.getFunctionInfo();
 
-                    cpIndex = operands[1];
+                    cpIndex = code[pc + 1];
                     funcCallCPEntry = (FunctionCallCPEntry) constPool[cpIndex];
                     invokeCallableUnit(functionInfo, funcCallCPEntry);
                     break;
@@ -948,7 +1068,7 @@ public class BLangVM {
                 }
                     break;
                 case InstructionCodes.TREND: {
-                    i = operands[0];
+                    i = code[pc];
                     BallerinaTransactionManager ballerinaTransactionManager = context.getBallerinaTransactionManager();
                     if (ballerinaTransactionManager != null) {
                         if (i == 0) {
@@ -965,59 +1085,59 @@ public class BLangVM {
                 }
                     break;
                 case InstructionCodes.WRKINVOKE:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     workerRefCPEntry = (WorkerDataChannelRefCPEntry) constPool[cpIndex];
-                    workerDataChannel = workerRefCPEntry.getWorkerDataChannel();
+                    workerDataChannel = getWorkerDataChannel(workerRefCPEntry.getWorkerDataChannel());
                     BType[] types = workerRefCPEntry.getTypes();
 
-                    cpIndex = operands[1];
+                    cpIndex = code[pc + 1];
                     workerInvokeCPEntry = (WorkerInvokeCPEntry) constPool[cpIndex];
                     invokeWorker(workerDataChannel, workerInvokeCPEntry, types);
                     break;
                 case InstructionCodes.WRKREPLY:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     workerRefCPEntry = (WorkerDataChannelRefCPEntry) constPool[cpIndex];
-                    workerDataChannel = workerRefCPEntry.getWorkerDataChannel();
+                    workerDataChannel = getWorkerDataChannel(workerRefCPEntry.getWorkerDataChannel());
                     types = workerRefCPEntry.getTypes();
 
-                    cpIndex = operands[1];
+                    cpIndex = code[pc + 1];
                     workerReplyCPEntry = (WorkerReplyCPEntry) constPool[cpIndex];
                     replyWorker(workerDataChannel, workerReplyCPEntry, types);
                     break;
                 case InstructionCodes.FORKJOIN:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     forkJoinCPEntry = (ForkJoinCPEntry) constPool[cpIndex];
                     invokeForkJoin(forkJoinCPEntry);
                     break;
                 case InstructionCodes.NCALL:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     funcRefCPEntry = (FunctionRefCPEntry) constPool[cpIndex];
                     functionInfo = funcRefCPEntry.getFunctionInfo();
 
-                    cpIndex = operands[1];
+                    cpIndex = code[pc + 1];
                     funcCallCPEntry = (FunctionCallCPEntry) constPool[cpIndex];
                     invokeNativeFunction(functionInfo, funcCallCPEntry);
                     break;
                 case InstructionCodes.ACALL:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     actionRefCPEntry = (ActionRefCPEntry) constPool[cpIndex];
                     actionInfo = actionRefCPEntry.getActionInfo();
 
-                    cpIndex = operands[1];
+                    cpIndex = code[pc + 1];
                     funcCallCPEntry = (FunctionCallCPEntry) constPool[cpIndex];
                     invokeCallableUnit(actionInfo, funcCallCPEntry);
                     break;
                 case InstructionCodes.NACALL:
-                    cpIndex = operands[0];
+                    cpIndex = code[pc];
                     actionRefCPEntry = (ActionRefCPEntry) constPool[cpIndex];
                     actionInfo = actionRefCPEntry.getActionInfo();
 
-                    cpIndex = operands[1];
+                    cpIndex = code[pc + 1];
                     funcCallCPEntry = (FunctionCallCPEntry) constPool[cpIndex];
                     invokeNativeAction(actionInfo, funcCallCPEntry);
                     break;
                 case InstructionCodes.THROW:
-                    i = operands[0];
+                    i = code[pc];
                     if (i >= 0) {
                         BStruct error = (BStruct) sf.refRegs[i];
                         BLangVMErrors.setStackTrace(context, ip, error);
@@ -1026,65 +1146,65 @@ public class BLangVM {
                     handleError();
                     break;
                 case InstructionCodes.ERRSTORE:
-                    i = operands[0];
+                    i = code[pc];
                     sf.refLocalVars[i] = context.getError();
                     // clear error.
                     context.setError(null);
                     break;
                 case InstructionCodes.I2F:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.doubleRegs[j] = (double) sf.longRegs[i];
                     break;
                 case InstructionCodes.I2S:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.stringRegs[j] = Long.toString(sf.longRegs[i]);
                     break;
                 case InstructionCodes.I2B:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.intRegs[j] = sf.longRegs[i] != 0 ? 1 : 0;
                     break;
                 case InstructionCodes.I2ANY:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = new BInteger(sf.longRegs[i]);
                     break;
                 case InstructionCodes.I2JSON:
-                    i = operands[0];
-                    j = operands[1];
-                    sf.refRegs[j] = new BJSON(Long.toString(sf.longRegs[i]));
+                    i = code[pc];
+                    j = code[pc + 1];
+                    sf.refRegs[j] = new BJSON(JSONUtils.toJSONNode(sf.longRegs[i]));
                     break;
                 case InstructionCodes.F2I:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.longRegs[j] = (long) sf.doubleRegs[i];
                     break;
                 case InstructionCodes.F2S:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.stringRegs[j] = Double.toString(sf.doubleRegs[i]);
                     break;
                 case InstructionCodes.F2B:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.intRegs[j] = sf.doubleRegs[i] != 0.0 ? 1 : 0;
                     break;
                 case InstructionCodes.F2ANY:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = new BFloat(sf.doubleRegs[i]);
                     break;
                 case InstructionCodes.F2JSON:
-                    i = operands[0];
-                    j = operands[1];
-                    sf.refRegs[j] = new BJSON(Double.toString(sf.doubleRegs[i]));
+                    i = code[pc];
+                    j = code[pc + 1];
+                    sf.refRegs[j] = new BJSON(JSONUtils.toJSONNode(sf.doubleRegs[i]));
                     break;
                 case InstructionCodes.S2I:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     try {
                         sf.longRegs[j] = Long.parseLong(sf.stringRegs[i]);
@@ -1094,9 +1214,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.S2F:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     try {
                         sf.doubleRegs[j] = Double.parseDouble(sf.stringRegs[i]);
@@ -1106,9 +1226,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.S2B:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
 
                     try {
                         sf.intRegs[j] = Boolean.parseBoolean(sf.stringRegs[i]) ? 1 : 0;
@@ -1118,63 +1238,62 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.S2ANY:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = new BString(sf.stringRegs[i]);
                     break;
                 case InstructionCodes.S2JSON:
-                    i = operands[0];
-                    j = operands[1];
-                    String jsonStr = StringEscapeUtils.escapeJson(sf.stringRegs[i]);
-                    sf.refRegs[j] = new BJSON("\"" + jsonStr + "\"");
+                    i = code[pc];
+                    j = code[pc + 1];
+                    sf.refRegs[j] = new BJSON(JSONUtils.toJSONNode(sf.stringRegs[i]));
                     break;
                 case InstructionCodes.B2I:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.longRegs[j] = sf.intRegs[i];
                     break;
                 case InstructionCodes.B2F:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.doubleRegs[j] = sf.intRegs[i];
                     break;
                 case InstructionCodes.B2S:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.stringRegs[j] = sf.intRegs[i] == 1 ? "true" : "false";
                     break;
                 case InstructionCodes.B2ANY:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = new BBoolean(sf.intRegs[i] == 1);
                     break;
                 case InstructionCodes.B2JSON:
-                    i = operands[0];
-                    j = operands[1];
-                    sf.refRegs[j] = new BJSON(sf.intRegs[i] == 1 ? "true" : "false");
+                    i = code[pc];
+                    j = code[pc + 1];
+                    sf.refRegs[j] = new BJSON(JSONUtils.toJSONNode(sf.intRegs[i] == 1));
                     break;
                 case InstructionCodes.L2ANY:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = new BBlob(sf.byteRegs[i]);
                     break;
                 case InstructionCodes.JSON2I:
-                    convertJSONToInt(operands, sf);
+                    convertJSONToInt(code[pc], code[pc + 1], sf);
                     break;
                 case InstructionCodes.JSON2F:
-                    convertJSONToFloat(operands, sf);
+                    convertJSONToFloat(code[pc], code[pc + 1], sf);
                     break;
                 case InstructionCodes.JSON2S:
-                    convertJSONToString(operands, sf);
+                    convertJSONToString(code[pc], code[pc + 1], sf);
                     break;
                 case InstructionCodes.JSON2B:
-                    convertJSONToBoolean(operands, sf);
+                    convertJSONToBoolean(code[pc], code[pc + 1], sf);
                     break;
 
                 case InstructionCodes.ANY2I:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeInt) {
@@ -1185,9 +1304,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2F:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeFloat) {
@@ -1198,9 +1317,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2S:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeString) {
@@ -1211,9 +1330,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2B:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeBoolean) {
@@ -1224,9 +1343,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2L:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeBlob) {
@@ -1237,9 +1356,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2JSON:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeJSON) {
@@ -1250,9 +1369,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2T:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() instanceof BStructType) {
@@ -1263,9 +1382,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2MAP:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeMap) {
@@ -1276,9 +1395,9 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.ANY2MSG:
-                    i = operands[0];
-                    j = operands[1];
-                    k = operands[2];
+                    i = code[pc];
+                    j = code[pc + 1];
+                    k = code[pc + 2];
                     bRefType = sf.refRegs[i];
 
                     if (bRefType.getType() == BTypes.typeMessage) {
@@ -1289,14 +1408,14 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.NULL2JSON:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     sf.refRegs[j] = new BJSON("null");
                     break;
                 case InstructionCodes.CHECKCAST:
-                    i = operands[0];
-                    cpIndex = operands[1];
-                    j = operands[2];
+                    i = code[pc];
+                    cpIndex = code[pc + 1];
+                    j = code[pc + 2];
                     typeCPEntry = (TypeCPEntry) constPool[cpIndex];
 
                     // TODO NULL Check  and Array casting
@@ -1309,24 +1428,24 @@ public class BLangVM {
                     }
                     break;
                 case InstructionCodes.DT2XML:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     bRefType = sf.refRegs[i];
                     sf.refRegs[j] = XMLUtils.datatableToXML((BDataTable) bRefType);
                     break;
                 case InstructionCodes.DT2JSON:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     bRefType = sf.refRegs[i];
                     sf.refRegs[j] = JSONUtils.toJSON((BDataTable) bRefType);
                     break;
                 case InstructionCodes.INEWARRAY:
-                    i = operands[0];
-                    sf.refRegs[i] = new BIntArray();
+                    i = code[pc];
+                    sf.refRegs[i] = new BIntArray(code[pc + 2]);
                     break;
                 case InstructionCodes.ARRAYLEN:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     if (sf.refRegs[i] == null) {
                         //TODO improve error message to be more informative
                         throw new BallerinaException("array is null.");
@@ -1335,41 +1454,36 @@ public class BLangVM {
                     sf.longRegs[j] = array.size();
                     break;
                 case InstructionCodes.FNEWARRAY:
-                    i = operands[0];
-                    sf.refRegs[i] = new BFloatArray();
+                    i = code[pc];
+                    sf.refRegs[i] = new BFloatArray(code[pc + 2]);
                     break;
                 case InstructionCodes.SNEWARRAY:
-                    i = operands[0];
-                    sf.refRegs[i] = new BStringArray();
+                    i = code[pc];
+                    sf.refRegs[i] = new BStringArray(code[pc + 2]);
                     break;
                 case InstructionCodes.BNEWARRAY:
-                    i = operands[0];
-                    sf.refRegs[i] = new BBooleanArray();
+                    i = code[pc];
+                    sf.refRegs[i] = new BBooleanArray(code[pc + 2]);
                     break;
                 case InstructionCodes.RNEWARRAY:
-                    i = operands[0];
-                    cpIndex = operands[1];
+                    i = code[pc];
+                    cpIndex = code[pc + 1];
                     typeCPEntry = (TypeCPEntry) constPool[cpIndex];
-                    sf.refRegs[i] = new BRefValueArray(typeCPEntry.getType());
+                    sf.refRegs[i] = new BRefValueArray(typeCPEntry.getType(), code[pc + 2]);
                     break;
                 case InstructionCodes.LNEWARRAY:
-                    i = operands[0];
-                    sf.refRegs[i] = new BBlobArray();
+                    i = code[pc];
+                    sf.refRegs[i] = new BBlobArray(code[pc + 2]);
                     break;
                 case InstructionCodes.JSONNEWARRAY:
-                    i = operands[0];
-                    j = operands[1];
-                    // This is a temporary solution to create n-valued JSON array
-                    StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
-                    for (int index = 0; index < sf.longRegs[j]; index++) {
-                        stringJoiner.add("0");
-                    }
-                    sf.refRegs[i] = new BJSON(stringJoiner.toString());
+                    i = code[pc];
+                    j = code[pc + 1];
+                    sf.refRegs[i] = JSONUtils.createArray(sf.longRegs[j]);
                     break;
 
                 case InstructionCodes.NEWSTRUCT:
-                    cpIndex = operands[0];
-                    i = operands[1];
+                    cpIndex = code[pc];
+                    i = code[pc + 1];
                     structureRefCPEntry = (StructureRefCPEntry) constPool[cpIndex];
                     structureTypeInfo = structureRefCPEntry.getStructureTypeInfo();
                     fieldCount = structureTypeInfo.getFieldCount();
@@ -1379,8 +1493,8 @@ public class BLangVM {
                     sf.refRegs[i] = bStruct;
                     break;
                 case InstructionCodes.NEWCONNECTOR:
-                    cpIndex = operands[0];
-                    i = operands[1];
+                    cpIndex = code[pc];
+                    i = code[pc + 1];
                     structureRefCPEntry = (StructureRefCPEntry) constPool[cpIndex];
                     structureTypeInfo = structureRefCPEntry.getStructureTypeInfo();
                     fieldCount = structureTypeInfo.getFieldCount();
@@ -1390,23 +1504,23 @@ public class BLangVM {
                     sf.refRegs[i] = bConnector;
                     break;
                 case InstructionCodes.NEWMAP:
-                    i = operands[0];
+                    i = code[pc];
                     sf.refRegs[i] = new BMap<String, BRefType>();
                     break;
                 case InstructionCodes.NEWJSON:
-                    i = operands[0];
-                    sf.refRegs[i] = new BJSON("{}");
+                    i = code[pc];
+                    sf.refRegs[i] = JSONUtils.createObject();
                     break;
                 case InstructionCodes.NEWMESSAGE:
-                    i = operands[0];
+                    i = code[pc];
                     sf.refRegs[i] = new BMessage();
                     break;
                 case InstructionCodes.NEWDATATABLE:
-                    i = operands[0];
+                    i = code[pc];
                     sf.refRegs[i] = new BDataTable(null, new ArrayList<>(0));
                     break;
                 case InstructionCodes.REP:
-                    i = operands[0];
+                    i = code[pc];
                     BMessage message = null;
                     if (i >= 0) {
                         message = (BMessage) sf.refRegs[i];
@@ -1419,48 +1533,48 @@ public class BLangVM {
                     ip = -1;
                     break;
                 case InstructionCodes.IRET:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     currentSF = controlStack.getCurrentFrame();
                     callersSF = controlStack.getStack()[controlStack.fp - 1];
                     callersRetRegIndex = currentSF.retRegIndexes[i];
                     callersSF.longRegs[callersRetRegIndex] = currentSF.longRegs[j];
                     break;
                 case InstructionCodes.FRET:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     currentSF = controlStack.getCurrentFrame();
                     callersSF = controlStack.getStack()[controlStack.fp - 1];
                     callersRetRegIndex = currentSF.retRegIndexes[i];
                     callersSF.doubleRegs[callersRetRegIndex] = currentSF.doubleRegs[j];
                     break;
                 case InstructionCodes.SRET:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     currentSF = controlStack.getCurrentFrame();
                     callersSF = controlStack.getStack()[controlStack.fp - 1];
                     callersRetRegIndex = currentSF.retRegIndexes[i];
                     callersSF.stringRegs[callersRetRegIndex] = currentSF.stringRegs[j];
                     break;
                 case InstructionCodes.BRET:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     currentSF = controlStack.getCurrentFrame();
                     callersSF = controlStack.getStack()[controlStack.fp - 1];
                     callersRetRegIndex = currentSF.retRegIndexes[i];
                     callersSF.intRegs[callersRetRegIndex] = currentSF.intRegs[j];
                     break;
                 case InstructionCodes.LRET:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     currentSF = controlStack.getCurrentFrame();
                     callersSF = controlStack.getStack()[controlStack.fp - 1];
                     callersRetRegIndex = currentSF.retRegIndexes[i];
                     callersSF.byteRegs[callersRetRegIndex] = currentSF.byteRegs[j];
                     break;
                 case InstructionCodes.RRET:
-                    i = operands[0];
-                    j = operands[1];
+                    i = code[pc];
+                    j = code[pc + 1];
                     currentSF = controlStack.getCurrentFrame();
                     callersSF = controlStack.getStack()[controlStack.fp - 1];
                     callersRetRegIndex = currentSF.retRegIndexes[i];
@@ -1475,6 +1589,19 @@ public class BLangVM {
         }
     }
 
+    /**
+     * Returns the total number of instructions dispatched by the VM since the last reset.
+     *
+     * @return dispatched instruction count
+     */
+    public static long getDispatchedInstructionCount() {
+        return dispatchedInstructionCount.sum();
+    }
+
+    public static void resetDispatchedInstructionCount() {
+        dispatchedInstructionCount.reset();
+    }
+
     public void invokeCallableUnit(CallableUnitInfo callableUnitInfo, FunctionCallCPEntry funcCallCPEntry) {
         currentCallableUnitInfo = callableUnitInfo;
         int[] argRegs = funcCallCPEntry.getArgRegs();
@@ -1482,20 +1609,29 @@ public class BLangVM {
         StackFrame callerSF = controlStack.getCurrentFrame();
 
         WorkerInfo defaultWorkerInfo = callableUnitInfo.getDefaultWorkerInfo();
-        StackFrame calleeSF = new StackFrame(callableUnitInfo, defaultWorkerInfo, ip, funcCallCPEntry.getRetRegs());
-        controlStack.pushFrame(calleeSF);
+        StackFrame calleeSF = controlStack.pushFrame(callableUnitInfo, defaultWorkerInfo, ip,
+                funcCallCPEntry.getRetRegs());
 
         // Copy arg values from the current StackFrame to the new StackFrame
         copyArgValues(callerSF, calleeSF, argRegs, paramTypes);
 
         // TODO Improve following two lines
         this.constPool = calleeSF.packageInfo.getConstPool();
-        this.code = calleeSF.packageInfo.getInstructions();
+        this.code = calleeSF.packageInfo.getCode();
         ip = defaultWorkerInfo.getCodeAttributeInfo().getCodeAddrs();
 
         // Invoke other workers
-        BLangVMWorkers.invoke(programFile, callableUnitInfo, callerSF, argRegs);
+        calleeSF.setWorkerDataChannels(BLangVMWorkers.invoke(programFile, callableUnitInfo, callerSF, argRegs));
+    }
+
+    private WorkerDataChannel getWorkerDataChannel(WorkerDataChannel channelRef) {
+        if (channelRef == null) {
+            return null;
+        }
 
+        // Frames which are not started as a worker invocation use the channel created by the compiler
+        WorkerDataChannels workerDataChannels = controlStack.getCurrentFrame().getWorkerDataChannels();
+        return workerDataChannels != null ? workerDataChannels.getChannel(channelRef) : channelRef;
     }
 
     public void invokeWorker(WorkerDataChannel workerDataChannel, WorkerInvokeCPEntry workerInvokeCPEntry,
@@ -1509,8 +1645,8 @@ public class BLangVM {
 
         //populateArgumentValuesForWorker(expressions, arguments);
         if (workerDataChannel != null) {
-            workerDataChannel.putData(arguments);
             workerDataChannel.setTypes(types);
+            workerDataChannel.putData(arguments);
         } else {
             BArray<BValue> bArray = new BArray<>(BValue.class);
             for (int j = 0; j < arguments.length; j++) {
@@ -1534,6 +1670,7 @@ public class BLangVM {
 
         Worker[] workers = forkJoinStmt.getWorkers();
         Map<String, BLangVMWorkers.WorkerExecutor> triggeredWorkers = new HashMap<>();
+        WorkerDataChannels workerDataChannels = new WorkerDataChannels();
         for (Worker worker : workers) {
             Context workerContext = new Context();
             WorkerCallback workerCallback = new WorkerCallback(workerContext);
@@ -1545,6 +1682,7 @@ public class BLangVM {
             ControlStackNew controlStack = workerContext.getControlStackNew();
             StackFrame calleeSF = new StackFrame(currentCallableUnitInfo,
                     forkJoinCPEntry.getWorkerInfo(worker.getName()), -1, new int[1]);
+            calleeSF.setWorkerDataChannels(workerDataChannels);
             controlStack.pushFrame(calleeSF);
 
             BLangVM.copyValuesForForkJoin(callerSF, calleeSF, argRegs);
@@ -1557,7 +1695,7 @@ public class BLangVM {
             BLangVM bLangVM = new BLangVM(programFile);
             //ExecutorService executor = ThreadPoolFactory.getInstance().getWorkerExecutor();
             BLangVMWorkers.WorkerExecutor workerRunner = new BLangVMWorkers.WorkerExecutor(bLangVM,
-                    workerContext, forkJoinCPEntry.getWorkerInfo(worker.getName()));
+                    workerContext, forkJoinCPEntry.getWorkerInfo(worker.getName()), workerDataChannels);
             workerRunnerList.add(workerRunner);
             triggeredWorkers.put(worker.getName(), workerRunner);
         }
@@ -1566,15 +1704,13 @@ public class BLangVM {
             String[] joinWorkerNames = forkJoinStmt.getJoin().getJoinWorkers();
             if (joinWorkerNames.length == 0) {
                 // If there are no workers specified, wait for any of all the workers
-                resultMsgs.add(invokeAnyWorker(workerRunnerList, timeout));
-                //resultMsgs.add(res);
+                addWorkerResult(resultMsgs, invokeAnyWorker(workerRunnerList, timeout));
             } else {
                 List<BLangVMWorkers.WorkerExecutor> workerRunnersSpecified = new ArrayList<>();
                 for (String workerName : joinWorkerNames) {
                     workerRunnersSpecified.add(triggeredWorkers.get(workerName));
                 }
-                resultMsgs.add(invokeAnyWorker(workerRunnersSpecified, timeout));
-                //resultMsgs.add(res);
+                addWorkerResult(resultMsgs, invokeAnyWorker(workerRunnersSpecified, timeout));
             }
         } else {
             String[] joinWorkerNames = forkJoinStmt.getJoin().getJoinWorkers();
@@ -1644,48 +1780,147 @@ public class BLangVM {
 //        }
     }
 
+    private static void addWorkerResult(List<WorkerResult> resultMsgs, WorkerResult workerResult) {
+        if (workerResult != null) {
+            resultMsgs.add(workerResult);
+        }
+    }
+
     private WorkerResult invokeAnyWorker(List<BLangVMWorkers.WorkerExecutor> workerRunnerList, long timeout) {
-        ExecutorService anyExecutor = Executors.newWorkStealingPool();
-        WorkerResult result;
+        ExecutorCompletionService<WorkerResult> completionService =
+                new ExecutorCompletionService<>(ThreadPoolFactory.getInstance().getForkJoinExecutor());
+        List<Future<WorkerResult>> futures = new ArrayList<>(workerRunnerList.size());
+        for (BLangVMWorkers.WorkerExecutor workerRunner : workerRunnerList) {
+            futures.add(completionService.submit(forkBranch(workerRunner)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
         try {
-            result = anyExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException e) {
+            for (int i = 0; i < futures.size(); i++) {
+                Future<WorkerResult> future = completionService.poll(deadline - System.nanoTime(),
+                        TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    isForkJoinTimedOut = true;
+                    return null;
+                }
+
+                try {
+                    return future.get();
+                } catch (ExecutionException e) {
+                    // The worker has failed, hence wait for the next one
+                }
+            }
             return null;
-        } catch (TimeoutException e) {
-            isForkJoinTimedOut = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
+        } finally {
+            cancelForkBranches(workerRunnerList, futures);
         }
-        return result;
     }
 
     private List<WorkerResult> invokeAllWorkers(List<BLangVMWorkers.WorkerExecutor> workerRunnerList,
                                                          long timeout) {
-        ExecutorService allExecutor = Executors.newWorkStealingPool();
+        ExecutorService forkJoinExecutor = ThreadPoolFactory.getInstance().getForkJoinExecutor();
+        List<Future<WorkerResult>> futures = new ArrayList<>(workerRunnerList.size());
+        for (BLangVMWorkers.WorkerExecutor workerRunner : workerRunnerList) {
+            futures.add(forkJoinExecutor.submit(forkBranch(workerRunner)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
         List<WorkerResult> result = new ArrayList<>();
         try {
-            allExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
+            for (Future<WorkerResult> future : futures) {
                 try {
-                    return bMessageFuture.get();
-                } catch (CancellationException e) {
-                    // This means task has been timedout and cancelled by system.
+                    if (!isForkJoinTimedOut) {
+                        result.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+                    } else if (future.isDone()) {
+                        // Collect the results of the workers which completed before the timeout
+                        result.add(future.get());
+                    }
+                } catch (TimeoutException e) {
                     isForkJoinTimedOut = true;
-                    return null;
-                } catch (Exception e) {
-                    return null;
+                } catch (ExecutionException e) {
+                    // The worker has failed, hence there is no result to join
                 }
-
-            }).forEach((WorkerResult b) -> {
-                result.add(b);
-            });
+            }
         } catch (InterruptedException e) {
-            return result;
+            Thread.currentThread().interrupt();
+        } finally {
+            cancelForkBranches(workerRunnerList, futures);
         }
         return result;
     }
 
+    private static Callable<WorkerResult> forkBranch(BLangVMWorkers.WorkerExecutor workerRunner) {
+        return () -> {
+            activeForkBranchCount.increment();
+            try {
+                return workerRunner.call();
+            } finally {
+                activeForkBranchCount.decrement();
+            }
+        };
+    }
+
+    private static void cancelForkBranches(List<BLangVMWorkers.WorkerExecutor> workerRunnerList,
+                                           List<Future<WorkerResult>> futures) {
+        for (int i = 0; i < futures.size(); i++) {
+            Future<WorkerResult> future = futures.get(i);
+            if (!future.isDone()) {
+                // A running branch stops at its next instruction. A queued one is never started
+                workerRunnerList.get(i).cancel();
+                future.cancel(false);
+                cancelledForkBranchCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Stops the execution of this VM before the next instruction. Used to cancel fork/join branches which are no
+     * longer awaited.
+     */
+    public void cancel() {
+        cancelled = true;
+        WorkerDataChannel channel = waitingChannel;
+        if (channel != null) {
+            channel.wakeUpReceiver();
+        }
+    }
+
+    /**
+     * Takes the data sent to the given channel. Stops waiting if this VM is cancelled before the data arrives.
+     *
+     * @param workerDataChannel channel to take the data from
+     * @return the data sent to the channel, or null if this VM is cancelled or no data arrived in time
+     */
+    public BValue[] takeWorkerData(WorkerDataChannel workerDataChannel) {
+        waitingChannel = workerDataChannel;
+        try {
+            return (BValue[]) workerDataChannel.takeData(this::isCancelled);
+        } finally {
+            waitingChannel = null;
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public static long getActiveForkBranchCount() {
+        return activeForkBranchCount.sum();
+    }
+
+    public static long getCancelledForkBranchCount() {
+        return cancelledForkBranchCount.sum();
+    }
+
     public void replyWorker(WorkerDataChannel workerDataChannel, WorkerReplyCPEntry workerReplyCPEntry, BType[] types) {
 
-        BValue[] passedInValues = (BValue[]) workerDataChannel.takeData();
+        BValue[] passedInValues = takeWorkerData(workerDataChannel);
+        if (passedInValues == null && cancelled) {
+            return;
+        }
         StackFrame currentFrame = controlStack.getCurrentFrame();
         //currentFrame.returnValues = passedInValues;
         copyArgValuesForWorkerReply(currentFrame, workerReplyCPEntry.getArgRegs(),
@@ -1847,7 +2082,7 @@ public class BLangVM {
             StackFrame callersSF = controlStack.currentFrame;
             // TODO Improve
             this.constPool = callersSF.packageInfo.getConstPool();
-            this.code = callersSF.packageInfo.getInstructions();
+            this.code = callersSF.packageInfo.getCode();
         }
         ip = currentSF.retAddrs;
     }
@@ -1872,6 +2107,13 @@ public class BLangVM {
 
     private void invokeNativeFunction(FunctionInfo functionInfo, FunctionCallCPEntry funcCallCPEntry) {
         StackFrame callerSF = controlStack.currentFrame;
+        AbstractNativeFunction nativeFunction = functionInfo.getNativeFunction();
+        if (nativeFunction instanceof DirectNativeFunction) {
+            invokeDirectNativeFunction(functionInfo, (DirectNativeFunction) nativeFunction, callerSF,
+                    funcCallCPEntry);
+            return;
+        }
+
         BValue[] nativeArgValues = populateNativeArgs(callerSF, funcCallCPEntry.getArgRegs(),
                 functionInfo.getParamTypes());
 
@@ -1884,7 +2126,6 @@ public class BLangVM {
         controlStack.pushFrame(caleeSF);
 
         // Invoke Native function;
-        AbstractNativeFunction nativeFunction = functionInfo.getNativeFunction();
         try {
             nativeFunction.executeNative(context);
         } catch (Throwable e) {
@@ -1901,6 +2142,20 @@ public class BLangVM {
         prepareStructureTypeFromNativeAction(nativeArgValues);
     }
 
+    private void invokeDirectNativeFunction(FunctionInfo functionInfo, DirectNativeFunction nativeFunction,
+                                            StackFrame callerSF, FunctionCallCPEntry funcCallCPEntry) {
+        nativeCallFrame.reset(context, callerSF, funcCallCPEntry.getArgRegs(), funcCallCPEntry.getRetRegs());
+        try {
+            nativeFunction.executeDirect(nativeCallFrame);
+        } catch (Throwable e) {
+            // The native function frame is only needed for the stack trace of the error
+            controlStack.pushFrame(new StackFrame(functionInfo, null, null));
+            context.setError(BLangVMErrors.createError(this.context, ip, e.getMessage()));
+            controlStack.popFrame();
+            handleError();
+        }
+    }
+
     private void invokeNativeAction(ActionInfo actionInfo, FunctionCallCPEntry funcCallCPEntry) {
         StackFrame callerSF = controlStack.currentFrame;
 
@@ -1917,7 +2172,7 @@ public class BLangVM {
 
         AbstractNativeAction nativeAction = actionInfo.getNativeAction();
         try {
-            if (!context.initFunction && !context.isInTransaction() && nativeAction.isNonBlockingAction()) {
+            if (!context.initFunction && !context.isInTransaction() && nativeAction.isNonBlockingAction(context)) {
                 // Enable non-blocking.
                 context.setStartIP(ip);
                 // TODO : Temporary solution to make non-blocking working.
@@ -1929,7 +2184,9 @@ public class BLangVM {
                 context.actionInfo = actionInfo;
                 BalConnectorCallback connectorCallback = new BalConnectorCallback(context);
                 connectorCallback.setNativeAction(nativeAction);
+                connectorCallback.setVM(this);
                 nativeAction.execute(context, connectorCallback);
+                suspendedCallback = connectorCallback;
                 ip = -1;
                 return;
                 // release thread.
@@ -2152,11 +2409,7 @@ public class BLangVM {
     }
 
     // TODO Refactor these methods and move them to a proper util class
-    private static void convertJSONToInt(int[] operands, StackFrame sf) {
-        int i = operands[0];
-        int j = operands[1];
-        int k = operands[2];
-
+    private static void convertJSONToInt(int i, int j, StackFrame sf) {
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         // TODO  Check for NULL
 //        if (bjson == null) {
@@ -2185,11 +2438,7 @@ public class BLangVM {
                 BTypes.typeInt, JSONUtils.getTypeName(jsonNode));
     }
 
-    private static void convertJSONToFloat(int[] operands, StackFrame sf) {
-        int i = operands[0];
-        int j = operands[1];
-        int k = operands[2];
-
+    private static void convertJSONToFloat(int i, int j, StackFrame sf) {
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         // TODO  Check for NULL
 //        if (bjson == null) {
@@ -2219,11 +2468,7 @@ public class BLangVM {
                 BTypes.typeFloat, JSONUtils.getTypeName(jsonNode));
     }
 
-    private static void convertJSONToString(int[] operands, StackFrame sf) {
-        int i = operands[0];
-        int j = operands[1];
-        int k = operands[2];
-
+    private static void convertJSONToString(int i, int j, StackFrame sf) {
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         // TODO  Check for NULL
 //        if (bjson == null) {
@@ -2244,11 +2489,7 @@ public class BLangVM {
         }
     }
 
-    private static void convertJSONToBoolean(int[] operands, StackFrame sf) {
-        int i = operands[0];
-        int j = operands[1];
-        int k = operands[2];
-
+    private static void convertJSONToBoolean(int i, int j, StackFrame sf) {
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         // TODO  Check for NULL
 //        if (bjson == null) {
@@ -2320,7 +2561,7 @@ public class BLangVM {
         if (match != null) {
             PackageInfo packageInfo = currentFrame.packageInfo;
             this.constPool = packageInfo.getConstPool();
-            this.code = packageInfo.getInstructions();
+            this.code = packageInfo.getCode();
             ip = match.getIpTarget();
             return;
         }
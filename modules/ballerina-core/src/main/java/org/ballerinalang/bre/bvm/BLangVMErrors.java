@@ -105,9 +105,7 @@ public class BLangVMErrors {
                     "bvm internal error! incompatible error strut type " + error.getType().getSig().getPkgPath() + ":" +
                             error.getType().getSig().getName());
         }
-        StructInfo stackTrace = errorPackageInfo.getStructInfo(STRUCT_STACKTRACE);
-        BStruct bStackTrace = createBStruct(stackTrace, generateStackTraceItems(context, ip - 1));
-        error.setStackTrace(bStackTrace);
+        setStackTrace(context, ip, error);
         return error;
     }
 
@@ -128,16 +126,15 @@ public class BLangVMErrors {
             structInfo = errorStructInfo;
         }
         BStruct error = createBStruct(structInfo, values);
-        // Set StackTrace.
-        StructInfo stackTrace = errorPackageInfo.getStructInfo(STRUCT_STACKTRACE);
-        BStruct bStackTrace = createBStruct(stackTrace, generateStackTraceItems(context, ip - 1));
-        error.setStackTrace(bStackTrace);
+        setStackTrace(context, ip, error);
         return error;
     }
 
 
     /**
-     * Set StackTrace for given Error Struct.
+     * Set StackTrace for given Error Struct. Only the callable units and instruction pointers of the current frames
+     * are captured here. The StackTrace struct is created when it is first read, as errors are often caught without
+     * reading it.
      *
      * @param context     current Context
      * @param ip          current instruction pointer
@@ -152,8 +149,9 @@ public class BLangVMErrors {
             error = createBStruct(structInfo);
         }
         StructInfo stackTrace = errorPackageInfo.getStructInfo(STRUCT_STACKTRACE);
-        BStruct bStackTrace = createBStruct(stackTrace, generateStackTraceItems(context, ip - 1));
-        error.setStackTrace(bStackTrace);
+        StackTraceFrames frames = new StackTraceFrames(context, ip - 1);
+        StructInfo stackTraceItem = errorPackageInfo.getStructInfo(STRUCT_STACKTRACE_ITEM);
+        error.setStackTrace(() -> createBStruct(stackTrace, frames.createStackTraceItems(stackTraceItem)));
     }
 
     /**
@@ -164,43 +162,9 @@ public class BLangVMErrors {
      * @return generated StackTraceItem struct array
      */
     public static BRefValueArray generateStackTraceItems(Context context, int ip) {
-        BRefValueArray stackTraceItems = new BRefValueArray();
         PackageInfo errorPackageInfo = context.getProgramFile().getPackageInfo(ERROR_PCK);
         StructInfo stackTraceItem = errorPackageInfo.getStructInfo(STRUCT_STACKTRACE_ITEM);
-        ControlStackNew controlStack = context.getControlStackNew();
-        int currentIP = ip;
-        Object[] values;
-        // Ignore caller stack frame.
-        int stackTraceLocation = 0;
-        for (int i = 0; i <= controlStack.fp; i++) {
-            values = new Object[4];
-            StackFrame stackFrame = controlStack.getStack()[i];
-            CallableUnitInfo callableUnitInfo = stackFrame.callableUnitInfo;
-            if (callableUnitInfo == null) {
-                continue;
-            }
-            String parentScope = "";
-            if (callableUnitInfo instanceof ResourceInfo) {
-                parentScope = ((ResourceInfo) callableUnitInfo).getServiceInfo().getName() + ".";
-            } else if (callableUnitInfo instanceof ActionInfo) {
-                parentScope = ((ActionInfo) callableUnitInfo).getConnectorInfo().getName() + ".";
-            }
-            values[0] = parentScope + callableUnitInfo.getName();
-            values[1] = callableUnitInfo.getPkgPath();
-            LineNumberInfo lineNumberInfo = callableUnitInfo.getPackageInfo().getLineNumberInfo(currentIP);
-            if (lineNumberInfo != null) {
-                values[2] = lineNumberInfo.getFileName();
-                values[3] = lineNumberInfo.getLineNumber();
-            } else {
-                values[2] = "<native>";
-                values[3] = 0;
-            }
-            stackTraceItems.add(stackTraceLocation, createBStruct(stackTraceItem, values));
-            // Always get the previous instruction pointer.
-            currentIP = stackFrame.retAddrs - 1;
-            stackTraceLocation++;
-        }
-        return stackTraceItems;
+        return new StackTraceFrames(context, ip).createStackTraceItems(stackTraceItem);
     }
 
     /**
@@ -309,5 +273,61 @@ public class BLangVMErrors {
         c[0] = Character.toLowerCase(c[0]);
         return new String(c);
     }
-}
 
+    /**
+     * Callable units and instruction pointers of the frames in the control stack, captured when an error is
+     * created.
+     */
+    private static class StackTraceFrames {
+
+        private final CallableUnitInfo[] callableUnits;
+        private final int[] ips;
+        private int count;
+
+        StackTraceFrames(Context context, int ip) {
+            ControlStackNew controlStack = context.getControlStackNew();
+            callableUnits = new CallableUnitInfo[controlStack.fp + 1];
+            ips = new int[controlStack.fp + 1];
+            int currentIP = ip;
+            for (int i = 0; i <= controlStack.fp; i++) {
+                StackFrame stackFrame = controlStack.getStack()[i];
+                CallableUnitInfo callableUnitInfo = stackFrame.callableUnitInfo;
+                if (callableUnitInfo == null) {
+                    continue;
+                }
+                callableUnits[count] = callableUnitInfo;
+                ips[count] = currentIP;
+                // Always get the previous instruction pointer.
+                currentIP = stackFrame.retAddrs - 1;
+                count++;
+            }
+        }
+
+        BRefValueArray createStackTraceItems(StructInfo stackTraceItem) {
+            BRefValueArray stackTraceItems = new BRefValueArray();
+            Object[] values;
+            for (int i = 0; i < count; i++) {
+                values = new Object[4];
+                CallableUnitInfo callableUnitInfo = callableUnits[i];
+                String parentScope = "";
+                if (callableUnitInfo instanceof ResourceInfo) {
+                    parentScope = ((ResourceInfo) callableUnitInfo).getServiceInfo().getName() + ".";
+                } else if (callableUnitInfo instanceof ActionInfo) {
+                    parentScope = ((ActionInfo) callableUnitInfo).getConnectorInfo().getName() + ".";
+                }
+                values[0] = parentScope + callableUnitInfo.getName();
+                values[1] = callableUnitInfo.getPkgPath();
+                LineNumberInfo lineNumberInfo = callableUnitInfo.getPackageInfo().getLineNumberInfo(ips[i]);
+                if (lineNumberInfo != null) {
+                    values[2] = lineNumberInfo.getFileName();
+                    values[3] = lineNumberInfo.getLineNumber();
+                } else {
+                    values[2] = "<native>";
+                    values[3] = 0;
+                }
+                stackTraceItems.add(i, createBStruct(stackTraceItem, values));
+            }
+            return stackTraceItems;
+        }
+    }
+}
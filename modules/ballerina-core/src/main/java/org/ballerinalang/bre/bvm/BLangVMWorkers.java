@@ -31,6 +31,8 @@ import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.runtime.worker.WorkerCallback;
+import org.ballerinalang.runtime.worker.WorkerDataChannel;
+import org.ballerinalang.runtime.worker.WorkerDataChannels;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.ProgramFile;
@@ -49,9 +51,24 @@ import java.util.concurrent.ExecutorService;
  */
 public class BLangVMWorkers {
 
-    public static void invoke(ProgramFile programFile, CallableUnitInfo callableUnitInfo,
-                              StackFrame callerSF, int[] argRegs) {
+    /**
+     * Starts the workers of a callable unit invocation.
+     *
+     * @param programFile      program being executed
+     * @param callableUnitInfo callable unit being invoked
+     * @param callerSF         frame holding the argument values
+     * @param argRegs          registers of the argument values
+     * @return data channels of this invocation, to be set on the frame of the default worker, or null if the
+     * callable unit has no workers
+     */
+    public static WorkerDataChannels invoke(ProgramFile programFile, CallableUnitInfo callableUnitInfo,
+                                            StackFrame callerSF, int[] argRegs) {
+        if (callableUnitInfo.getWorkerInfoMap().isEmpty()) {
+            return null;
+        }
+
         BType[] paramTypes = callableUnitInfo.getParamTypes();
+        WorkerDataChannels workerDataChannels = new WorkerDataChannels();
 
         for (WorkerInfo workerInfo : callableUnitInfo.getWorkerInfoMap().values()) {
             Context workerContext = new Context();
@@ -61,6 +78,7 @@ public class BLangVMWorkers {
 
             ControlStackNew controlStack = workerContext.getControlStackNew();
             StackFrame calleeSF = new StackFrame(callableUnitInfo, workerInfo, -1, new int[0]);
+            calleeSF.setWorkerDataChannels(workerDataChannels);
             controlStack.pushFrame(calleeSF);
 
             // Copy arg values from the current StackFrame to the new StackFrame
@@ -69,10 +87,11 @@ public class BLangVMWorkers {
 
             BLangVM bLangVM = new BLangVM(programFile);
             ExecutorService executor = ThreadPoolFactory.getInstance().getWorkerExecutor();
-            WorkerExecutor workerRunner = new WorkerExecutor(bLangVM, workerContext, workerInfo);
+            WorkerExecutor workerRunner = new WorkerExecutor(bLangVM, workerContext, workerInfo,
+                    workerDataChannels);
             executor.submit(workerRunner);
         }
-
+        return workerDataChannels;
     }
 
     static class WorkerExecutor implements Callable<WorkerResult> {
@@ -83,11 +102,14 @@ public class BLangVMWorkers {
         private BLangVM bLangVM;
         private Context bContext;
         private WorkerInfo workerInfo;
+        private WorkerDataChannels workerDataChannels;
 
-        public WorkerExecutor(BLangVM bLangVM, Context bContext, WorkerInfo workerInfo) {
+        public WorkerExecutor(BLangVM bLangVM, Context bContext, WorkerInfo workerInfo,
+                              WorkerDataChannels workerDataChannels) {
             this.bLangVM = bLangVM;
             this.bContext = bContext;
             this.workerInfo = workerInfo;
+            this.workerDataChannels = workerDataChannels;
         }
 
 
@@ -95,15 +117,25 @@ public class BLangVMWorkers {
             return workerInfo;
         }
 
+        public void cancel() {
+            bLangVM.cancel();
+        }
+
         @Override
         public WorkerResult call() throws BallerinaException {
             BRefValueArray bRefValueArray = new BRefValueArray(new BArrayType(BTypes.typeAny));
             try {
                 bLangVM.execWorker(bContext,
                         workerInfo.getCodeAttributeInfo().getCodeAddrs(), workerInfo.getWorkerEndIP());
-                if (workerInfo.getWorkerDataChannelForForkJoin() != null) {
-                    BValue[] results = (BValue[]) workerInfo.getWorkerDataChannelForForkJoin().takeData();
-                    BType[] types = workerInfo.getWorkerDataChannelForForkJoin().getTypes();
+                if (!bLangVM.isCancelled() && workerInfo.getWorkerDataChannelForForkJoin() != null) {
+                    WorkerDataChannel workerDataChannel =
+                            workerDataChannels.getChannel(workerInfo.getWorkerDataChannelForForkJoin());
+                    BValue[] results = bLangVM.takeWorkerData(workerDataChannel);
+                    if (results == null && bLangVM.isCancelled()) {
+                        // The branch has been cancelled while waiting for its reply
+                        return null;
+                    }
+                    BType[] types = workerDataChannel.getTypes();
                     for (int i = 0; i < types.length; i++) {
                         BType paramType = types[i];
                         switch (paramType.getTag()) {
@@ -17,6 +17,11 @@
 */
 package org.ballerinalang.bre.bvm;
 
+import org.ballerinalang.util.codegen.CallableUnitInfo;
+import org.ballerinalang.util.codegen.WorkerInfo;
+
+import java.util.Arrays;
+
 /**
  * {@code ControlStack} represents function call stack.
  *
@@ -24,9 +29,14 @@ package org.ballerinalang.bre.bvm;
  */
 public class ControlStackNew {
     public static final int DEFAULT_CONTROL_STACK_SIZE = 2000;
+    private static final int DEFAULT_FRAME_POOL_SIZE = 16;
 
     private StackFrame[] stackFrames;
 
+    // Frames created by this stack, indexed by the depth at which they were pushed. A popped frame stays here
+    // and is reused by the next invocation at the same depth.
+    private StackFrame[] framePool;
+
     // Stack frame pointer;
     public int fp = -1;
 
@@ -34,6 +44,33 @@ public class ControlStackNew {
 
     public ControlStackNew() {
         stackFrames = new StackFrame[DEFAULT_CONTROL_STACK_SIZE];
+        framePool = new StackFrame[DEFAULT_FRAME_POOL_SIZE];
+    }
+
+    /**
+     * Pushes a frame for the given worker, reusing the frame previously pushed at the same depth if there is one.
+     *
+     * @param callableUnitInfo callable unit being invoked
+     * @param workerInfo       worker being invoked
+     * @param retAddrs         return address of the caller
+     * @param retRegIndexes    caller's register indexes to which the return values should be copied
+     * @return the pushed frame
+     */
+    public StackFrame pushFrame(CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo,
+                                int retAddrs, int[] retRegIndexes) {
+        int depth = fp + 1;
+        if (depth >= framePool.length) {
+            framePool = Arrays.copyOf(framePool, framePool.length * 2);
+        }
+
+        StackFrame frame = framePool[depth];
+        if (frame == null) {
+            frame = new StackFrame(callableUnitInfo, workerInfo, retAddrs, retRegIndexes);
+            framePool[depth] = frame;
+        } else {
+            frame.reset(callableUnitInfo, workerInfo, retAddrs, retRegIndexes);
+        }
+        return pushFrame(frame);
     }
 
     public StackFrame pushFrame(StackFrame frame) {
@@ -0,0 +1,105 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+/**
+ * {@code NativeCallFrame} gives a {@link org.ballerinalang.natives.DirectNativeFunction} access to the registers of
+ * its caller.
+ * <p>
+ * Arguments are read from, and return values are written to, the registers of the calling stack frame, so a call
+ * does not allocate argument values, return values or a stack frame. Since an argument and a return value may share
+ * a register, a native function must read all its arguments before writing any return value.
+ * <p>
+ * A single instance is reused for all the native function calls made by a {@link BLangVM}.
+ *
+ * @since 0.88
+ */
+public class NativeCallFrame {
+
+    private Context context;
+    private StackFrame callerSF;
+    private int[] argRegs;
+    private int[] retRegs;
+
+    void reset(Context context, StackFrame callerSF, int[] argRegs, int[] retRegs) {
+        this.context = context;
+        this.callerSF = callerSF;
+        this.argRegs = argRegs;
+        this.retRegs = retRegs;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    public long getInt(int index) {
+        return callerSF.longRegs[argRegs[index]];
+    }
+
+    public double getFloat(int index) {
+        return callerSF.doubleRegs[argRegs[index]];
+    }
+
+    public String getString(int index) {
+        return callerSF.stringRegs[argRegs[index]];
+    }
+
+    public boolean getBoolean(int index) {
+        return callerSF.intRegs[argRegs[index]] == 1;
+    }
+
+    public byte[] getBlob(int index) {
+        return callerSF.byteRegs[argRegs[index]];
+    }
+
+    public BRefType getRef(int index) {
+        BRefType value = callerSF.refRegs[argRegs[index]];
+        if (value == null) {
+            throw new BallerinaException("argument " + index + " is null");
+        }
+        return value;
+    }
+
+    public void setInt(int index, long value) {
+        callerSF.longRegs[retRegs[index]] = value;
+    }
+
+    public void setFloat(int index, double value) {
+        callerSF.doubleRegs[retRegs[index]] = value;
+    }
+
+    public void setString(int index, String value) {
+        callerSF.stringRegs[retRegs[index]] = value;
+    }
+
+    public void setBoolean(int index, boolean value) {
+        callerSF.intRegs[retRegs[index]] = value ? 1 : 0;
+    }
+
+    public void setBlob(int index, byte[] value) {
+        callerSF.byteRegs[retRegs[index]] = value;
+    }
+
+    public void setRef(int index, BRefType value) {
+        callerSF.refRegs[retRegs[index]] = value;
+    }
+}
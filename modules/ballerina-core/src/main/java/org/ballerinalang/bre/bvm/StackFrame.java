@@ -19,6 +19,7 @@ package org.ballerinalang.bre.bvm;
 
 import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.runtime.worker.WorkerDataChannels;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.CodeAttributeInfo;
 import org.ballerinalang.util.codegen.PackageInfo;
@@ -55,6 +56,9 @@ public class StackFrame {
     PackageInfo packageInfo;
     WorkerInfo workerInfo;
 
+    // Data channels of the workers of this invocation, if the callable unit has workers
+    WorkerDataChannels workerDataChannels;
+
     // To Support old native function and action invocation
     // TODO Refactor this when native function and action invocations are improved.
     public BValue[] argValues;
@@ -94,6 +98,102 @@ public class StackFrame {
         this.retRegIndexes = retRegIndexes;
     }
 
+    /**
+     * Re-initializes this frame for a new invocation of the given worker. Existing local variable and register
+     * files are reused as long as they are large enough, so that a call does not allocate in the common case.
+     *
+     * @param callableUnitInfo callable unit being invoked
+     * @param workerInfo       worker being invoked
+     * @param retAddrs         return address of the caller
+     * @param retRegIndexes    caller's register indexes to which the return values should be copied
+     */
+    void reset(CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo, int retAddrs, int[] retRegIndexes) {
+        this.callableUnitInfo = callableUnitInfo;
+        this.packageInfo = callableUnitInfo.getPackageInfo();
+        this.workerInfo = workerInfo;
+        this.retAddrs = retAddrs;
+        this.retRegIndexes = retRegIndexes;
+        this.argValues = null;
+        this.returnValues = null;
+        this.workerDataChannels = null;
+
+        CodeAttributeInfo codeAttribInfo = workerInfo.getCodeAttributeInfo();
+
+        // Local variables are cleared back to their zero values
+        int size = codeAttribInfo.getMaxLongLocalVars();
+        if (longLocalVars.length < size) {
+            longLocalVars = new long[size];
+        } else {
+            Arrays.fill(longLocalVars, 0, size, 0);
+        }
+
+        size = codeAttribInfo.getMaxDoubleLocalVars();
+        if (doubleLocalVars.length < size) {
+            doubleLocalVars = new double[size];
+        } else {
+            Arrays.fill(doubleLocalVars, 0, size, 0);
+        }
+
+        size = codeAttribInfo.getMaxStringLocalVars();
+        if (stringLocalVars.length < size) {
+            stringLocalVars = new String[size];
+        }
+        Arrays.fill(stringLocalVars, 0, size, "");
+
+        size = codeAttribInfo.getMaxIntLocalVars();
+        if (intLocalVars.length < size) {
+            intLocalVars = new int[size];
+        } else {
+            Arrays.fill(intLocalVars, 0, size, 0);
+        }
+
+        size = codeAttribInfo.getMaxByteLocalVars();
+        if (byteLocalVars.length < size) {
+            byteLocalVars = new byte[size][];
+        } else {
+            Arrays.fill(byteLocalVars, null);
+        }
+
+        size = codeAttribInfo.getMaxRefLocalVars();
+        if (refLocalVars.length < size) {
+            refLocalVars = new BRefType[size];
+        } else {
+            Arrays.fill(refLocalVars, null);
+        }
+
+        // Registers are always written before they are read. Only the reference holding registers are
+        // cleared, so that values of the previous invocation are not kept alive.
+        if (longRegs.length < codeAttribInfo.getMaxLongRegs()) {
+            longRegs = new long[codeAttribInfo.getMaxLongRegs()];
+        }
+
+        if (doubleRegs.length < codeAttribInfo.getMaxDoubleRegs()) {
+            doubleRegs = new double[codeAttribInfo.getMaxDoubleRegs()];
+        }
+
+        if (stringRegs.length < codeAttribInfo.getMaxStringRegs()) {
+            stringRegs = new String[codeAttribInfo.getMaxStringRegs()];
+        } else {
+            Arrays.fill(stringRegs, null);
+        }
+
+        if (intRegs.length < codeAttribInfo.getMaxIntRegs()) {
+            intRegs = new int[codeAttribInfo.getMaxIntRegs()];
+        }
+
+        if (byteRegs.length < codeAttribInfo.getMaxByteRegs()) {
+            byteRegs = new byte[codeAttribInfo.getMaxByteRegs()][];
+        } else {
+            Arrays.fill(byteRegs, null);
+        }
+
+        if (refRegs.length < codeAttribInfo.getMaxRefRegs()) {
+            refRegs = new BRefType[codeAttribInfo.getMaxRefRegs()];
+        } else {
+            Arrays.fill(refRegs, null);
+        }
+    }
+
     public StackFrame(CallableUnitInfo callableUnitInfo, BValue[] argValues, BValue[] returnValues) {
         this.callableUnitInfo = callableUnitInfo;
         this.argValues = argValues;
@@ -227,4 +327,12 @@ public class StackFrame {
     public void setRefRegs(BRefType[] refRegs) {
         this.refRegs = refRegs;
     }
+
+    public WorkerDataChannels getWorkerDataChannels() {
+        return workerDataChannels;
+    }
+
+    public void setWorkerDataChannels(WorkerDataChannels workerDataChannels) {
+        this.workerDataChannels = workerDataChannels;
+    }
 }
@@ -19,29 +19,34 @@ package org.ballerinalang.model;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BDataTable.ColumnDefinition;
 import org.ballerinalang.model.values.BJSON.JSONDataSource;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * {@link org.ballerinalang.model.values.BJSON.JSONDataSource} implementation for DataTable.
+ * <p>
+ * Unless a {@link JSONObjectGenerator} is given, each row is written straight to the {@link JsonGenerator} without
+ * building a JSON object for it, and the generator is flushed every {@value #ROWS_PER_FLUSH} rows, so the
+ * first rows are written out before the whole result is read.
  *
  * @since 0.8.0
  */
 public class DataTableJSONDataSource implements JSONDataSource {
 
+    private static final int ROWS_PER_FLUSH = 100;
+
     private BDataTable df;
 
     private JSONObjectGenerator objGen;
 
     public DataTableJSONDataSource(BDataTable df) {
-        this(df, new DefaultJSONObjectGenerator());
+        this(df, null);
     }
 
     public DataTableJSONDataSource(BDataTable df, JSONObjectGenerator objGen) {
@@ -51,61 +56,67 @@ public class DataTableJSONDataSource implements JSONDataSource {
 
     @Override
     public void serialize(JsonGenerator gen, SerializerProvider serializerProvider) throws IOException {
+        List<ColumnDefinition> columnDefs = this.df.getColumnDefs();
+        String[] names = new String[columnDefs.size()];
+        TypeEnum[] types = new TypeEnum[columnDefs.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = columnDefs.get(i).getName();
+            types[i] = columnDefs.get(i).getType();
+        }
+
         gen.writeStartArray();
+        int rowCount = 0;
         while (this.df.next()) {
-            this.objGen.transform(this.df).serialize(gen, serializerProvider);
+            if (this.objGen != null) {
+                this.objGen.transform(this.df).serialize(gen, serializerProvider);
+            } else {
+                writeRow(gen, names, types);
+            }
+            if (++rowCount % ROWS_PER_FLUSH == 0) {
+                gen.flush();
+            }
         }
         gen.writeEndArray();
         this.df.close();
     }
 
-    /**
-     * Default {@link DataTableJSONDataSource.JSONObjectGenerator} implementation based
-     * on the datatable's in-built column definition.
-     */
-    private static class DefaultJSONObjectGenerator implements JSONObjectGenerator {
-
-        @Override
-        public JsonNode transform(BDataTable df) throws IOException {
-            JsonNodeFactory fac = JsonNodeFactory.instance;
-            ObjectNode objNode = fac.objectNode();
-            String name;
-            for (ColumnDefinition col : df.getColumnDefs()) {
-                name = col.getName();
-                switch (col.getType()) {
-                case STRING:
-                    objNode.put(name, df.getString(name));
-                    break;
-                case INT:
-                    objNode.put(name, df.getInt(name));
-                    break;
-                case FLOAT:
-                    objNode.put(name, df.getFloat(name));
-                    break;
-                case BOOLEAN:
-                    objNode.put(name, df.getBoolean(name));
-                    break;
-                case ARRAY:
-                    //TODO: ARRAY
-                    break;
-                case JSON:
-                    objNode.set(name, new ObjectMapper().readTree(""));
-                    break;
-                case MAP:
-                    //TODO: MAP
-                    break;
-                case XML:
-                    objNode.put(name, "");
-                    //TODO: get XML
-                    break;
-                default:
-                    objNode.put(name, df.getString(name));
-                    break;
-                }
+    private void writeRow(JsonGenerator gen, String[] names, TypeEnum[] types) throws IOException {
+        gen.writeStartObject();
+        for (int i = 0; i < names.length; i++) {
+            // Column indices of the datatable start from 1
+            int index = i + 1;
+            switch (types[i]) {
+            case STRING:
+                gen.writeStringField(names[i], df.getString(index));
+                break;
+            case INT:
+                gen.writeNumberField(names[i], df.getInt(index));
+                break;
+            case FLOAT:
+                gen.writeNumberField(names[i], df.getFloat(index));
+                break;
+            case BOOLEAN:
+                gen.writeBooleanField(names[i], df.getBoolean(index));
+                break;
+            case ARRAY:
+                //TODO: ARRAY
+                break;
+            case JSON:
+                gen.writeNullField(names[i]);
+                break;
+            case MAP:
+                //TODO: MAP
+                break;
+            case XML:
+                gen.writeStringField(names[i], "");
+                //TODO: get XML
+                break;
+            default:
+                gen.writeStringField(names[i], df.getString(index));
+                break;
             }
-            return objNode;
         }
-
+        gen.writeEndObject();
     }
 
     /**
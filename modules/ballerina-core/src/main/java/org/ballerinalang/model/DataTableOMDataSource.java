@@ -18,15 +18,18 @@
 package org.ballerinalang.model;
 
 import org.apache.axiom.om.ds.AbstractPushOMDataSource;
+import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 
+import java.util.List;
 import java.util.Map;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 
 /**
  * This will provide custom OMDataSource implementation by wrapping BDataTable.
- * This will use to convert result set into XML stream.
+ * This will use to convert result set into XML stream. Columns are read by their index, and the writer is flushed
+ * every {@value #ROWS_PER_FLUSH} rows, so the first rows are written out before the whole result is read.
  *
  * @since 0.8.0
  */
@@ -37,6 +40,7 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
     private static final String ARRAY_ELEMENT_NAME = "element";
     private static final String DEFAULT_ROOT_WRAPPER = "results";
     private static final String DEFAULT_ROW_WRAPPER = "result";
+    private static final int ROWS_PER_FLUSH = 100;
 
     private BDataTable dataTable;
     private String rootWrapper;
@@ -50,32 +54,43 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
 
     @Override
     public void serialize(XMLStreamWriter xmlStreamWriter) throws XMLStreamException {
+        List<BDataTable.ColumnDefinition> columnDefs = dataTable.getColumnDefs();
+        String[] names = new String[columnDefs.size()];
+        TypeEnum[] types = new TypeEnum[columnDefs.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = columnDefs.get(i).getName();
+            types[i] = columnDefs.get(i).getType();
+        }
+
         xmlStreamWriter.writeStartElement(this.rootWrapper);
+        int rowCount = 0;
         while (dataTable.next()) {
             xmlStreamWriter.writeStartElement(this.rowWrapper);
-            for (BDataTable.ColumnDefinition col : dataTable.getColumnDefs()) {
+            for (int i = 0; i < names.length; i++) {
+                // Column indices of the datatable start from 1
+                int index = i + 1;
                 boolean isArray = false;
-                xmlStreamWriter.writeStartElement(col.getName());
+                xmlStreamWriter.writeStartElement(names[i]);
                 String value = null;
-                switch (col.getType()) {
+                switch (types[i]) {
                 case BOOLEAN:
-                    value = String.valueOf(dataTable.getBoolean(col.getName()));
+                    value = String.valueOf(dataTable.getBoolean(index));
                     break;
                 case STRING:
-                    value = dataTable.getString(col.getName());
+                    value = dataTable.getString(index);
                     break;
                 case INT:
-                    value = String.valueOf(dataTable.getInt(col.getName()));
+                    value = String.valueOf(dataTable.getInt(index));
                     break;
                 case FLOAT:
-                    value = String.valueOf(dataTable.getFloat(col.getName()));
+                    value = String.valueOf(dataTable.getFloat(index));
                     break;
                 case ARRAY:
                     isArray = true;
-                    processArray(xmlStreamWriter, col);
+                    processArray(xmlStreamWriter, index);
                     break;
                 default:
-                    value = dataTable.getObjectAsString(col.getName());
+                    value = dataTable.getObjectAsString(index);
                     break;
                 }
                 if (!isArray) {
@@ -89,15 +104,17 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
                 xmlStreamWriter.writeEndElement();
             }
             xmlStreamWriter.writeEndElement();
+            if (++rowCount % ROWS_PER_FLUSH == 0) {
+                xmlStreamWriter.flush();
+            }
         }
         xmlStreamWriter.writeEndElement();
         dataTable.close();
         xmlStreamWriter.flush();
     }
 
-    private void processArray(XMLStreamWriter xmlStreamWriter, BDataTable.ColumnDefinition col)
-            throws XMLStreamException {
-        Map<String, Object> array = dataTable.getArray(col.getName());
+    private void processArray(XMLStreamWriter xmlStreamWriter, int index) throws XMLStreamException {
+        Map<String, Object> array = dataTable.getArray(index);
         if (array != null && !array.isEmpty()) {
             for (Map.Entry<String, Object> values : array.entrySet()) {
                 xmlStreamWriter.writeStartElement(ARRAY_ELEMENT_NAME);
@@ -21,8 +21,15 @@ package org.ballerinalang.model.util;
 import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import org.ballerinalang.model.DataTableJSONDataSource;
 import org.ballerinalang.model.StructDef;
@@ -38,6 +45,7 @@ import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
@@ -56,8 +64,8 @@ import java.util.Set;
  */
 public class JSONUtils {
 
-    private static final String NULL = "null";
-    
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
     /**
      * Convert {@link BJSON} to {@link BInteger}.
      * 
@@ -123,6 +131,73 @@ public class JSONUtils {
         return jsonNodeToStruct(json.value(), structDef);
     }
     
+    /**
+     * Create an empty JSON object.
+     *
+     * @return an empty JSON object
+     */
+    public static BJSON createObject() {
+        return new BJSON(NODE_FACTORY.objectNode());
+    }
+
+    /**
+     * Create a JSON array of the given size, with all the elements set to zero.
+     *
+     * @param size size of the array
+     * @return a JSON array of the given size
+     */
+    public static BJSON createArray(long size) {
+        ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+        for (long i = 0; i < size; i++) {
+            arrayNode.add(IntNode.valueOf(0));
+        }
+        return new BJSON(arrayNode);
+    }
+
+    /**
+     * Convert an int value to a JSON node. Values within the int range are held in an {@link IntNode}, as when
+     * parsed from a JSON string.
+     *
+     * @param value int value
+     * @return JSON node of the value
+     */
+    public static JsonNode toJSONNode(long value) {
+        if (value == (int) value) {
+            return IntNode.valueOf((int) value);
+        }
+        return LongNode.valueOf(value);
+    }
+
+    /**
+     * Convert a float value to a JSON node.
+     *
+     * @param value float value
+     * @return JSON node of the value
+     */
+    public static JsonNode toJSONNode(double value) {
+        return DoubleNode.valueOf(value);
+    }
+
+    /**
+     * Convert a string value to a JSON node.
+     *
+     * @param value string value
+     * @return JSON node of the value
+     */
+    public static JsonNode toJSONNode(String value) {
+        return value == null ? NullNode.getInstance() : TextNode.valueOf(value);
+    }
+
+    /**
+     * Convert a boolean value to a JSON node.
+     *
+     * @param value boolean value
+     * @return JSON node of the value
+     */
+    public static JsonNode toJSONNode(boolean value) {
+        return BooleanNode.valueOf(value);
+    }
+
     /**
      * Convert {@link BMap} to {@link BJSON}.
      * 
@@ -131,13 +206,13 @@ public class JSONUtils {
      */
     public static BJSON toJSON(BMap<BString, BValue> map) {
         Set<BString> keys = map.keySet();
-        BJSON bjson = new BJSON("{}");
+        BJSON bjson = new BJSON(NODE_FACTORY.objectNode());
         ObjectNode jsonNode = (ObjectNode) bjson.value();
         for (BString key : keys) {
             try {
                 BValue bvalue = map.get(key);
                 if (bvalue == null) {
-                    jsonNode.set(key.stringValue(), new BJSON(NULL).value());
+                    jsonNode.set(key.stringValue(), NullNode.getInstance());
                 } else if (bvalue.getType() == BTypes.typeString) {
                     jsonNode.put(key.stringValue(), bvalue.stringValue());
                 } else if (bvalue.getType() == BTypes.typeInt) {
@@ -172,12 +247,12 @@ public class JSONUtils {
      * @return JSON representation of the provided array
      */
     public static BJSON toJSON(BArray<?> array) {
-        BJSON bjson = new BJSON("[]");
+        BJSON bjson = new BJSON(NODE_FACTORY.arrayNode());
         ArrayNode arrayNode = (ArrayNode) bjson.value();
         for (int i = 0; i < array.size(); i++) {
             BValue bvalue = array.get(i);
             if (bvalue == null) {
-                arrayNode.add(new BJSON(NULL).value());
+                arrayNode.add(NullNode.getInstance());
             } else if (bvalue.getType() == BTypes.typeString) {
                 arrayNode.add(bvalue.stringValue());
             } else if (bvalue.getType() == BTypes.typeInt) {
@@ -209,7 +284,7 @@ public class JSONUtils {
      * @return JSON representation of the provided array
      */
     public static BJSON toJSON(BStruct struct) {
-        BJSON bjson = new BJSON("{}");
+        BJSON bjson = new BJSON(NODE_FACTORY.objectNode());
         ObjectNode jsonNode = (ObjectNode) bjson.value();
         StructDef structDef = (StructDef) struct.getType();
         int memoryOffset = 0;
@@ -218,7 +293,7 @@ public class JSONUtils {
             String key = fieldDef.getVariableDef().getSymbolName().getName();
             try {
                 if (bvalue == null) {
-                    jsonNode.set(key, new BJSON(NULL).value());
+                    jsonNode.set(key, NullNode.getInstance());
                 } else if (bvalue.getType() == BTypes.typeString) {
                     jsonNode.put(key, bvalue.stringValue());
                 } else if (bvalue.getType() == BTypes.typeInt) {
@@ -265,6 +340,19 @@ public class JSONUtils {
      * @return Element of JSON having the provided name
      */
     public static BJSON getElement(BJSON json, String elementName) {
+        return getElement(json, elementName, null);
+    }
+
+    /**
+     * Get an element from a JSON. If the given current value already wraps the element, it is returned instead of
+     * creating a new {@link BJSON}.
+     *
+     * @param json JSON object to get the element from
+     * @param elementName Name of the element to be retrieved
+     * @param currentValue value previously held by the target of the element, or null
+     * @return Element of JSON having the provided name
+     */
+    public static BJSON getElement(BJSON json, String elementName, BRefType currentValue) {
         JsonNode jsonNode = json.value();
         
         if (!jsonNode.isObject()) {
@@ -277,7 +365,7 @@ public class JSONUtils {
             if (element == null || element.isNull()) {
                 return null;
             }
-            return new BJSON(element);
+            return wrap(element, currentValue);
         } catch (Throwable t) {
             throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.JSON_GET_ERROR, t.getMessage());
         }
@@ -316,6 +404,19 @@ public class JSONUtils {
      * @return Element at the given index, if the provided JSON is an array. Error, otherwise. 
      */
     public static BJSON getArrayElement(BJSON json, long index) {
+        return getArrayElement(json, index, null);
+    }
+
+    /**
+     * Get an element from a JSON array. If the given current value already wraps the element, it is returned instead
+     * of creating a new {@link BJSON}.
+     *
+     * @param json JSON array to get the element from
+     * @param index Index of the element needed
+     * @param currentValue value previously held by the target of the element, or null
+     * @return Element at the given index, if the provided JSON is an array. Error, otherwise.
+     */
+    public static BJSON getArrayElement(BJSON json, long index, BRefType currentValue) {
         JsonNode jsonNode = json.value();
 
         if (!jsonNode.isArray()) {
@@ -332,7 +433,7 @@ public class JSONUtils {
             if (element == null || element.isNull()) {
                 return null;
             }
-            return new BJSON(element);
+            return wrap(element, currentValue);
         } catch (Throwable t) {
             throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.JSON_GET_ERROR, t.getMessage());
         }
@@ -365,6 +466,13 @@ public class JSONUtils {
         }
     }
     
+    private static BJSON wrap(JsonNode element, BRefType currentValue) {
+        if (currentValue instanceof BJSON && ((BJSON) currentValue).wraps(element)) {
+            return (BJSON) currentValue;
+        }
+        return new BJSON(element);
+    }
+
     /**
      * Convert {@link JsonNode} to {@link BInteger}.
      * 
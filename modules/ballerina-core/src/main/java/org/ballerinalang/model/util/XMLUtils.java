@@ -18,15 +18,21 @@
 
 package org.ballerinalang.model.util;
 
-import de.odysseus.staxon.json.JsonXMLConfig;
-import de.odysseus.staxon.json.JsonXMLConfigBuilder;
-import de.odysseus.staxon.json.JsonXMLInputFactory;
-import de.odysseus.staxon.json.JsonXMLOutputFactory;
-import de.odysseus.staxon.xml.util.PrettyXMLEventWriter;
-
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMAttribute;
 import org.apache.axiom.om.OMDocument;
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
 import org.apache.axiom.om.OMNode;
+import org.apache.axiom.om.OMText;
 import org.apache.axiom.om.impl.builder.StAXOMBuilder;
 import org.apache.axiom.om.impl.dom.TextImpl;
 import org.apache.axiom.om.impl.llom.OMDocumentImpl;
@@ -41,27 +47,11 @@ import org.ballerinalang.model.values.BXMLItem;
 import org.ballerinalang.model.values.BXMLSequence;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.math.BigInteger;
 import java.util.Iterator;
-
-import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLEventWriter;
-import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLOutputFactory;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
-import javax.xml.stream.XMLStreamWriter;
-import javax.xml.transform.Result;
-import javax.xml.transform.Source;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.stax.StAXResult;
-import javax.xml.transform.stax.StAXSource;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Common utility methods used for XML manipulation.
@@ -71,6 +61,15 @@ import javax.xml.transform.stax.StAXSource;
 public class XMLUtils {
     
     private static final String XML_ROOT = "root";
+    private static final String XMLNS = "xmlns";
+    private static final String ATTRIBUTE_PREFIX = "@";
+    private static final String TEXT_FIELD = "$";
+    private static final char QNAME_SEPARATOR = ':';
+
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private static final OMFactory OM_FACTORY = OMAbstractFactory.getOMFactory();
+    private static final JsonNodeFactory JSON_NODE_FACTORY = JsonNodeFactory.instance;
     
     /**
      * Create a XML item from string literal
@@ -171,94 +170,248 @@ public class XMLUtils {
 
     /**
      * Converts a {@link BXML} to {@link BJSON}.
-     * 
+     * <p>
+     * An element becomes a field named after its qualified name. Attributes and namespace declarations become
+     * fields prefixed with '@', and text mixed with child elements becomes a '$' field. Repeated child elements
+     * become an array, and text which is a JSON boolean, null or number becomes that primitive.
+     *
      * @param xml {@link BXML} to convert
      * @return converted {@link BJSON} 
      * @throws BallerinaException
      */
     public static BJSON toJSON(BXML<?> xml) throws BallerinaException {
-        InputStream input = new ByteArrayInputStream(xml.stringValue().getBytes(StandardCharsets.UTF_8));
-        InputStream results = null;
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        BJSON json = null;
-
-        JsonXMLConfig config = new JsonXMLConfigBuilder().autoArray(true).autoPrimitive(true).prettyPrint(true).build();
-        try {
-            //Create source (XML).
-            XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(input);
-            Source source = new StAXSource(reader);
-
-            //Create result (JSON).
-            XMLStreamWriter writer = new JsonXMLOutputFactory(config).createXMLStreamWriter(output);
-            Result result = new StAXResult(writer);
-
-            //Copy source to result via "identity transform".
-            TransformerFactory.newInstance().newTransformer().transform(source, result);
-
-            byte[] outputByteArray = output.toByteArray();
-            results = new ByteArrayInputStream(outputByteArray);
-
-        } catch (TransformerConfigurationException e) {
-            throw new BallerinaException("Error in parsing the JSON Stream. Transformer Configuration issue", e);
-        } catch (TransformerException e) {
-            throw new BallerinaException("Error in parsing the JSON Stream", e);
-        } catch (XMLStreamException e) {
-            throw new BallerinaException("Error in parsing the XML Stream", e);
-        } finally {
-            //As per StAX specification, XMLStreamReader/Writer.close() doesn't close the underlying stream.
-            try {
-                output.close();
-                input.close();
-            } catch (IOException ignore) {
-
+        ObjectNode json = JSON_NODE_FACTORY.objectNode();
+        if (xml instanceof BXMLItem) {
+            addItemToJSON(json, ((BXMLItem) xml).value());
+        } else {
+            BRefValueArray seq = ((BXMLSequence) xml).value();
+            for (int i = 0; i < seq.size(); i++) {
+                addItemToJSON(json, ((BXMLItem) seq.get(i)).value());
             }
         }
-        json = new BJSON(results);
-        return json;
+        return new BJSON(json);
     }
-    
+
     /**
      * Converts a {@link BJSON} to {@link BXML}.
-     * 
+     * <p>
+     * The JSON is converted to the content of an element named 'root', as the reverse of
+     * {@link #toJSON(BXML)}. Each element of an array becomes an element named after the field of the array.
+     *
      * @param msg {@link BJSON} to convert
      * @return converted {@link BXML}
      */
     public static BXML<?> jsonToXML(BJSON msg) {
-        InputStream input = new ByteArrayInputStream(msg.stringValue().getBytes(StandardCharsets.UTF_8));
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        JsonXMLConfig config = new JsonXMLConfigBuilder().multiplePI(false).virtualRoot(XML_ROOT).build();
-        BXML<?> result = null;
+        JsonNode json = msg.value();
+        OMElement root = createElement(null, XML_ROOT, json);
+        addJSONContent(root, json);
 
-        XMLEventReader reader = null;
-        XMLEventWriter writer = null;
-        try {
-            reader = new JsonXMLInputFactory(config).createXMLEventReader(input);
-            writer = XMLOutputFactory.newInstance().createXMLEventWriter(output);
-            writer = new PrettyXMLEventWriter(writer);
-            writer.add(reader);
-        } catch (XMLStreamException e) {
-            throw new BallerinaException("Error in parsing the XML Stream", e);
-        } finally {
-            try {
-                if (reader != null) {
-                    reader.close();
-                }
+        // Add the root to a document, to get the xpath working correctly
+        OMDocument doc = OM_FACTORY.createOMDocument();
+        doc.addChild(root);
+        return new BXMLItem(root);
+    }
 
-                if (writer != null) {
-                    writer.close();
-                }
-            } catch (XMLStreamException ignore) {
+    private static void addItemToJSON(ObjectNode json, OMNode node) {
+        if (node.getType() != OMNode.ELEMENT_NODE) {
+            return;
+        }
+        OMElement element = (OMElement) node;
+        addJSONField(json, getQualifiedName(element.getPrefix(), element.getLocalName()), elementToJSON(element));
+    }
+
+    private static JsonNode elementToJSON(OMElement element) {
+        ObjectNode json = null;
+
+        Iterator<OMNamespace> namespaces = element.getAllDeclaredNamespaces();
+        while (namespaces.hasNext()) {
+            OMNamespace namespace = namespaces.next();
+            json = json == null ? JSON_NODE_FACTORY.objectNode() : json;
+            String prefix = namespace.getPrefix();
+            json.put(prefix.isEmpty() ? ATTRIBUTE_PREFIX + XMLNS : ATTRIBUTE_PREFIX + XMLNS + QNAME_SEPARATOR + prefix,
+                    namespace.getNamespaceURI());
+        }
+
+        Iterator<OMAttribute> attributes = element.getAllAttributes();
+        while (attributes.hasNext()) {
+            OMAttribute attribute = attributes.next();
+            json = json == null ? JSON_NODE_FACTORY.objectNode() : json;
+            json.set(ATTRIBUTE_PREFIX + getQualifiedName(attribute.getPrefix(), attribute.getLocalName()),
+                    toJSONPrimitive(attribute.getAttributeValue()));
+        }
+
+        StringBuilder text = null;
+        Iterator<OMNode> children = element.getChildren();
+        while (children.hasNext()) {
+            OMNode child = children.next();
+            switch (child.getType()) {
+                case OMNode.ELEMENT_NODE:
+                    OMElement childElement = (OMElement) child;
+                    json = json == null ? JSON_NODE_FACTORY.objectNode() : json;
+                    addJSONField(json, getQualifiedName(childElement.getPrefix(), childElement.getLocalName()),
+                            elementToJSON(childElement));
+                    break;
+                case OMNode.TEXT_NODE:
+                case OMNode.CDATA_SECTION_NODE:
+                case OMNode.SPACE_NODE:
+                    text = text == null ? new StringBuilder() : text;
+                    text.append(((OMText) child).getText());
+                    break;
+                default:
+                    // Comments and processing instructions have no JSON representation
+                    break;
             }
+        }
+
+        if (json == null) {
+            return text == null ? NullNode.getInstance() : toJSONPrimitive(text.toString());
+        }
+
+        // Whitespace between child elements is not content
+        if (text != null && !text.toString().trim().isEmpty()) {
+            json.set(TEXT_FIELD, toJSONPrimitive(text.toString()));
+        }
+        return json;
+    }
+
+    private static void addJSONField(ObjectNode json, String name, JsonNode value) {
+        JsonNode currentValue = json.get(name);
+        if (currentValue == null) {
+            json.set(name, value);
+        } else if (currentValue.isArray()) {
+            // Values converted from XML are never arrays, so this is an array of repeated elements
+            ((ArrayNode) currentValue).add(value);
+        } else {
+            json.set(name, JSON_NODE_FACTORY.arrayNode().add(currentValue).add(value));
+        }
+    }
+
+    private static JsonNode toJSONPrimitive(String text) {
+        switch (text) {
+            case "true":
+                return BooleanNode.TRUE;
+            case "false":
+                return BooleanNode.FALSE;
+            case "null":
+                return NullNode.getInstance();
+            default:
+                break;
+        }
+
+        if (!JSON_NUMBER.matcher(text).matches()) {
+            return TextNode.valueOf(text);
+        }
+
+        if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
             try {
-                output.close();
-                input.close();
-            } catch (IOException ignore) {
+                return JSONUtils.toJSONNode(Long.parseLong(text));
+            } catch (NumberFormatException e) {
+                return JSON_NODE_FACTORY.numberNode(new BigInteger(text));
+            }
+        }
+        return JSONUtils.toJSONNode(Double.parseDouble(text));
+    }
+
+    private static String getQualifiedName(String prefix, String localName) {
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
+        }
+        return prefix + QNAME_SEPARATOR + localName;
+    }
+
+    private static OMElement createElement(OMElement parent, String name, JsonNode json) {
+        OMElement element = parent == null ? OM_FACTORY.createOMElement(getLocalName(name), null) :
+                OM_FACTORY.createOMElement(getLocalName(name), null, parent);
+        String prefix = getPrefix(name);
+        String defaultNamespaceURI = null;
+
+        Iterator<Map.Entry<String, JsonNode>> fields = json.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String fieldName = field.getKey();
+            if (fieldName.equals(ATTRIBUTE_PREFIX + XMLNS)) {
+                defaultNamespaceURI = field.getValue().asText();
+            } else if (fieldName.startsWith(ATTRIBUTE_PREFIX + XMLNS + QNAME_SEPARATOR)) {
+                element.declareNamespace(field.getValue().asText(),
+                        fieldName.substring(ATTRIBUTE_PREFIX.length() + XMLNS.length() + 1));
+            }
+        }
+
+        if (!prefix.isEmpty()) {
+            element.setNamespace(findNamespace(element, prefix, name));
+        } else if (defaultNamespaceURI != null) {
+            // Setting the namespace of the element also declares it
+            element.setNamespace(OM_FACTORY.createOMNamespace(defaultNamespaceURI, ""));
+        } else if (parent != null) {
+            OMNamespace defaultNamespace = parent.getDefaultNamespace();
+            if (defaultNamespace != null && !defaultNamespace.getNamespaceURI().isEmpty()) {
+                element.setNamespace(defaultNamespace);
+            }
+        }
+        return element;
+    }
+
+    private static void addJSONContent(OMElement element, JsonNode json) {
+        switch (json.getNodeType()) {
+            case OBJECT:
+                Iterator<Map.Entry<String, JsonNode>> fields = json.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    String name = field.getKey();
+                    if (name.equals(TEXT_FIELD)) {
+                        OM_FACTORY.createOMText(element, field.getValue().asText());
+                    } else if (!name.startsWith(ATTRIBUTE_PREFIX)) {
+                        addJSONElement(element, name, field.getValue());
+                    } else if (!name.equals(ATTRIBUTE_PREFIX + XMLNS) &&
+                            !name.startsWith(ATTRIBUTE_PREFIX + XMLNS + QNAME_SEPARATOR)) {
+                        String attributeName = name.substring(ATTRIBUTE_PREFIX.length());
+                        String prefix = getPrefix(attributeName);
+                        OMNamespace namespace = prefix.isEmpty() ? null : findNamespace(element, prefix, name);
+                        element.addAttribute(getLocalName(attributeName), field.getValue().asText(), namespace);
+                    }
+                }
+                break;
+            case ARRAY:
+                for (JsonNode item : json) {
+                    addJSONContent(element, item);
+                }
+                break;
+            case NULL:
+                break;
+            default:
+                OM_FACTORY.createOMText(element, json.asText());
+                break;
+        }
+    }
+
+    private static void addJSONElement(OMElement parent, String name, JsonNode json) {
+        if (json.isArray()) {
+            for (JsonNode item : json) {
+                addJSONElement(parent, name, item);
             }
+            return;
         }
 
-        byte[] xml = output.toByteArray();
-        result = new BXMLItem(new ByteArrayInputStream(xml));
-        return result;
+        OMElement element = createElement(parent, name, json);
+        addJSONContent(element, json);
+    }
+
+    private static OMNamespace findNamespace(OMElement element, String prefix, String name) {
+        OMNamespace namespace = element.findNamespaceURI(prefix);
+        if (namespace == null) {
+            throw new BallerinaException("failed to convert json to xml: undeclared namespace prefix '" + prefix +
+                    "' in '" + name + "'");
+        }
+        return namespace;
+    }
+
+    private static String getPrefix(String qualifiedName) {
+        int index = qualifiedName.indexOf(QNAME_SEPARATOR);
+        return index < 0 ? "" : qualifiedName.substring(0, index);
+    }
+
+    private static String getLocalName(String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.indexOf(QNAME_SEPARATOR) + 1);
     }
 
     /**
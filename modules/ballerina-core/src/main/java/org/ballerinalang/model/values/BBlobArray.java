@@ -36,6 +36,15 @@ public class BBlobArray extends BNewArray {
         values = (byte[][]) newArrayInstance(byte[].class);
     }
 
+    public BBlobArray(int initialSize) {
+        values = (byte[][]) newArrayInstance(byte[].class, initialSize);
+    }
+
+    public BBlobArray(byte[][] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
     public void add(long index, byte[] value) {
         prepareForAdd(index, values.length);
         values[(int) index] = value;
@@ -55,4 +64,14 @@ public class BBlobArray extends BNewArray {
     public void grow(int newLength) {
         values = Arrays.copyOf(values, newLength);
     }
+
+    @Override
+    protected Object getBackingArray() {
+        return values;
+    }
+
+    @Override
+    public BValue copy() {
+        return new BBlobArray(Arrays.copyOf(values, size));
+    }
 }
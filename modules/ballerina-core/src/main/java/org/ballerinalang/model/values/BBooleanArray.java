@@ -36,6 +36,15 @@ public class BBooleanArray extends BNewArray {
         values = (int[]) newArrayInstance(Integer.TYPE);
     }
 
+    public BBooleanArray(int initialSize) {
+        values = (int[]) newArrayInstance(Integer.TYPE, initialSize);
+    }
+
+    public BBooleanArray(int[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
     public void add(long index, int value) {
         prepareForAdd(index, values.length);
         values[(int) index] = value;
@@ -55,4 +64,14 @@ public class BBooleanArray extends BNewArray {
     public void grow(int newLength) {
         values = Arrays.copyOf(values, newLength);
     }
+
+    @Override
+    protected Object getBackingArray() {
+        return values;
+    }
+
+    @Override
+    public BValue copy() {
+        return new BBooleanArray(Arrays.copyOf(values, size));
+    }
 }
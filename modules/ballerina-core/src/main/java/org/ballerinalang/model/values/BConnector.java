@@ -41,6 +41,9 @@ public final class BConnector implements BRefType<Connector>, StructureType {
 
     private BType connectorType;
 
+    // Native state of the connector, such as a connection pool, kept by its native actions
+    private Object nativeData;
+
     // TODO Remove this when old executor is removed
     private BType[] fieldTypes;
 
@@ -167,6 +170,14 @@ public final class BConnector implements BRefType<Connector>, StructureType {
         refFields[index] = value;
     }
 
+    public Object getNativeData() {
+        return nativeData;
+    }
+
+    public void setNativeData(Object nativeData) {
+        this.nativeData = nativeData;
+    }
+
     @Override
     public BValue copy() {
         return null;
@@ -18,7 +18,6 @@
 package org.ballerinalang.model.values;
 
 import org.apache.axiom.om.impl.llom.OMSourcedElementImpl;
-import org.ballerinalang.bre.bvm.BLangVM;
 import org.ballerinalang.model.DataIterator;
 import org.ballerinalang.model.DataTableJSONDataSource;
 import org.ballerinalang.model.DataTableOMDataSource;
@@ -33,6 +32,7 @@ import org.ballerinalang.util.exceptions.RuntimeErrors;
 import java.sql.Types;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * The {@code BDataTable} represents a data set in Ballerina.
@@ -44,12 +44,21 @@ public class BDataTable implements BRefType<Object> {
     private DataIterator iterator;
     private List<ColumnDefinition> columnDefs;
     private int columnCount;
+    private Map<String, Integer> columnIndexes;
     private BStruct bStruct;
+    // Index of the field of each column, among the struct fields of the same type
+    private int[] fieldIndexes;
 
     public BDataTable(DataIterator dataIterator, List<ColumnDefinition> columnDefs) {
         this.iterator = dataIterator;
         this.columnDefs = columnDefs;
         this.columnCount = columnDefs.size();
+        // As with a result set, column names are case insensitive and the first of the columns with the same name
+        // is used
+        this.columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < columnCount; i++) {
+            this.columnIndexes.putIfAbsent(columnDefs.get(i).getName(), i + 1);
+        }
         generateStruct();
     }
 
@@ -76,15 +85,21 @@ public class BDataTable implements BRefType<Object> {
         iterator.close();
     }
 
+    /**
+     * Get the current row as a struct.
+     * <p>
+     * The same struct is returned for every row, and the values of the row are written straight into its fields.
+     *
+     * @return struct holding the values of the current row
+     */
     public BStruct getNext() {
-        BValue[] dataArray = new BValue[this.columnCount];
-        int index = 0;
-        for (ColumnDefinition columnDef : columnDefs) {
-            BValue value;
-            String columnName = columnDef.getName();
-            switch (columnDef.getSQLType()) {
+        for (int i = 0; i < columnCount; i++) {
+            // Column indices of the data iterator start from 1
+            int columnIndex = i + 1;
+            int fieldIndex = fieldIndexes[i];
+            switch (columnDefs.get(i).getSQLType()) {
             case Types.ARRAY:
-                value = getDataArray(columnName);
+                bStruct.setRefField(fieldIndex, getDataArray(columnIndex));
                 break;
             case Types.CHAR:
             case Types.VARCHAR:
@@ -92,7 +107,7 @@ public class BDataTable implements BRefType<Object> {
             case Types.NCHAR:
             case Types.NVARCHAR:
             case Types.LONGNVARCHAR:
-                value = new BString(iterator.getString(columnName));
+                bStruct.setStringField(fieldIndex, iterator.getString(columnIndex));
                 break;
             case Types.CLOB:
             case Types.BLOB:
@@ -100,41 +115,72 @@ public class BDataTable implements BRefType<Object> {
             case Types.TIME:
             case Types.TIMESTAMP:
             case Types.NCLOB:
-                value = new BString(iterator.getObjectAsString(columnName));
+                bStruct.setStringField(fieldIndex, iterator.getObjectAsString(columnIndex));
                 break;
             case Types.BINARY:
-                value = iterator.get(columnName, "binary");
+                bStruct.setStringField(fieldIndex, iterator.get(columnIndex, "binary").stringValue());
                 break;
             case Types.TINYINT:
             case Types.SMALLINT:
             case Types.INTEGER:
             case Types.BIGINT:
-                value = new BInteger(iterator.getInt(columnName));
+                bStruct.setIntField(fieldIndex, iterator.getInt(columnIndex));
                 break;
             case Types.REAL:
             case Types.NUMERIC:
             case Types.DECIMAL:
             case Types.FLOAT:
             case Types.DOUBLE:
-                value = new BFloat(iterator.getFloat(columnName));
+                bStruct.setFloatField(fieldIndex, iterator.getFloat(columnIndex));
                 break;
             case Types.BIT:
             case Types.BOOLEAN:
-                value = new BBoolean(iterator.getBoolean(columnName));
+                bStruct.setBooleanField(fieldIndex, iterator.getBoolean(columnIndex) ? 1 : 0);
+                break;
+            default:
+                bStruct.setRefField(fieldIndex, null);
+            }
+        }
+        return bStruct;
+    }
+
+    /**
+     * Get the current row as a struct whose values can also be read through its memory block.
+     * <p>
+     * The blocking executor reads struct fields by offset from the memory block, so the values written into the
+     * typed fields are copied into a new memory block for each row.
+     *
+     * @return struct holding the values of the current row
+     */
+    public BStruct getNextWithMemoryBlock() {
+        getNext();
+        BType[] fieldTypes = bStruct.getFieldTypes();
+        BValue[] memoryBlock = new BValue[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            int fieldIndex = fieldIndexes[i];
+            switch (fieldTypes[i].getTag()) {
+            case TypeTags.INT_TAG:
+                memoryBlock[i] = new BInteger(bStruct.getIntField(fieldIndex));
+                break;
+            case TypeTags.FLOAT_TAG:
+                memoryBlock[i] = new BFloat(bStruct.getFloatField(fieldIndex));
+                break;
+            case TypeTags.STRING_TAG:
+                memoryBlock[i] = new BString(bStruct.getStringField(fieldIndex));
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                memoryBlock[i] = new BBoolean(bStruct.getBooleanField(fieldIndex) == 1);
                 break;
             default:
-                value = null;
+                memoryBlock[i] = bStruct.getRefField(fieldIndex);
             }
-            dataArray[index] = value;
-            ++index;
         }
-        bStruct.setMemoryBlock(dataArray);
-        BLangVM.prepareStructureTypeFromNativeAction(bStruct);
+        bStruct.setMemoryBlock(memoryBlock);
         return bStruct;
     }
 
-    private BMap<BString, BValue> getDataArray(String columnName) {
-        Map<String, Object> arrayMap = iterator.getArray(columnName);
+    private BMap<BString, BValue> getDataArray(int columnIndex) {
+        Map<String, Object> arrayMap = iterator.getArray(columnIndex);
         BMap<BString, BValue> returnMap = new BMap<>();
         if (arrayMap != null && !arrayMap.isEmpty()) {
             for (Map.Entry<String, Object> entry : arrayMap.entrySet()) {
@@ -209,11 +255,39 @@ public class BDataTable implements BRefType<Object> {
             ++typeIndex;
         }
         int[] fieldCount = populateMaxSizes(structTypes);
+        this.fieldIndexes = populateFieldIndexes(structTypes);
         bStruct.init(fieldCount);
         bStruct.setFieldTypes(structTypes);
         this.bStruct = bStruct;
     }
 
+    private static int[] populateFieldIndexes(BType[] fieldTypes) {
+        int[] fieldIndexes = new int[fieldTypes.length];
+        int[] counts = new int[6];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            switch (fieldTypes[i].getTag()) {
+            case TypeTags.INT_TAG:
+                fieldIndexes[i] = counts[0]++;
+                break;
+            case TypeTags.FLOAT_TAG:
+                fieldIndexes[i] = counts[1]++;
+                break;
+            case TypeTags.STRING_TAG:
+                fieldIndexes[i] = counts[2]++;
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                fieldIndexes[i] = counts[3]++;
+                break;
+            case TypeTags.BLOB_TAG:
+                fieldIndexes[i] = counts[4]++;
+                break;
+            default:
+                fieldIndexes[i] = counts[5]++;
+            }
+        }
+        return fieldIndexes;
+    }
+
     private static int[] populateMaxSizes(BType[] paramTypes) {
         int[] maxSizes = new int[6];
         for (int i = 0; i < paramTypes.length; i++) {
@@ -251,7 +325,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public String getString(String columnName) {
-        return iterator.getString(columnName);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.getString(index) : iterator.getString(columnName);
     }
 
     public long getInt(long index) {
@@ -263,7 +338,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public long getInt(String columnName) {
-        return iterator.getInt(columnName);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.getInt(index) : iterator.getInt(columnName);
     }
 
     public double getFloat(long index) {
@@ -275,7 +351,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public double getFloat(String columnName) {
-        return iterator.getFloat(columnName);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.getFloat(index) : iterator.getFloat(columnName);
     }
 
     public boolean getBoolean(long index) {
@@ -287,7 +364,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public boolean getBoolean(String columnName) {
-        return iterator.getBoolean(columnName);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.getBoolean(index) : iterator.getBoolean(columnName);
     }
 
     public BValue get(long index, String type) {
@@ -299,7 +377,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public BValue get(String columnName, String type) {
-        return iterator.get(columnName, type);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.get(index, type) : iterator.get(columnName, type);
     }
 
     public String getObjectAsString(long index) {
@@ -311,7 +390,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public String getObjectAsString(String columnName) {
-        return iterator.getObjectAsString(columnName);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.getObjectAsString(index) : iterator.getObjectAsString(columnName);
     }
 
     public Map<String, Object> getArray(long index) {
@@ -323,7 +403,8 @@ public class BDataTable implements BRefType<Object> {
     }
 
     public Map<String, Object> getArray(String columnName) {
-        return iterator.getArray(columnName);
+        int index = getColumnIndex(columnName);
+        return index > 0 ? iterator.getArray(index) : iterator.getArray(columnName);
     }
     
     public BJSON toJSON() {
@@ -339,6 +420,17 @@ public class BDataTable implements BRefType<Object> {
     public List<ColumnDefinition> getColumnDefs() {
         return columnDefs;
     }
+
+    /**
+     * Get the index of a column, which is resolved once when the datatable is created.
+     *
+     * @param columnName name of the column
+     * @return index of the column starting from 1, or -1 if there is no column with the given name
+     */
+    public int getColumnIndex(String columnName) {
+        Integer index = columnIndexes.get(columnName);
+        return index == null ? -1 : index;
+    }
     
     /**
      * This represents a column definition for a column in a datatable.
@@ -36,6 +36,15 @@ public class BFloatArray extends BNewArray {
         values = (double[]) newArrayInstance(Double.TYPE);
     }
 
+    public BFloatArray(int initialSize) {
+        values = (double[]) newArrayInstance(Double.TYPE, initialSize);
+    }
+
+    public BFloatArray(double[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
     public void add(long index, double value) {
         prepareForAdd(index, values.length);
         values[(int) index] = value;
@@ -55,4 +64,14 @@ public class BFloatArray extends BNewArray {
     public void grow(int newLength) {
         values = Arrays.copyOf(values, newLength);
     }
+
+    @Override
+    protected Object getBackingArray() {
+        return values;
+    }
+
+    @Override
+    public BValue copy() {
+        return new BFloatArray(Arrays.copyOf(values, size));
+    }
 }
@@ -36,6 +36,15 @@ public class BIntArray extends BNewArray {
         values = (long[]) newArrayInstance(Long.TYPE);
     }
 
+    public BIntArray(int initialSize) {
+        values = (long[]) newArrayInstance(Long.TYPE, initialSize);
+    }
+
+    public BIntArray(long[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
     public void add(long index, long value) {
         prepareForAdd(index, values.length);
         values[(int) index] = value;
@@ -55,4 +64,14 @@ public class BIntArray extends BNewArray {
     public void grow(int newLength) {
         values = Arrays.copyOf(values, newLength);
     }
+
+    @Override
+    protected Object getBackingArray() {
+        return values;
+    }
+
+    @Override
+    public BValue copy() {
+        return new BIntArray(Arrays.copyOf(values, size));
+    }
 }
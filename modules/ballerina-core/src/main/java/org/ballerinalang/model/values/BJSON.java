@@ -218,6 +218,17 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
         return this.value;
     }
 
+    /**
+     * Check whether this {@link BJSON} object holds the given JSON node, without building the value of a streaming
+     * data source.
+     *
+     * @param node JSON node
+     * @return true if the value of this object is the given node
+     */
+    public boolean wraps(JsonNode node) {
+        return this.value == node;
+    }
+
     @Override
     public String stringValue() {
         if (this.value().isTextual()) {
@@ -289,6 +300,6 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
     
     @Override
     public BValue copy() {
-        return new BJSON(this.stringValue());
+        return new BJSON(this.value().deepCopy());
     }
 }
@@ -21,23 +21,39 @@ import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
  * {@code MapType} represents a map.
+ * <p>
+ * Entries are kept in insertion order in parallel key, value and hash arrays. An open addressing hash table with
+ * linear probing maps a key to the position of its entry. Removed entries leave a gap in the entry arrays, which is
+ * reclaimed when the arrays are full.
+ *
  * @param <K> Key
  * @param <V> Value
  * @since 0.8.0
  */
 public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implements BRefType {
 
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Marks the key of a removed entry
+    private static final Object REMOVED = new Object();
+
     private int size;
-    private static final int INITIAL_CAPACITY = 16;
-    private static final int MAX_CAPACITY = 1 << 16;
+
+    // Number of used entry slots, including the removed ones
+    private int entryCount;
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
     @SuppressWarnings("unchecked")
-    private MapEntry<K, V>[] values = new MapEntry[INITIAL_CAPACITY];
+    private V[] values = (V[]) new BValue[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+
+    // Entry index + 1 of the key hashed to each slot, 0 if the slot is empty. Kept at most half full
+    private int[] table = new int[INITIAL_CAPACITY * 2];
 
     /**
      * Retrieve the value for the given key from map.
@@ -45,14 +61,8 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return value
      */
     public V get(K key) {
-        for (int i = 0; i < size; i++) {
-            if (values[i] != null) {
-                if (values[i].getKey().equals(key)) {
-                    return values[i].getValue();
-                }
-            }
-        }
-        return null;
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
     }
 
     /**
@@ -61,28 +71,106 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @param value value related to the key
      */
     public void put(K key, V value) {
-        boolean insert = true;
-        for (int i = 0; i < size; i++) {
-            if (values[i].getKey().equals(key)) {
-                values[i].setValue(value);
-                insert = false;
+        int hash = hash(key);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        for (int entry = table[slot]; entry != 0; entry = table[slot]) {
+            int index = entry - 1;
+            if (hashes[index] == hash && keyEquals(keys[index], key)) {
+                values[index] = value;
+                return;
             }
+            slot = (slot + 1) & mask;
         }
-        if (insert) {
+
+        if (entryCount == keys.length) {
             ensureCapacity();
-            values[size++] = new MapEntry<>(key, value);
+            put(key, value);
+            return;
         }
+
+        keys[entryCount] = key;
+        values[entryCount] = value;
+        hashes[entryCount] = hash;
+        table[slot] = ++entryCount;
+        size++;
     }
 
     private void ensureCapacity() {
-        if (size == values.length) {
-            int newSize = values.length * 2;
-            if (newSize <= MAX_CAPACITY) {
-                values = Arrays.copyOf(values, newSize);
-            } else {
-                throw new RuntimeException(" Map cannot exceed the maximum size");
+        if (size < entryCount / 2) {
+            // Reuse the slots of the removed entries
+            rehash(keys.length);
+        } else {
+            rehash(keys.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        Object[] newKeys = new Object[capacity];
+        @SuppressWarnings("unchecked")
+        V[] newValues = (V[]) new BValue[capacity];
+        int[] newHashes = new int[capacity];
+        int[] newTable = new int[capacity * 2];
+        int mask = newTable.length - 1;
+
+        int newIndex = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] == REMOVED) {
+                continue;
             }
+
+            newKeys[newIndex] = keys[i];
+            newValues[newIndex] = values[i];
+            newHashes[newIndex] = hashes[i];
+            int slot = hashes[i] & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = ++newIndex;
         }
+
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        table = newTable;
+        entryCount = newIndex;
+    }
+
+    private int indexOf(Object key) {
+        int hash = hash(key);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        if (key instanceof String) {
+            // Fast path for the common case of string keys
+            for (int entry = table[slot]; entry != 0; entry = table[slot]) {
+                int index = entry - 1;
+                Object entryKey = keys[index];
+                if (entryKey == key || (hashes[index] == hash && key.equals(entryKey))) {
+                    return index;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        for (int entry = table[slot]; entry != 0; entry = table[slot]) {
+            int index = entry - 1;
+            if (hashes[index] == hash && keyEquals(keys[index], key)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        // Spread the higher bits, since only the lower bits select a slot
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keyEquals(Object entryKey, Object key) {
+        return entryKey == key || (entryKey != REMOVED && entryKey != null && entryKey.equals(key));
     }
 
     /**
@@ -98,27 +186,49 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @param key key of the item to be removed
      */
     public void remove(K key) {
-        for (int i = 0; i < size; i++) {
-            if (values[i].getKey().equals(key)) {
-                values[i] = null;
-                size--;
-                condenseArray(i);
+        int hash = hash(key);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int index = -1;
+        for (int entry = table[slot]; entry != 0; entry = table[slot]) {
+            if (hashes[entry - 1] == hash && keyEquals(keys[entry - 1], key)) {
+                index = entry - 1;
+                break;
             }
+            slot = (slot + 1) & mask;
         }
-    }
+        if (index < 0) {
+            return;
+        }
+
+        keys[index] = REMOVED;
+        values[index] = null;
+        size--;
 
-    private void condenseArray(int start) {
-        System.arraycopy(values, start + 1, values, start, (values.length - start - 1));
+        // Shift back the following entries of the probe sequence, so that lookups need no tombstones
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = hashes[table[next] - 1] & mask;
+            boolean reachable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (reachable) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = 0;
     }
 
     /**
-     * Retrieve the set of keys related to this map.
+     * Retrieve the set of keys related to this map, in insertion order.
      * @return returns the set of keys
      */
+    @SuppressWarnings("unchecked")
     public Set<K> keySet() {
-        Set<K> set = new HashSet<>();
-        for (int i = 0; i < size; i++) {
-            set.add(values[i].getKey());
+        Set<K> set = new LinkedHashSet<>(size * 2);
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] != REMOVED) {
+                set.add((K) keys[i]);
+            }
         }
         return set;
     }
@@ -149,34 +259,12 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
     @Override
     public BValue copy() {
         BMap map = BTypes.typeMap.getEmptyValue();
-        for (int i = 0; i < size; i++) {
-            BValue value = values[i].getValue();
-            map.put(values[i].getKey(), value == null ? null : value.copy());
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] != REMOVED) {
+                BValue value = values[i];
+                map.put(keys[i], value == null ? null : value.copy());
+            }
         }
         return map;
     }
-    
-    private class MapEntry<K, V> {
-        private final K key;
-        private V value;
-
-        MapEntry(K key, V value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        K getKey() {
-            return key;
-        }
-
-        V getValue() {
-            return value;
-        }
-
-        void setValue(V value) {
-            this.value = value;
-        }
-    }
-
 }
-
@@ -37,12 +37,23 @@ public abstract class BNewArray implements BRefType {
      * This is same as Java
      */
     protected static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
-    protected static final int DEFAULT_ARRAY_SIZE = 100;
+
+    /**
+     * The capacity allocated on the first add to an array created without an initial size.
+     */
+    protected static final int DEFAULT_ARRAY_SIZE = 10;
 
     protected int size = 0;
 
     public abstract void grow(int newLength);
 
+    /**
+     * Returns the array backing this array. Its length is the capacity of this array.
+     *
+     * @return the backing array
+     */
+    protected abstract Object getBackingArray();
+
     @Override
     public String stringValue() {
         return null;
@@ -67,7 +78,11 @@ public abstract class BNewArray implements BRefType {
     // Private methods
 
     protected Object newArrayInstance(Class<?> componentType) {
-        return Array.newInstance(componentType, DEFAULT_ARRAY_SIZE);
+        return newArrayInstance(componentType, 0);
+    }
+
+    protected Object newArrayInstance(Class<?> componentType, int initialSize) {
+        return Array.newInstance(componentType, Math.max(initialSize, 0));
     }
 
     protected void prepareForAdd(long index, int currentArraySize) {
@@ -103,15 +118,49 @@ public abstract class BNewArray implements BRefType {
         }
     }
 
-    protected void ensureCapacity(int capacity, int currentArraySize) {
-        int y = capacity / DEFAULT_ARRAY_SIZE;
-        int x = currentArraySize / DEFAULT_ARRAY_SIZE;
+    protected void ensureCapacity(int index, int currentArraySize) {
+        if (index < currentArraySize) {
+            return;
+        }
+
+        // Grow by half of the current capacity, so that appending n elements copies O(n) elements in total
+        int newLength = Math.max(currentArraySize + (currentArraySize >> 1), DEFAULT_ARRAY_SIZE);
+        if (newLength < 0 || newLength > MAX_ARRAY_SIZE) {
+            newLength = MAX_ARRAY_SIZE;
+        }
+        grow(Math.max(newLength, index + 1));
+    }
+
+    /**
+     * Copies the elements in the range [from, to) of the given array to this array, starting at the given index.
+     * This array grows as required.
+     *
+     * @param source    array to copy from, of the same array class as this array
+     * @param from      index of the first element to copy
+     * @param to        index after the last element to copy
+     * @param destIndex index of this array to which the first element is copied
+     */
+    public void copyFrom(BNewArray source, int from, int to, int destIndex) {
+        if (source.getClass() != getClass()) {
+            throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.ARRAY_TYPE_MISMATCH,
+                    source.getType(), getType());
+        }
+        if (from < 0 || to > source.size) {
+            throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.ARRAY_INDEX_OUT_OF_RANGE,
+                    from < 0 ? from : to, source.size);
+        }
 
-        if (y - x >= 0) {
-            int newLength = (y + 1) * DEFAULT_ARRAY_SIZE;
-            newLength = Math.min(newLength, MAX_ARRAY_SIZE);
-            grow(newLength);
+        int length = to - from;
+        if (length <= 0) {
+            return;
         }
+
+        long lastIndex = (long) destIndex + length - 1;
+        rangeCheck(destIndex, size);
+        rangeCheck(lastIndex, size);
+        ensureCapacity((int) lastIndex, Array.getLength(getBackingArray()));
+        System.arraycopy(source.getBackingArray(), from, getBackingArray(), destIndex, length);
+        resetSize((int) lastIndex);
     }
 
     public long size() {
@@ -39,6 +39,17 @@ public class BRefValueArray extends BNewArray {
         values = (BRefType[]) newArrayInstance(BRefType.class);
     }
 
+    public BRefValueArray(BType type, int initialSize) {
+        this.arrayType = type;
+        values = (BRefType[]) newArrayInstance(BRefType.class, initialSize);
+    }
+
+    public BRefValueArray(BType type, BRefType[] values) {
+        this.arrayType = type;
+        this.values = values;
+        this.size = values.length;
+    }
+
     public void add(long index, BRefType value) {
         prepareForAdd(index, values.length);
         values[(int) index] = value;
@@ -58,4 +69,19 @@ public class BRefValueArray extends BNewArray {
     public void grow(int newLength) {
         values = Arrays.copyOf(values, newLength);
     }
+
+    @Override
+    protected Object getBackingArray() {
+        return values;
+    }
+
+    @Override
+    public BValue copy() {
+        BRefType[] newValues = new BRefType[size];
+        for (int i = 0; i < size; i++) {
+            BRefType value = values[i];
+            newValues[i] = value == null ? null : (BRefType) value.copy();
+        }
+        return new BRefValueArray(arrayType, newValues);
+    }
 }
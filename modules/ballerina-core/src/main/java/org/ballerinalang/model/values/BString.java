@@ -81,6 +81,11 @@ public final class BString extends BValueType implements BRefType<String> {
         return ((BString) obj).stringValue().equals(value);
     }
 
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
     @Override
     public String value() {
         return value;
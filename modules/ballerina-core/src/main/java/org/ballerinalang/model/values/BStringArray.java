@@ -36,6 +36,15 @@ public class BStringArray extends BNewArray {
         values = (String[]) newArrayInstance(String.class);
     }
 
+    public BStringArray(int initialSize) {
+        values = (String[]) newArrayInstance(String.class, initialSize);
+    }
+
+    public BStringArray(String[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
     public void add(long index, String value) {
         prepareForAdd(index, values.length);
         values[(int) index] = value;
@@ -55,4 +64,21 @@ public class BStringArray extends BNewArray {
     public void grow(int newLength) {
         values = Arrays.copyOf(values, newLength);
     }
+
+    @Override
+    protected Object getBackingArray() {
+        return values;
+    }
+
+    @Override
+    public BValue copy() {
+        return new BStringArray(Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Sorts the elements of this array in their natural order.
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
 }
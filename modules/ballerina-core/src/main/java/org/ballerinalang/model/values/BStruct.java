@@ -20,6 +20,7 @@ import org.ballerinalang.model.StructDef;
 import org.ballerinalang.model.types.BType;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 /**
  * The {@code BStruct} represents the value of a user defined struct in Ballerina.
@@ -31,6 +32,7 @@ public final class BStruct implements BRefType<StructDef>, StructureType {
     private StructDef structDef;
     private BValue[] structMemBlock;
     private BStruct stackTrace;
+    private Supplier<BStruct> stackTraceSupplier;
 
     private long[] longFields;
     private double[] doubleFields;
@@ -126,11 +128,26 @@ public final class BStruct implements BRefType<StructDef>, StructureType {
     }
 
     public BStruct getStackTrace() {
+        if (stackTrace == null && stackTraceSupplier != null) {
+            stackTrace = stackTraceSupplier.get();
+            stackTraceSupplier = null;
+        }
         return stackTrace;
     }
 
     public void setStackTrace(BStruct stackTrace) {
         this.stackTrace = stackTrace;
+        this.stackTraceSupplier = null;
+    }
+
+    /**
+     * Set a supplier of the stack trace, which is called only when the stack trace is read.
+     *
+     * @param stackTraceSupplier supplier of the stack trace struct
+     */
+    public void setStackTrace(Supplier<BStruct> stackTraceSupplier) {
+        this.stackTrace = null;
+        this.stackTraceSupplier = stackTraceSupplier;
     }
 
     @Override
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.natives;
+
+import org.ballerinalang.bre.bvm.NativeCallFrame;
+
+/**
+ * {@code DirectNativeFunction} is implemented by native functions which the BVM can call without boxing their
+ * arguments and return values.
+ * <p>
+ * The BVM calls {@link #executeDirect(NativeCallFrame)} instead of {@link AbstractNativeFunction#execute}
+ * for such a function. No stack frame is pushed for the call, hence the arguments must be read through the given
+ * frame and not through the context. {@link AbstractNativeFunction#execute} is still used by the blocking executor.
+ *
+ * @since 0.88
+ */
+public interface DirectNativeFunction {
+
+    /**
+     * Where Native Function logic is implemented, when called by the BVM.
+     *
+     * @param frame access to the argument and return registers of the caller
+     */
+    void executeDirect(NativeCallFrame frame);
+}
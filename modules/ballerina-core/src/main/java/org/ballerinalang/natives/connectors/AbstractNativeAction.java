@@ -210,6 +210,18 @@ public abstract class AbstractNativeAction implements NativeUnit, Action {
         return false;
     }
 
+    /**
+     * Declare whether the given invocation of the native action may run non-blocking.
+     *
+     * Default is {@link #isNonBlockingAction()}, Override to decide based on the invocation.
+     *
+     * @param context Ballerina context of the invocation.
+     * @return true, if the invocation can be completed through a {@link BalConnectorCallback}.
+     */
+    public boolean isNonBlockingAction(Context context) {
+        return isNonBlockingAction();
+    }
+
     // Methods in CallableUnit interface
 
     /**
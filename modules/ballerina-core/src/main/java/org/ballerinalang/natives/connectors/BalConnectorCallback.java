@@ -17,13 +17,21 @@
 package org.ballerinalang.natives.connectors;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BLangVM;
 import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.runtime.DefaultBalCallback;
 import org.ballerinalang.runtime.threadpool.ResponseWorkerThread;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.wso2.carbon.messaging.CarbonMessage;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A class used by connectors to receive response from external system and correlate request context with response.
  */
@@ -31,12 +39,31 @@ public class BalConnectorCallback extends DefaultBalCallback {
 
     private Context context;
 
-    private boolean responseArrived = false;
+    private volatile boolean responseArrived = false;
+
+    // Released once the response arrives. Unlike waiting on the context monitor, this does not pin a virtual thread
+    private final CountDownLatch responseLatch = new CountDownLatch(1);
 
     private BValue valueRef;
 
+    private volatile Throwable error;
+
+    // Only the first of the response, the error or the timeout completes the action, the others are dropped
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private volatile ScheduledFuture<?> timeoutFuture;
+
     private boolean nonBlockingExecution;
 
+    // VM suspended on this action, which is resumed on the completion
+    private BLangVM vm;
+
+    // The completion of the action and the suspension of the VM may happen in either order, on different threads.
+    // The VM is resumed once both have happened, so that it is never run by two threads at once
+    private final AtomicInteger pendingResumeSignals = new AtomicInteger(2);
+
+    private CarbonMessage responseMessage;
+
     // Reference for post validation.
     private AbstractNativeAction nativeAction;
 
@@ -49,6 +76,28 @@ public class BalConnectorCallback extends DefaultBalCallback {
         return responseArrived;
     }
 
+    /**
+     * Blocks the calling thread until the response arrives.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return true if the response arrived within the timeout
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean awaitResponse(long timeout, TimeUnit unit) throws InterruptedException {
+        return responseLatch.await(timeout, unit);
+    }
+
+    /**
+     * Blocks the calling thread until the response arrives, without a timeout. This is used once the action has
+     * been completed by a response, which is still being delivered.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void awaitResponse() throws InterruptedException {
+        responseLatch.await();
+    }
+
     public BValue getValueRef() {
         return valueRef;
     }
@@ -65,8 +114,53 @@ public class BalConnectorCallback extends DefaultBalCallback {
         this.nativeAction = nativeAction;
     }
 
+    public BLangVM getVM() {
+        return vm;
+    }
+
+    public void setVM(BLangVM vm) {
+        this.vm = vm;
+    }
+
+    /**
+     * Notifies that the VM which invoked the non-blocking action has stopped executing. If the action has already
+     * completed, the VM is resumed.
+     */
+    public void suspended() {
+        if (pendingResumeSignals.decrementAndGet() == 0) {
+            dispatchResponse();
+        }
+    }
+
+    /**
+     * Completes the action with an error if it is not completed within the given time. The action is resumed the same
+     * way as on a response, so no thread waits for the timeout.
+     *
+     * @param timeout maximum time to wait for the response
+     * @param unit    unit of the timeout
+     * @param message message of the error the action completes with on a timeout
+     */
+    public void setTimeout(long timeout, TimeUnit unit, String message) {
+        timeoutFuture = ThreadPoolFactory.getInstance().getTimeoutScheduler()
+                .schedule(() -> done(new BallerinaException(message)), timeout, unit);
+    }
+
+    /**
+     * Completes the action without resuming it, so that a response which arrives later is dropped. This is used when
+     * the action gives up waiting, or fails before the request is sent.
+     *
+     * @return true if the action was not already completed
+     */
+    public boolean expire() {
+        return complete();
+    }
+
     @Override
     public void done(CarbonMessage carbonMessage) {
+        if (!complete()) {
+            // The action timed out, and the frame may be in use by the rest of the program by now
+            return;
+        }
         BMessage bMessage = new BMessage(carbonMessage);
         valueRef = bMessage;
         //context.getControlStack().setValue(4, valueRef);
@@ -76,16 +170,58 @@ public class BalConnectorCallback extends DefaultBalCallback {
             context.getControlStack().setReturnValue(0, valueRef);
         }
         responseArrived = true;
+        resume(carbonMessage);
+    }
+
+    /**
+     * Notifies the completion of an action which sets its own return values in the action frame, instead of
+     * receiving a response message.
+     *
+     * @param error error thrown by the action, or null if the action completed normally
+     */
+    public void done(Throwable error) {
+        if (!complete()) {
+            return;
+        }
+        this.error = error;
+        responseArrived = true;
+        resume(null);
+    }
+
+    private boolean complete() {
+        if (!completed.compareAndSet(false, true)) {
+            return false;
+        }
+        ScheduledFuture<?> future = timeoutFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
+        return true;
+    }
+
+    private void resume(CarbonMessage carbonMessage) {
         // Release Thread.
         if (nonBlockingExecution) {
-            ThreadPoolFactory.getInstance().getExecutor().execute(new ResponseWorkerThread(carbonMessage, this));
-        } else {
-            synchronized (context) {
-                context.notifyAll();
+            responseMessage = carbonMessage;
+            if (pendingResumeSignals.decrementAndGet() == 0) {
+                dispatchResponse();
             }
+        } else {
+            responseLatch.countDown();
         }
     }
 
+    private void dispatchResponse() {
+        ThreadPoolFactory.getInstance().getExecutor().execute(new ResponseWorkerThread(responseMessage, this));
+    }
+
+    /**
+     * @return error thrown by the action, if it completed through {@link #done(Throwable)}
+     */
+    public Throwable getError() {
+        return error;
+    }
+
     public Context getContext() {
         return context;
     }
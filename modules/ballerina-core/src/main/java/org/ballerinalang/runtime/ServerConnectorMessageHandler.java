@@ -182,7 +182,8 @@ public class ServerConnectorMessageHandler {
 
         // Execute workers
         int[] retRegs = {0};
-        BLangVMWorkers.invoke(packageInfo.getProgramFile(), resourceInfo, calleeSF, retRegs);
+        calleeSF.setWorkerDataChannels(
+                BLangVMWorkers.invoke(packageInfo.getProgramFile(), resourceInfo, calleeSF, retRegs));
 
         BLangVM bLangVM = new BLangVM(packageInfo.getProgramFile());
         bLangVM.run(context);
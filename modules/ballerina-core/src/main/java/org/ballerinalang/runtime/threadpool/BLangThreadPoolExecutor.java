@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code BLangThreadPoolExecutor} is a thread pool created from a {@link ThreadPoolConfig}, which keeps track of the
+ * rejected tasks.
+ *
+ * @since 0.88
+ */
+public class BLangThreadPoolExecutor extends ThreadPoolExecutor implements ThreadPoolMXBean {
+
+    private final LongAdder rejectedTaskCount = new LongAdder();
+
+    public BLangThreadPoolExecutor(ThreadPoolConfig config, ThreadFactory threadFactory) {
+        super(config.getCoreSize(), config.getMaxSize(), config.getKeepAliveSeconds(), TimeUnit.SECONDS,
+                config.createQueue(), threadFactory);
+        RejectedExecutionHandler rejectionHandler = config.createRejectionHandler();
+        setRejectedExecutionHandler((runnable, executor) -> {
+            rejectedTaskCount.increment();
+            rejectionHandler.rejectedExecution(runnable, executor);
+        });
+
+        if (config.getKeepAliveSeconds() > 0) {
+            // Release idle threads of large pools
+            allowCoreThreadTimeOut(true);
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount.sum();
+    }
+}
@@ -45,7 +45,8 @@ public class ResponseWorkerThread extends WorkerThread {
 //        // Because of this we have to start new thread from the callback, if non-blocking is enabled.
         BalConnectorCallback connectorCallback = (BalConnectorCallback) this.callback;
         Context context = connectorCallback.getContext();
-        BLangVM bLangVM = new BLangVM(context.getProgramFile());
+        // The VM which invoked the action is resumed, so that its state such as the end of a worker is kept
+        BLangVM bLangVM = connectorCallback.getVM();
         try {
             connectorCallback.getNativeAction().validate(connectorCallback);
         } catch (Exception e) {
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.threadpool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * {@code ThreadPoolConfig} holds the settings of a thread pool in Ballerina engine.
+ * <p>
+ * Settings are read from the ballerina.conf file and from system properties, where system properties take
+ * precedence. The ballerina.conf file is a properties file located by the {@value #SYSTEM_PROP_CONF_FILE} system
+ * property, or else at ${ballerina.home}/conf/ballerina.conf. The settings of a pool are given as
+ * ballerina.threadpool.&lt;pool&gt;.&lt;setting&gt;:
+ * <ul>
+ * <li>coreSize - number of threads kept in the pool</li>
+ * <li>maxSize - upper bound of threads, used when the queue is bounded or synchronous</li>
+ * <li>keepAliveSeconds - idle time after which a thread is released</li>
+ * <li>queue - linked (unbounded), array (bounded) or synchronous</li>
+ * <li>queueCapacity - capacity of a bounded queue</li>
+ * <li>rejectionPolicy - abort, callerRuns, discard or discardOldest</li>
+ * </ul>
+ * If ballerina.threadpool.sizing is set to auto, default pool sizes are derived from the number of processors
+ * instead of the fixed defaults. If ballerina.threadpool.virtualThreads is set to true and the JVM supports virtual
+ * threads, requests and workers run on virtual threads and the pool settings are not used. An invalid setting is
+ * reported as a warning and the default value is used instead.
+ *
+ * @since 0.88
+ */
+public class ThreadPoolConfig {
+
+    public static final String SYSTEM_PROP_CONF_FILE = "ballerina.conf";
+    public static final String PROP_PREFIX = "ballerina.threadpool.";
+    public static final String PROP_SIZING = PROP_PREFIX + "sizing";
+    public static final String SIZING_AUTO = "auto";
+    public static final String PROP_VIRTUAL_THREADS = PROP_PREFIX + "virtualThreads";
+
+    public static final String QUEUE_LINKED = "linked";
+    public static final String QUEUE_ARRAY = "array";
+    public static final String QUEUE_SYNCHRONOUS = "synchronous";
+
+    public static final String POLICY_ABORT = "abort";
+    public static final String POLICY_CALLER_RUNS = "callerRuns";
+    public static final String POLICY_DISCARD = "discard";
+    public static final String POLICY_DISCARD_OLDEST = "discardOldest";
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadPoolConfig.class);
+
+    private static final List<String> QUEUE_TYPES = Arrays.asList(QUEUE_LINKED, QUEUE_ARRAY, QUEUE_SYNCHRONOUS);
+    private static final List<String> REJECTION_POLICIES = Arrays.asList(POLICY_ABORT, POLICY_CALLER_RUNS,
+            POLICY_DISCARD, POLICY_DISCARD_OLDEST);
+
+    private static final long DEFAULT_KEEP_ALIVE_SECONDS = 60;
+    private static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+    private final String poolName;
+    private final int coreSize;
+    private final int maxSize;
+    private final long keepAliveSeconds;
+    private final String queueType;
+    private final int queueCapacity;
+    private final String rejectionPolicy;
+
+    /**
+     * Creates the configuration of a pool.
+     *
+     * @param poolName       name of the pool, used as the property prefix
+     * @param properties     configured properties
+     * @param defaultSize    pool size used when the size is not configured
+     * @param threadsPerCore pool size per processor used when auto sizing is enabled
+     */
+    public ThreadPoolConfig(String poolName, Properties properties, int defaultSize, int threadsPerCore) {
+        this.poolName = poolName;
+        if (SIZING_AUTO.equalsIgnoreCase(properties.getProperty(PROP_SIZING))) {
+            defaultSize = Runtime.getRuntime().availableProcessors() * threadsPerCore;
+        }
+
+        this.coreSize = getInt(properties, "coreSize", defaultSize, 1);
+        this.maxSize = Math.max(coreSize, getInt(properties, "maxSize", coreSize, 1));
+        this.keepAliveSeconds = getInt(properties, "keepAliveSeconds", (int) DEFAULT_KEEP_ALIVE_SECONDS, 0);
+        this.queueType = getOption(properties, "queue", QUEUE_LINKED, QUEUE_TYPES);
+        this.queueCapacity = getInt(properties, "queueCapacity", DEFAULT_QUEUE_CAPACITY, 1);
+        this.rejectionPolicy = getOption(properties, "rejectionPolicy", POLICY_ABORT, REJECTION_POLICIES);
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getCoreSize() {
+        return coreSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getKeepAliveSeconds() {
+        return keepAliveSeconds;
+    }
+
+    public String getQueueType() {
+        return queueType;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public String getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    BlockingQueue<Runnable> createQueue() {
+        switch (queueType) {
+            case QUEUE_ARRAY:
+                return new ArrayBlockingQueue<>(queueCapacity);
+            case QUEUE_SYNCHRONOUS:
+                return new SynchronousQueue<>();
+            default:
+                return new LinkedBlockingQueue<>();
+        }
+    }
+
+    RejectedExecutionHandler createRejectionHandler() {
+        switch (rejectionPolicy) {
+            case POLICY_CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case POLICY_DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case POLICY_DISCARD_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    /**
+     * Loads the thread pool properties from the ballerina.conf file and system properties.
+     *
+     * @return thread pool properties
+     */
+    public static Properties loadProperties() {
+        Properties properties = new Properties();
+        Path confFilePath = getConfFilePath();
+        if (confFilePath != null && Files.isRegularFile(confFilePath)) {
+            try (InputStream inputStream = Files.newInputStream(confFilePath)) {
+                properties.load(inputStream);
+            } catch (IOException e) {
+                log.warn("error reading " + confFilePath + ", using the default thread pool settings: " +
+                        e.getMessage());
+            }
+        }
+
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(PROP_PREFIX)) {
+                properties.setProperty(key, System.getProperty(key));
+            }
+        }
+        return properties;
+    }
+
+    private static Path getConfFilePath() {
+        String confFile = System.getProperty(SYSTEM_PROP_CONF_FILE);
+        if (confFile != null) {
+            return Paths.get(confFile);
+        }
+
+        String ballerinaHome = System.getProperty("ballerina.home");
+        return ballerinaHome != null ? Paths.get(ballerinaHome, "conf", "ballerina.conf") : null;
+    }
+
+    private String getString(Properties properties, String setting, String defaultValue) {
+        String value = properties.getProperty(PROP_PREFIX + poolName + "." + setting);
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    private int getInt(Properties properties, String setting, int defaultValue, int minValue) {
+        String value = getString(properties, setting, null);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int intValue = Integer.parseInt(value);
+            if (intValue >= minValue) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        warnInvalidValue(setting, value, String.valueOf(defaultValue));
+        return defaultValue;
+    }
+
+    private String getOption(Properties properties, String setting, String defaultValue, List<String> options) {
+        String value = getString(properties, setting, defaultValue);
+        if (options.contains(value)) {
+            return value;
+        }
+        warnInvalidValue(setting, value, defaultValue);
+        return defaultValue;
+    }
+
+    private void warnInvalidValue(String setting, String value, String defaultValue) {
+        log.warn("invalid value '" + value + "' for thread pool property '" + PROP_PREFIX + poolName + "." +
+                setting + "', using the default value '" + defaultValue + "'");
+    }
+
+    @Override
+    public String toString() {
+        return poolName + " [coreSize=" + coreSize + ", maxSize=" + maxSize + ", keepAliveSeconds=" +
+                keepAliveSeconds + ", queue=" + queueType + ", queueCapacity=" + queueCapacity +
+                ", rejectionPolicy=" + rejectionPolicy + "]";
+    }
+}
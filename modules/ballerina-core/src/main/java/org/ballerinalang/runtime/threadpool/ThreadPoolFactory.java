@@ -18,30 +18,75 @@
 
 package org.ballerinalang.runtime.threadpool;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
+ * <p>
+ * Pools are configured through {@link ThreadPoolConfig} and registered in the platform MBean server as
+ * org.ballerinalang:type=ThreadPool,name=&lt;pool&gt;. In the virtual thread mode, each task runs on its own virtual
+ * thread instead, so that tasks blocked on I/O or on worker channels do not hold platform threads.
  *
  * @since 0.8.0
  */
 public class ThreadPoolFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(ThreadPoolFactory.class);
+
+    public static final String REQUEST_POOL = "request";
+    public static final String WORKER_POOL = "worker";
+    public static final String FORK_JOIN_POOL = "forkjoin";
+
     private static ThreadPoolFactory instance = new ThreadPoolFactory();
 
-    //TODO: Make the thread count configurable.
-    // Ideally number of threads need to be calculated and spawned intelligently
-    // based on the environment and runtime status (CPU Usage, memory, etc).
-    // A configuration parameter which is user configurable is also required.
-    // Issue#1929
-    private ExecutorService executorService =  Executors.newFixedThreadPool(500, new BLangThreadFactory("BLangWorker"));
+    private boolean virtualThreadsEnabled;
+
+    private ExecutorService executorService;
+
+    private ExecutorService workerExecutor;
 
-    //TODO: Make the number of threads configurable
-    private ExecutorService workerExecutor = Executors.newFixedThreadPool(100,
-            new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+    // Shared by all the fork/join statements. A fork/join nested within a fork/join branch holds a thread of this
+    // pool while waiting for its own branches, hence by default the pool hands each branch to a thread instead of
+    // queueing it, and grows beyond its core size when all the threads are waiting.
+    private ExecutorService forkJoinExecutor;
 
-    private ThreadPoolFactory(){};
+    // Fires the timeouts of actions which wait for a response without holding a thread
+    private final ScheduledExecutorService timeoutScheduler = createTimeoutScheduler();
+
+    private ThreadPoolFactory() {
+        Properties properties = ThreadPoolConfig.loadProperties();
+        if (Boolean.parseBoolean(properties.getProperty(ThreadPoolConfig.PROP_VIRTUAL_THREADS))) {
+            ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                virtualThreadsEnabled = true;
+                executorService = virtualThreadExecutor;
+                workerExecutor = virtualThreadExecutor;
+                forkJoinExecutor = virtualThreadExecutor;
+                return;
+            }
+            log.warn("virtual threads are not supported by this JVM, using platform thread pools");
+        }
+
+        executorService = createExecutor(new ThreadPoolConfig(REQUEST_POOL, properties, 500, 4),
+                new BLangThreadFactory("BLangWorker"));
+        workerExecutor = createExecutor(new ThreadPoolConfig(WORKER_POOL, properties, 100, 8),
+                new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+        forkJoinExecutor = createExecutor(createForkJoinPoolConfig(properties),
+                new BLangThreadFactory(new ThreadGroup("fork-join"), "fork-join-thread-pool"));
+    }
 
     public static ThreadPoolFactory getInstance() {
         return instance;
@@ -55,4 +100,76 @@ public class ThreadPoolFactory {
         return workerExecutor;
     }
 
+    public ExecutorService getForkJoinExecutor() {
+        return forkJoinExecutor;
+    }
+
+    public ScheduledExecutorService getTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Creates an executor which starts a virtual thread per task. Looked up reflectively, since virtual threads are
+     * only available on newer JVMs.
+     *
+     * @return virtual thread executor, or null if virtual threads are not available
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the configuration of the fork/join pool. Unless configured otherwise, the pool uses a synchronous
+     * queue and an unbounded maximum size, so that branches of nested fork/join statements never wait in the queue
+     * behind the branches which are waiting for them.
+     *
+     * @param properties configured properties
+     * @return configuration of the fork/join pool
+     */
+    static ThreadPoolConfig createForkJoinPoolConfig(Properties properties) {
+        String prefix = ThreadPoolConfig.PROP_PREFIX + FORK_JOIN_POOL + ".";
+        Properties forkJoinProperties = new Properties();
+        forkJoinProperties.setProperty(prefix + "queue", ThreadPoolConfig.QUEUE_SYNCHRONOUS);
+        forkJoinProperties.setProperty(prefix + "maxSize", String.valueOf(Integer.MAX_VALUE));
+        forkJoinProperties.putAll(properties);
+        return new ThreadPoolConfig(FORK_JOIN_POOL, forkJoinProperties, 100, 8);
+    }
+
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "BLangTimeout");
+            // Pending timeouts should not keep the JVM alive
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most timeouts are cancelled once the response arrives, hence they are not kept until they expire
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static ExecutorService createExecutor(ThreadPoolConfig config, ThreadFactory threadFactory) {
+        BLangThreadPoolExecutor executor = new BLangThreadPoolExecutor(config, threadFactory);
+        try {
+            ObjectName objectName = new ObjectName("org.ballerinalang:type=ThreadPool,name=" + config.getPoolName());
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(executor, objectName);
+            }
+        } catch (JMException e) {
+            log.warn("unable to register thread pool " + config.getPoolName() + " in JMX: " + e.getMessage());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("created thread pool " + config);
+        }
+        return executor;
+    }
 }
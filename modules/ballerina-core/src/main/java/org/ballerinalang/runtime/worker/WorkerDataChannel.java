@@ -21,49 +21,95 @@ import org.ballerinalang.model.types.BType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 /**
  * This is the main class which used as the data channel for worker to worker data communication.
+ * <p>
+ * A channel has a single sending worker and a single receiving worker. The receiver parks until data is handed over
+ * by the sender, instead of polling a blocking queue. Channels created by the compiler describe the interactions of
+ * a callable unit; the channels used at runtime are created per invocation by {@link WorkerDataChannels}.
  */
 public class WorkerDataChannel {
 
+    private static final long TAKE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
     private String source;
     private String target;
-    private BlockingQueue<Object[]> channel;
-    private BType[] types;
+    private final Queue<Object[]> channel;
+    private volatile Thread receiver;
+    private volatile BType[] types;
     private static final Logger log = LoggerFactory.getLogger(WorkerDataChannel.class);
 
     public WorkerDataChannel(String source, String target) {
         this.source = source;
         this.target = target;
-        this.channel =  new LinkedBlockingQueue<>();
+        this.channel = new ConcurrentLinkedQueue<>();
     }
 
     public void putData(Object[] data) {
-        try {
-            if (data != null) {
-                channel.put(data);
-            }
-        } catch (InterruptedException e) {
-            // Handle the error properly
-            log.error("Error occurred when inserting data to the channel");
+        if (data != null) {
+            channel.offer(data);
+            wakeUpReceiver();
         }
     }
 
     public Object[] takeData() {
-        Object[] data = null;
+        return takeData(() -> false);
+    }
+
+    /**
+     * Takes the data sent to this channel, waiting until the data arrives, the wait times out or the receiver is
+     * cancelled. A receiver which is cancelled from another thread has to be woken up with {@link #wakeUpReceiver()}.
+     *
+     * @param cancelled whether the receiving worker has been cancelled
+     * @return the data sent to this channel, or null if no data arrived
+     */
+    public Object[] takeData(BooleanSupplier cancelled) {
+        Object[] data = channel.poll();
+        if (data != null) {
+            return data;
+        }
+
+        Thread currentThread = Thread.currentThread();
+        long deadline = System.nanoTime() + TAKE_TIMEOUT_NANOS;
+        receiver = currentThread;
         try {
-            data = channel.poll(60, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            // Handle the error properly
-            log.error("Error occurred when taking data from the channel");
+            while ((data = channel.poll()) == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    log.error("Timed out while taking data from the channel " + getChannelName());
+                    break;
+                }
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+                if (currentThread.isInterrupted()) {
+                    log.error("Error occurred when taking data from the channel " + getChannelName());
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+        } finally {
+            receiver = null;
         }
         return data;
     }
 
+    /**
+     * Wakes up the receiver waiting on this channel, if any, so that it checks whether it has been cancelled.
+     */
+    public void wakeUpReceiver() {
+        Thread waitingReceiver = receiver;
+        if (waitingReceiver != null) {
+            LockSupport.unpark(waitingReceiver);
+        }
+    }
+
     public String getChannelName() {
         return source + "->" + target;
     }
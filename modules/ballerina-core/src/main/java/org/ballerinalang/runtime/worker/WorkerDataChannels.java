@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code WorkerDataChannels} holds the data channels of the workers of a single callable unit invocation.
+ * <p>
+ * The worker interaction statements refer to the channels created by the compiler, which are shared by all the
+ * invocations of a callable unit. Each invocation maps them to its own channels, so that concurrent invocations do
+ * not exchange data with each other.
+ *
+ * @since 0.88
+ */
+public class WorkerDataChannels {
+
+    // Keyed by the identity of the compiler created channels
+    private final Map<WorkerDataChannel, WorkerDataChannel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the channel of this invocation for the given compiler created channel.
+     *
+     * @param channelRef channel referred by a worker interaction statement
+     * @return channel of this invocation
+     */
+    public WorkerDataChannel getChannel(WorkerDataChannel channelRef) {
+        WorkerDataChannel channel = channels.get(channelRef);
+        if (channel == null) {
+            channel = channels.computeIfAbsent(channelRef,
+                    ref -> new WorkerDataChannel(ref.getSource(), ref.getTarget()));
+        }
+        return channel;
+    }
+}
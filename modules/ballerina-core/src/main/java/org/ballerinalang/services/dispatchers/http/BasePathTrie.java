@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.services.dispatchers.http;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code BasePathTrie} is an immutable prefix tree of the service base paths registered on an interface.
+ * <p>
+ * Base paths are matched segment by segment, ignoring case and repeated slashes. A request path is dispatched to the
+ * service with the longest base path which is a segment prefix of it, and to the "/" service if there is no such
+ * base path. Matching does not allocate: segments are compared in place within the request path.
+ *
+ * @since 0.88
+ */
+public class BasePathTrie {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+
+    public BasePathTrie(Collection<String> basePaths) {
+        BuilderNode rootBuilder = new BuilderNode();
+        for (String basePath : basePaths) {
+            BuilderNode builder = rootBuilder;
+            for (String segment : basePath.split(String.valueOf(PATH_DELIMITER))) {
+                if (!segment.isEmpty()) {
+                    builder = builder.children.computeIfAbsent(segment.toLowerCase(Locale.ENGLISH),
+                            key -> new BuilderNode());
+                }
+            }
+            builder.basePath = basePath;
+        }
+        this.root = rootBuilder.build(null);
+    }
+
+    /**
+     * Find the base path of the service which should handle the given request path.
+     *
+     * @param path request path, without the query
+     * @return the most specific matching base path, or null if no service matches
+     */
+    public String match(String path) {
+        Node node = root;
+        String basePath = root.basePath;
+        int length = path.length();
+        int start = 0;
+        while (node.children.length > 0) {
+            while (start < length && path.charAt(start) == PATH_DELIMITER) {
+                start++;
+            }
+            if (start == length) {
+                break;
+            }
+
+            int end = start;
+            int hash = 0;
+            while (end < length && path.charAt(end) != PATH_DELIMITER) {
+                hash = 31 * hash + fold(path.charAt(end));
+                end++;
+            }
+
+            node = node.getChild(path, start, end - start, hash);
+            if (node == null) {
+                break;
+            }
+            if (node.basePath != null) {
+                basePath = node.basePath;
+            }
+            start = end;
+        }
+        return basePath;
+    }
+
+    private static char fold(char c) {
+        // Same folding as String.regionMatches with ignoreCase
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int hash(String segment) {
+        int hash = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            hash = 31 * hash + fold(segment.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Node of the trie. Children are sorted by the hash of their segment.
+     */
+    private static class Node {
+        private final String segment;
+        private final String basePath;
+        private final int[] hashes;
+        private final Node[] children;
+
+        Node(String segment, String basePath, int[] hashes, Node[] children) {
+            this.segment = segment;
+            this.basePath = basePath;
+            this.hashes = hashes;
+            this.children = children;
+        }
+
+        Node getChild(String path, int start, int length, int hash) {
+            int index = Arrays.binarySearch(hashes, hash);
+            if (index < 0) {
+                return null;
+            }
+
+            // Step back to the first child with the same hash
+            while (index > 0 && hashes[index - 1] == hash) {
+                index--;
+            }
+            for (; index < hashes.length && hashes[index] == hash; index++) {
+                Node child = children[index];
+                if (child.segment.length() == length &&
+                        path.regionMatches(true, start, child.segment, 0, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable node used while building the trie.
+     */
+    private static class BuilderNode {
+        private final Map<String, BuilderNode> children = new LinkedHashMap<>();
+        private String basePath;
+
+        Node build(String segment) {
+            if (children.isEmpty()) {
+                return new Node(segment, basePath, new int[0], NO_CHILDREN);
+            }
+
+            Node[] childNodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<String, BuilderNode> entry : children.entrySet()) {
+                childNodes[i++] = entry.getValue().build(entry.getKey());
+            }
+            Arrays.sort(childNodes, (n1, n2) -> Integer.compare(hash(n1.segment), hash(n2.segment)));
+
+            int[] hashes = new int[childNodes.length];
+            for (int j = 0; j < childNodes.length; j++) {
+                hashes[j] = hash(childNodes[j].segment);
+            }
+            return new Node(segment, basePath, hashes, childNodes);
+        }
+    }
+}
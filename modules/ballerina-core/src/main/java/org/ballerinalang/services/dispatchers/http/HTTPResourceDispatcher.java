@@ -51,16 +51,13 @@ public class HTTPResourceDispatcher implements ResourceDispatcher {
 
         try {
             Map<String, String> resourceArgumentValues = new HashMap<>();
-            Map<String, String> requestDetails = new HashMap<>();
-            requestDetails.put(Constants.HTTP_METHOD, method);
-
-            ResourceInfo resource = service.getUriTemplate().matches(subPath, requestDetails,
-                    resourceArgumentValues);
+            ResourceInfo resource = service.getUriTemplate().matches(subPath, method, resourceArgumentValues);
             if (resource != null) {
-                if (cMsg.getProperty(Constants.QUERY_STR) != null) {
-                    QueryParamProcessor.processQueryParams
-                            ((String) cMsg.getProperty(Constants.QUERY_STR))
-                            .forEach((resourceArgumentValues::put));
+                // Only the query parameters bound to resource parameters are decoded
+                String queryStr = (String) cMsg.getProperty(Constants.QUERY_STR);
+                String[] paramNames = resource.getParamNames();
+                if (queryStr != null && paramNames != null && paramNames.length > 1) {
+                    QueryParamProcessor.processQueryParams(queryStr, paramNames, resourceArgumentValues);
                 }
                 cMsg.setProperty(org.ballerinalang.runtime.Constants.RESOURCE_ARGS, resourceArgumentValues);
                 return resource;
@@ -33,8 +33,8 @@ import org.wso2.carbon.messaging.CarbonCallback;
 import org.wso2.carbon.messaging.CarbonMessage;
 
 import java.net.URI;
-import java.util.Arrays;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Service Dispatcher for HTTP Protocol.
@@ -45,6 +45,8 @@ public class HTTPServiceDispatcher implements ServiceDispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(HTTPServiceDispatcher.class);
 
+    private static final Pattern MULTIPLE_SLASHES = Pattern.compile("//+");
+
     @Deprecated
     public Service findService(CarbonMessage cMsg, CarbonCallback callback, Context balContext) {
         return null;
@@ -69,20 +71,23 @@ public class HTTPServiceDispatcher implements ServiceDispatcher {
             String interfaceId = getInterface(cMsg);
             Map<String, ServiceInfo> servicesOnInterface = HTTPServicesRegistry
                     .getInstance().getServicesInfoByInterface(interfaceId);
-            if (servicesOnInterface == null) {
+            BasePathTrie basePathTrie = HTTPServicesRegistry.getInstance().getBasePathTrie(interfaceId);
+            if (servicesOnInterface == null || basePathTrie == null) {
                 throw new BallerinaException("No services found for interface : " + interfaceId);
             }
             String uriStr = (String) cMsg.getProperty(org.wso2.carbon.messaging.Constants.TO);
             //replace multiple slashes from single slash if exist in request path to enable
             // dispatchers when request path contains multiple slashes
-            URI requestUri = URI.create(uriStr.replaceAll("//+", Constants.DEFAULT_BASE_PATH));
+            if (uriStr.contains("//")) {
+                uriStr = MULTIPLE_SLASHES.matcher(uriStr).replaceAll(Constants.DEFAULT_BASE_PATH);
+            }
+            URI requestUri = URI.create(uriStr);
             if (requestUri == null) {
                 throw new BallerinaException("uri not found in the message or found an invalid URI.");
             }
 
-            // Most of the time we will find service from here
-            String basePath = findTheMostSpecificBasePath(requestUri.getPath(), servicesOnInterface);
-            ServiceInfo service = servicesOnInterface.get(basePath);
+            String basePath = basePathTrie.match(requestUri.getPath());
+            ServiceInfo service = basePath == null ? null : servicesOnInterface.get(basePath);
             if (service == null) {
                 throw new BallerinaException("no service found to handle incoming request received to : " + uriStr);
             }
@@ -143,21 +148,4 @@ public class HTTPServiceDispatcher implements ServiceDispatcher {
 
         return interfaceId;
     }
-
-    private String findTheMostSpecificBasePath(String requestURIPath, Map<String, ServiceInfo> services) {
-        // TODO: Could improve the logic here with CopyOnWriteArray
-        Object[] keys = services.keySet().toArray();
-        Arrays.sort(keys, (o1, o2) -> o2.toString().length() - o1.toString().length());
-
-        for (Object key : keys) {
-            if (requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                return key.toString();
-            }
-        }
-
-        if (services.containsKey(Constants.DEFAULT_BASE_PATH)) {
-            return Constants.DEFAULT_BASE_PATH;
-        }
-        return null;
-    }
 }
@@ -49,6 +49,8 @@ public class HTTPServicesRegistry {
     @Deprecated
     private final Map<String, Map<String, Service>> servicesMap = new ConcurrentHashMap<>();
     private final Map<String, Map<String, ServiceInfo>> servicesInfoMap = new ConcurrentHashMap<>();
+    // Base paths of servicesInfoMap per interface, rebuilt whenever a service is registered or unregistered
+    private final Map<String, BasePathTrie> basePathTries = new ConcurrentHashMap<>();
 
     private static final HTTPServicesRegistry servicesRegistry = new HTTPServicesRegistry();
 
@@ -230,6 +232,16 @@ public class HTTPServicesRegistry {
         return servicesInfoMap.get(interfaceId);
     }
 
+    /**
+     * Get the base path trie of the services registered on the given interfaceId.
+     *
+     * @param interfaceId interface id of the services.
+     * @return the base path trie if services exist else null.
+     */
+    public BasePathTrie getBasePathTrie(String interfaceId) {
+        return basePathTries.get(interfaceId);
+    }
+
     /**
      * Register a service into the map.
      *
@@ -273,6 +285,7 @@ public class HTTPServicesRegistry {
         }
 
         servicesOnInterface.put(basePath, service);
+        basePathTries.put(listenerInterface, new BasePathTrie(servicesOnInterface.keySet()));
 
         logger.info("Service deployed : " + service.getName() + " with context " + basePath);
     }
@@ -303,8 +316,10 @@ public class HTTPServicesRegistry {
         Map<String, ServiceInfo> servicesOnInterface = servicesInfoMap.get(listenerInterface);
         if (servicesOnInterface != null) {
             servicesOnInterface.remove(basePath);
+            basePathTries.put(listenerInterface, new BasePathTrie(servicesOnInterface.keySet()));
             if (servicesOnInterface.isEmpty()) {
                 servicesInfoMap.remove(listenerInterface);
+                basePathTries.remove(listenerInterface);
                 ServerConnector connector =
                         BallerinaConnectorManager.getInstance().getServerConnector(listenerInterface);
                 if (connector != null) {
@@ -44,4 +44,38 @@ public class QueryParamProcessor {
         }
         return queryParams;
     }
+
+    /**
+     * Add the values of the given query parameters to the given map. Other parameters in the query are skipped
+     * without being decoded.
+     *
+     * @param queryStr    query string of the request
+     * @param names       names of the parameters to be read
+     * @param queryParams map to which the parameter values are added
+     * @throws UnsupportedEncodingException if decoding fails
+     */
+    public static void processQueryParams(String queryStr, String[] names, Map<String, String> queryParams)
+            throws UnsupportedEncodingException {
+        int start = 0;
+        int length = queryStr.length();
+        while (start < length) {
+            int end = queryStr.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            int index = queryStr.indexOf('=', start);
+            if (index != -1 && index < end) {
+                int nameLength = index - start;
+                for (String name : names) {
+                    if (name != null && name.length() == nameLength &&
+                            queryStr.regionMatches(start, name, 0, nameLength)) {
+                        queryParams.put(name, URLDecoder.decode(queryStr.substring(index + 1, end), ENCODING));
+                        break;
+                    }
+                }
+            }
+            start = end + 1;
+        }
+    }
 }
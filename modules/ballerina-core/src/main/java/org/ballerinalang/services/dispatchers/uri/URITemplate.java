@@ -18,11 +18,16 @@
 
 package org.ballerinalang.services.dispatchers.uri;
 
+import org.ballerinalang.services.dispatchers.http.Constants;
 import org.ballerinalang.services.dispatchers.uri.parser.Node;
 import org.ballerinalang.services.dispatchers.uri.parser.URITemplateParser;
 import org.ballerinalang.util.codegen.ResourceInfo;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Basic URI Template implementation.
@@ -33,6 +38,12 @@ public class URITemplate {
 
     private Node syntaxTree;
 
+    // Templates and resources parsed so far, compiled into a matcher per HTTP method when every template is simple
+    private final List<String> templates = new ArrayList<>();
+    private final List<ResourceInfo> resources = new ArrayList<>();
+    private volatile boolean compilable = true;
+    private final Map<String, URITemplateMatcher> matchers = new ConcurrentHashMap<>();
+
     public URITemplate(Node syntaxTree) {
         this.syntaxTree = syntaxTree;
     }
@@ -45,11 +56,43 @@ public class URITemplate {
         return syntaxTree.matchAll(uri, requestDetails, variables, 0);
     }
 
+    /**
+     * Find the resource matching the given path and HTTP method.
+     *
+     * @param uri        request path relative to the service base path
+     * @param httpMethod HTTP method of the request
+     * @param variables  map to which the path variables of the matched resource are added
+     * @return the matched resource, or null if there is no match
+     */
+    public ResourceInfo matches(String uri, String httpMethod, Map<String, String> variables) {
+        if (!compilable || httpMethod == null) {
+            Map<String, String> requestDetails = new HashMap<>();
+            requestDetails.put(Constants.HTTP_METHOD, httpMethod);
+            return matches(uri, requestDetails, variables);
+        }
+
+        URITemplateMatcher matcher = matchers.get(httpMethod);
+        if (matcher == null) {
+            synchronized (this) {
+                matcher = matchers.computeIfAbsent(httpMethod,
+                        method -> URITemplateMatcher.compile(templates, resources, method));
+            }
+        }
+        return matcher.match(uri, variables);
+    }
+
     public void parse(String uriTemplate, ResourceInfo resource) throws URITemplateException {
         uriTemplate = removeTheFirstAndLastBackSlash(uriTemplate);
 
         URITemplateParser parser = new URITemplateParser(syntaxTree);
         parser.parse(uriTemplate, resource);
+
+        synchronized (this) {
+            templates.add(uriTemplate);
+            resources.add(resource);
+            compilable = compilable && URITemplateMatcher.isCompilable(uriTemplate);
+            matchers.clear();
+        }
     }
 
     public String removeTheFirstAndLastBackSlash(String template) {
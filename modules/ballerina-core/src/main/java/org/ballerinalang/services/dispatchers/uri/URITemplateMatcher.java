@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.services.dispatchers.uri;
+
+import org.ballerinalang.services.dispatchers.http.Constants;
+import org.ballerinalang.util.codegen.ResourceInfo;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code URITemplateMatcher} is a flat state machine compiled from the URI templates of the resources of a service,
+ * for a single HTTP method.
+ * <p>
+ * Only templates made of literal segments and simple variable segments such as {id} are compiled. Each state has the
+ * literal and variable transitions for the next path segment and the resource accepted at that state. Literal
+ * transitions are tried before variable transitions, as in the {@link URITemplate} syntax tree. Variable values are
+ * captured as offsets into the request path and decoded only for the matched resource.
+ *
+ * @since 0.88
+ */
+public class URITemplateMatcher {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private static final String[] HTTP_METHODS = {"GET", "PUT", "POST", "DELETE", "OPTIONS", "HEAD"};
+
+    private static final char[] RESERVED = new char[] {
+            ':', '/', '?', '#', '[', ']', '@', '!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '='
+    };
+
+    private static final char[] OPERATORS = new char[] { '+', '.', '/', ';', '?', '&', '#' };
+
+    // Transitions and accepted resource of each state. State 0 is the start state
+    private final String[][] literals;
+    private final int[][] literalTargets;
+    private final String[][] variableNames;
+    private final int[][] variableTargets;
+    private final ResourceInfo[] resources;
+
+    // Maximum number of variables in a template
+    private final int maxVariables;
+
+    private URITemplateMatcher(List<State> states, int maxVariables) {
+        int stateCount = states.size();
+        this.literals = new String[stateCount][];
+        this.literalTargets = new int[stateCount][];
+        this.variableNames = new String[stateCount][];
+        this.variableTargets = new int[stateCount][];
+        this.resources = new ResourceInfo[stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            State state = states.get(i);
+            literals[i] = state.literals.toArray(new String[0]);
+            literalTargets[i] = toArray(state.literalTargets);
+            variableNames[i] = state.variableNames.toArray(new String[0]);
+            variableTargets[i] = toArray(state.variableTargets);
+            resources[i] = state.resource;
+        }
+        this.maxVariables = maxVariables;
+    }
+
+    /**
+     * Check whether the given template can be compiled.
+     *
+     * @param template URI template without the leading and trailing slashes
+     * @return true if the template is made of literal and simple variable segments only
+     */
+    public static boolean isCompilable(String template) {
+        Set<String> names = new HashSet<>();
+        for (String segment : template.split(String.valueOf(PATH_DELIMITER))) {
+            if (segment.indexOf('{') < 0) {
+                if (segment.indexOf('}') >= 0 || segment.indexOf('*') >= 0) {
+                    return false;
+                }
+            } else if (!isVariableSegment(segment) || !names.add(segment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compile the templates of the resources which accept the given HTTP method.
+     *
+     * @param templates  URI templates as accepted by {@link #isCompilable(String)}
+     * @param resources  resource of each template
+     * @param httpMethod HTTP method of the requests
+     * @return compiled matcher
+     */
+    public static URITemplateMatcher compile(List<String> templates, List<ResourceInfo> resources,
+                                             String httpMethod) {
+        List<State> states = new ArrayList<>();
+        states.add(new State());
+        int maxVariables = 0;
+        for (int i = 0; i < templates.size(); i++) {
+            ResourceInfo resource = resources.get(i);
+            int priority = getPriority(resource, httpMethod);
+            if (priority == 0) {
+                continue;
+            }
+
+            int state = 0;
+            int variables = 0;
+            for (String segment : templates.get(i).split(String.valueOf(PATH_DELIMITER))) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+
+                State current = states.get(state);
+                boolean variable = segment.charAt(0) == '{';
+                String token = variable ? segment.substring(1, segment.length() - 1) : segment;
+                List<String> tokens = variable ? current.variableNames : current.literals;
+                List<Integer> targets = variable ? current.variableTargets : current.literalTargets;
+                int index = tokens.indexOf(token);
+                if (index < 0) {
+                    tokens.add(token);
+                    targets.add(states.size());
+                    states.add(new State());
+                    index = tokens.size() - 1;
+                }
+                state = targets.get(index);
+                if (variable) {
+                    variables++;
+                }
+            }
+
+            State accepting = states.get(state);
+            if (priority > accepting.priority) {
+                accepting.resource = resource;
+                accepting.priority = priority;
+            }
+            maxVariables = Math.max(maxVariables, variables);
+        }
+        return new URITemplateMatcher(states, maxVariables);
+    }
+
+    /**
+     * Find the resource matching the given path.
+     *
+     * @param path      request path relative to the service base path
+     * @param variables map to which the path variables of the matched resource are added
+     * @return the matched resource, or null if there is no match
+     */
+    public ResourceInfo match(String path, Map<String, String> variables) {
+        int[] captures = maxVariables == 0 ? null : new int[maxVariables * 2];
+        String[] names = maxVariables == 0 ? null : new String[maxVariables];
+        return match(path, 0, 0, captures, names, 0, variables);
+    }
+
+    private ResourceInfo match(String path, int start, int state, int[] captures, String[] names, int captureCount,
+                               Map<String, String> variables) {
+        int length = path.length();
+        if (start < length && path.charAt(start) == PATH_DELIMITER) {
+            start++;
+        }
+
+        if (start >= length) {
+            ResourceInfo resource = resources[state];
+            if (resource != null) {
+                for (int i = 0; i < captureCount; i++) {
+                    variables.put(names[i], decode(path.substring(captures[i * 2], captures[i * 2 + 1])));
+                }
+            }
+            return resource;
+        }
+
+        int end = path.indexOf(PATH_DELIMITER, start);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - start;
+
+        String[] stateLiterals = literals[state];
+        for (int i = 0; i < stateLiterals.length; i++) {
+            String literal = stateLiterals[i];
+            if (literal.length() == segmentLength && path.regionMatches(start, literal, 0, segmentLength)) {
+                ResourceInfo resource = match(path, end, literalTargets[state][i], captures, names,
+                        captureCount, variables);
+                if (resource != null) {
+                    return resource;
+                }
+            }
+        }
+
+        int[] stateVariableTargets = variableTargets[state];
+        if (stateVariableTargets.length > 0 && isValidValue(path, start, end)) {
+            captures[captureCount * 2] = start;
+            captures[captureCount * 2 + 1] = end;
+            for (int i = 0; i < stateVariableTargets.length; i++) {
+                names[captureCount] = variableNames[state][i];
+                ResourceInfo resource = match(path, end, stateVariableTargets[i], captures, names,
+                        captureCount + 1, variables);
+                if (resource != null) {
+                    return resource;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int getPriority(ResourceInfo resource, String httpMethod) {
+        if (resource.getAnnotationAttachmentInfo(Constants.HTTP_PACKAGE_PATH, httpMethod) != null) {
+            return 2;
+        }
+
+        // Resources without a method annotation handle GET requests, if no other resource does
+        if ("GET".equalsIgnoreCase(httpMethod)) {
+            for (String method : HTTP_METHODS) {
+                if (resource.getAnnotationAttachmentInfo(Constants.HTTP_PACKAGE_PATH, method) != null) {
+                    return 0;
+                }
+            }
+            return 1;
+        }
+        return 0;
+    }
+
+    private static boolean isVariableSegment(String segment) {
+        if (segment.length() < 4 || segment.charAt(0) != '{' || segment.charAt(segment.length() - 1) != '}') {
+            return false;
+        }
+
+        for (char operator : OPERATORS) {
+            if (segment.charAt(1) == operator) {
+                return false;
+            }
+        }
+        for (int i = 1; i < segment.length() - 1; i++) {
+            char ch = segment.charAt(i);
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') ||
+                    ch == '.' || ch == '-' || ch == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidValue(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = path.charAt(i);
+            for (char reserved : RESERVED) {
+                if (ch == reserved) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('%') < 0) {
+            return value;
+        }
+
+        try {
+            return URLDecoder.decode(value, QueryParamProcessor.ENCODING);
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Error while decoding value: " + value, e);
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Mutable state used while compiling.
+     */
+    private static class State {
+        private final List<String> literals = new ArrayList<>();
+        private final List<Integer> literalTargets = new ArrayList<>();
+        private final List<String> variableNames = new ArrayList<>();
+        private final List<Integer> variableTargets = new ArrayList<>();
+        private ResourceInfo resource;
+        private int priority;
+    }
+}
@@ -18,14 +18,20 @@
 
 package org.ballerinalang.services.dispatchers.ws;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 import javax.websocket.Session;
 
 /**
  * This contains all the sessions which are received via a {@link org.wso2.carbon.messaging.CarbonMessage}.
+ * <p>
+ * The broadcast lists, groups and store names each session belongs to are also indexed by the session ID, so
+ * that a closed session is removed only from the places it was added to.
  */
 public class WebSocketConnectionManager {
 
@@ -35,6 +41,9 @@ public class WebSocketConnectionManager {
     private final Map<String, Map<String, Session>> connectionGroups = new ConcurrentHashMap<>();
     // Map<NameToStoreConnection, Session>
     private final Map<String, Session> connectionStore = new ConcurrentHashMap<>();
+    // Map<sessionId, memberships of the session>
+    private final Map<String, Memberships> memberships = new ConcurrentHashMap<>();
+    private final WebSocketFanout fanout = new WebSocketFanout(this);
 
     private static final WebSocketConnectionManager sessionManager = new WebSocketConnectionManager();
 
@@ -52,13 +61,9 @@ public class WebSocketConnectionManager {
      * @param session {@link Session} to add to the broadcast group.
      */
     public void addConnectionToBroadcast(String serviceName, Session session) {
-        if (broadcastSessions.containsKey(serviceName)) {
-            broadcastSessions.get(serviceName).put(session.getId(), session);
-        } else {
-            Map<String, Session> sessionMap = new ConcurrentHashMap<>();
-            sessionMap.put(session.getId(), session);
-            broadcastSessions.put(serviceName, sessionMap);
-        }
+        broadcastSessions.computeIfAbsent(serviceName, key -> new ConcurrentHashMap<>())
+                .put(session.getId(), session);
+        addMembership(session.getId(), m -> m.broadcasts.add(serviceName));
     }
 
     /**
@@ -69,25 +74,49 @@ public class WebSocketConnectionManager {
      * @param session {@link Session} to remove from the broadcast group.
      */
     public void removeConnectionFromBroadcast(String serviceName, Session session) {
-        if (broadcastSessions.containsKey(serviceName)) {
-            broadcastSessions.get(serviceName).remove(session.getId());
+        Map<String, Session> sessionMap = broadcastSessions.get(serviceName);
+        if (sessionMap != null) {
+            sessionMap.remove(session.getId());
         }
+        removeMembership(session.getId(), m -> m.broadcasts.remove(serviceName));
+    }
+
+    /**
+     * Get the Sessions for broadcasting for a given service.
+     *
+     * @param serviceName name of the service.
+     * @return a read-only view of the sessions which are connected to a given service.
+     */
+    public Collection<Session> getBroadcastConnectionList(String serviceName) {
+        Map<String, Session> sessionMap = broadcastSessions.get(serviceName);
+        return sessionMap == null ? null : Collections.unmodifiableCollection(sessionMap.values());
     }
 
     /**
-     * Get a list of Sessions for broadcasting for a given service.
+     * Get the number of sessions connected to a given service.
      *
      * @param serviceName name of the service.
-     * @return the list of sessions which are connected to a given service.
-     */
-    public List<Session> getBroadcastConnectionList(String serviceName) {
-        if (broadcastSessions.containsKey(serviceName)) {
-            return broadcastSessions.get(serviceName).entrySet().stream()
-                    .map(Map.Entry::getValue)
-                    .collect(Collectors.toList());
-        } else {
-            return null;
+     * @return number of sessions in the broadcast list of the service.
+     */
+    public int getBroadcastConnectionCount(String serviceName) {
+        Map<String, Session> sessionMap = broadcastSessions.get(serviceName);
+        return sessionMap == null ? 0 : sessionMap.size();
+    }
+
+    /**
+     * Send text to all the sessions connected to a given service, without waiting for the text to be sent.
+     *
+     * @param serviceName name of the service.
+     * @param text text to send.
+     * @return false if there is no broadcast list for the service.
+     */
+    public boolean broadcastText(String serviceName, String text) {
+        Map<String, Session> sessionMap = broadcastSessions.get(serviceName);
+        if (sessionMap == null) {
+            return false;
         }
+        fanout.sendText(serviceName, sessionMap.values(), text);
+        return true;
     }
 
     /**
@@ -97,13 +126,9 @@ public class WebSocketConnectionManager {
      * @param session {@link Session} to remove from the broadcast group.
      */
     public void addConnectionToGroup(String groupName, Session session) {
-        if (connectionGroups.containsKey(groupName)) {
-            connectionGroups.get(groupName).put(session.getId(), session);
-        } else {
-            Map<String, Session> sessionMap = new ConcurrentHashMap<>();
-            sessionMap.put(session.getId(), session);
-            connectionGroups.put(groupName, sessionMap);
-        }
+        connectionGroups.computeIfAbsent(groupName, key -> new ConcurrentHashMap<>())
+                .put(session.getId(), session);
+        addMembership(session.getId(), m -> m.groups.add(groupName));
     }
 
     /**
@@ -115,9 +140,11 @@ public class WebSocketConnectionManager {
      */
     public void removeConnectionFromGroup(String groupName, Session session) {
         // TODO: Throw exception if it is not there.
-        if (connectionGroups.containsKey(groupName)) {
-            connectionGroups.get(groupName).remove(session.getId());
+        Map<String, Session> sessionMap = connectionGroups.get(groupName);
+        if (sessionMap != null) {
+            sessionMap.remove(session.getId());
         }
+        removeMembership(session.getId(), m -> m.groups.remove(groupName));
     }
 
     /**
@@ -126,23 +153,67 @@ public class WebSocketConnectionManager {
      * @param groupName name of the group.
      */
     public void removeConnectionGroup(String groupName) {
-        connectionGroups.remove(groupName);
+        Map<String, Session> sessionMap = connectionGroups.remove(groupName);
+        if (sessionMap != null) {
+            sessionMap.keySet().forEach(sessionId -> removeMembership(sessionId, m -> m.groups.remove(groupName)));
+        }
+        fanout.removeStats(groupName);
+    }
+
+    /**
+     * Get the connections which belongs to a specific group.
+     *
+     * @param groupName name of the connection group.
+     * @return a read-only view of the connections belongs to the mentioned group name.
+     */
+    public Collection<Session> getConnectionGroup(String groupName) {
+        Map<String, Session> sessionMap = connectionGroups.get(groupName);
+        return sessionMap == null ? null : Collections.unmodifiableCollection(sessionMap.values());
+    }
+
+    /**
+     * Get the number of connections which belongs to a specific group.
+     *
+     * @param groupName name of the connection group.
+     * @return number of connections in the group.
+     */
+    public int getConnectionGroupSize(String groupName) {
+        Map<String, Session> sessionMap = connectionGroups.get(groupName);
+        return sessionMap == null ? 0 : sessionMap.size();
+    }
+
+    /**
+     * Get the number of connection groups.
+     *
+     * @return number of connection groups.
+     */
+    public int getConnectionGroupCount() {
+        return connectionGroups.size();
     }
 
     /**
-     * Get the list of the connections which belongs to a specific group.
+     * Send text to all the sessions of a group, without waiting for the text to be sent.
      *
      * @param groupName name of the connection group.
-     * @return a list of connections belongs to the mentioned group name.
-     */
-    public List<Session> getConnectionGroup(String groupName) {
-        if (connectionGroups.containsKey(groupName)) {
-            return connectionGroups.get(groupName).entrySet().stream()
-                    .map(Map.Entry::getValue)
-                    .collect(Collectors.toList());
-        } else {
-            return null;
+     * @param text text to send.
+     * @return false if there is no group with the given name.
+     */
+    public boolean pushTextToGroup(String groupName, String text) {
+        Map<String, Session> sessionMap = connectionGroups.get(groupName);
+        if (sessionMap == null) {
+            return false;
         }
+        fanout.sendText(groupName, sessionMap.values(), text);
+        return true;
+    }
+
+    /**
+     * Get the {@link WebSocketFanout} which sends text to broadcast lists and groups.
+     *
+     * @return the {@link WebSocketFanout} of the connection manager.
+     */
+    public WebSocketFanout getFanout() {
+        return fanout;
     }
 
     /**
@@ -152,7 +223,11 @@ public class WebSocketConnectionManager {
      * @param session {@link Session} to store.
      */
     public void storeConnection(String connectionName, Session session) {
-        connectionStore.put(connectionName, session);
+        addMembership(session.getId(), m -> m.storeNames.add(connectionName));
+        Session previous = connectionStore.put(connectionName, session);
+        if (previous != null && !previous.getId().equals(session.getId())) {
+            removeMembership(previous.getId(), m -> m.storeNames.remove(connectionName));
+        }
     }
 
     /**
@@ -161,7 +236,19 @@ public class WebSocketConnectionManager {
      * @param connectionName connection name which should be removed from the store.
      */
     public void removeConnectionFromStore(String connectionName) {
-        connectionStore.remove(connectionName);
+        Session session = connectionStore.remove(connectionName);
+        if (session != null) {
+            removeMembership(session.getId(), m -> m.storeNames.remove(connectionName));
+        }
+    }
+
+    /**
+     * Get the number of sessions which belong to at least one broadcast list, group or store name.
+     *
+     * @return number of tracked sessions.
+     */
+    public int getSessionCount() {
+        return memberships.size();
     }
 
     /**
@@ -182,21 +269,54 @@ public class WebSocketConnectionManager {
      * @param session {@link Session} which should be removed from all the places.
      */
     void removeConnectionFromAll(Session session) {
-        // Removing session from broadcast sessions map
-        broadcastSessions.entrySet().forEach(
-                entry -> entry.getValue().entrySet().removeIf(
-                        innerEntry -> innerEntry.getKey().equals(session.getId())
-                )
-        );
-        //Removing session from groups map
-        connectionGroups.entrySet().forEach(
-                entry -> entry.getValue().entrySet().removeIf(
-                        innerEntry -> innerEntry.getKey().equals(session.getId())
-                )
-        );
-        // Removing session from connection store
-        connectionStore.entrySet().removeIf(
-                entry -> entry.getValue().equals(session)
-        );
+        String sessionId = session.getId();
+        Memberships sessionMemberships = memberships.remove(sessionId);
+        if (sessionMemberships != null) {
+            sessionMemberships.broadcasts.forEach(serviceName -> {
+                Map<String, Session> sessionMap = broadcastSessions.get(serviceName);
+                if (sessionMap != null) {
+                    sessionMap.remove(sessionId);
+                }
+            });
+            sessionMemberships.groups.forEach(groupName -> {
+                Map<String, Session> sessionMap = connectionGroups.get(groupName);
+                if (sessionMap != null) {
+                    sessionMap.remove(sessionId);
+                }
+            });
+            // Keep the names which have since been stored with another session
+            sessionMemberships.storeNames.forEach(connectionName -> connectionStore.remove(connectionName, session));
+        }
+        fanout.removeSession(session);
+    }
+
+    private void addMembership(String sessionId, Consumer<Memberships> update) {
+        memberships.compute(sessionId, (key, sessionMemberships) -> {
+            Memberships result = sessionMemberships == null ? new Memberships() : sessionMemberships;
+            update.accept(result);
+            return result;
+        });
+    }
+
+    private void removeMembership(String sessionId, Consumer<Memberships> update) {
+        memberships.computeIfPresent(sessionId, (key, sessionMemberships) -> {
+            update.accept(sessionMemberships);
+            return sessionMemberships.isEmpty() ? null : sessionMemberships;
+        });
+    }
+
+    /**
+     * Broadcast lists, groups and store names a session belongs to. These are only updated inside a compute
+     * operation of the memberships map, which locks the entry of the session.
+     */
+    private static class Memberships {
+
+        private final Set<String> broadcasts = new HashSet<>();
+        private final Set<String> groups = new HashSet<>();
+        private final Set<String> storeNames = new HashSet<>();
+
+        boolean isEmpty() {
+            return broadcasts.isEmpty() && groups.isEmpty() && storeNames.isEmpty();
+        }
     }
 }
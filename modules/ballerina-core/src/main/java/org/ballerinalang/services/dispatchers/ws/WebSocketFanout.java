@@ -0,0 +1,291 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.services.dispatchers.ws;
+
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.websocket.CloseReason;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+/**
+ * {@code WebSocketFanout} sends a text message to all the sessions of a broadcast list or a connection group.
+ * <p>
+ * Messages are sent through the async remote of each session, so a slow client does not hold up the others, and a
+ * failure to send to one session does not stop delivery to the rest. At most
+ * {@value #PROP_MAX_PENDING_MESSAGES} messages (default {@value #DEFAULT_MAX_PENDING_MESSAGES}) may be pending
+ * for a session. When a session has that many pending messages, the {@value #PROP_SLOW_CONSUMER_POLICY} system
+ * property decides whether the new message is dropped for that session ({@value #POLICY_DROP}, the default) or the
+ * session is closed and removed from all the lists and groups ({@value #POLICY_CLOSE}).
+ * <p>
+ * Delivery statistics, including the time taken until a message is sent to all the sessions, are kept per list
+ * and group name.
+ *
+ * @since 0.88
+ */
+public class WebSocketFanout {
+
+    public static final String PROP_MAX_PENDING_MESSAGES = "ballerina.ws.maxPendingMessages";
+    public static final String PROP_SLOW_CONSUMER_POLICY = "ballerina.ws.slowConsumerPolicy";
+
+    public static final String POLICY_DROP = "drop";
+    public static final String POLICY_CLOSE = "close";
+
+    private static final int DEFAULT_MAX_PENDING_MESSAGES = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketFanout.class);
+
+    private final int maxPendingMessages;
+    private final boolean closeSlowConsumers;
+    private final WebSocketConnectionManager connectionManager;
+
+    // Map<sessionId, number of messages pending for the session>
+    private final Map<String, AtomicInteger> pendingMessages = new ConcurrentHashMap<>();
+    // Map<broadcast list or group name, statistics>
+    private final Map<String, FanoutStats> stats = new ConcurrentHashMap<>();
+
+    WebSocketFanout(WebSocketConnectionManager connectionManager) {
+        this(connectionManager, Integer.getInteger(PROP_MAX_PENDING_MESSAGES, DEFAULT_MAX_PENDING_MESSAGES),
+                System.getProperty(PROP_SLOW_CONSUMER_POLICY, POLICY_DROP));
+    }
+
+    WebSocketFanout(WebSocketConnectionManager connectionManager, int maxPendingMessages, String slowConsumerPolicy) {
+        if (maxPendingMessages < 1) {
+            throw new BallerinaException("invalid value '" + maxPendingMessages + "' for '" +
+                    PROP_MAX_PENDING_MESSAGES + "'");
+        }
+        if (!POLICY_DROP.equals(slowConsumerPolicy) && !POLICY_CLOSE.equals(slowConsumerPolicy)) {
+            throw new BallerinaException("invalid value '" + slowConsumerPolicy + "' for '" +
+                    PROP_SLOW_CONSUMER_POLICY + "'");
+        }
+        this.connectionManager = connectionManager;
+        this.maxPendingMessages = maxPendingMessages;
+        this.closeSlowConsumers = POLICY_CLOSE.equals(slowConsumerPolicy);
+    }
+
+    /**
+     * Send a text message to the given sessions. This returns once the sends are started.
+     *
+     * @param name     name of the broadcast list or group, used to keep statistics
+     * @param sessions sessions to send the message to
+     * @param text     text to send
+     */
+    public void sendText(String name, Iterable<Session> sessions, String text) {
+        FanoutStats fanoutStats = getStats(name);
+        fanoutStats.messages.increment();
+
+        // The fanout is complete when the sends to all the sessions are complete. Counting starts from one, so it
+        // does not complete before all the sends are started.
+        Fanout fanout = new Fanout(fanoutStats);
+        for (Session session : sessions) {
+            AtomicInteger pending = pendingMessages.computeIfAbsent(session.getId(), id -> new AtomicInteger());
+            if (pending.incrementAndGet() > maxPendingMessages) {
+                pending.decrementAndGet();
+                handleSlowConsumer(session, fanoutStats);
+                continue;
+            }
+
+            fanout.remaining.incrementAndGet();
+            RemoteEndpoint.Async asyncRemote = session.getAsyncRemote();
+            if (asyncRemote != null) {
+                try {
+                    asyncRemote.sendText(text, result -> fanout.onResult(result, session, pending));
+                } catch (RuntimeException e) {
+                    // The send was not started, e.g. the session is closed, hence the handler is never called
+                    fanout.onResult(new SendResult(e), session, pending);
+                }
+            } else {
+                // Transports without an async remote are sent to in place
+                sendTextBlocking(session, text, fanout, pending);
+            }
+        }
+        fanout.complete();
+    }
+
+    /**
+     * Get the delivery statistics of a broadcast list or group.
+     *
+     * @param name name of the broadcast list or group
+     * @return delivery statistics
+     */
+    public FanoutStats getStats(String name) {
+        return stats.computeIfAbsent(name, key -> new FanoutStats());
+    }
+
+    /**
+     * Get the number of messages which are being sent to a session.
+     *
+     * @param session {@link Session}
+     * @return number of pending messages
+     */
+    public int getPendingMessages(Session session) {
+        AtomicInteger pending = pendingMessages.get(session.getId());
+        return pending == null ? 0 : pending.get();
+    }
+
+    void removeSession(Session session) {
+        pendingMessages.remove(session.getId());
+    }
+
+    void removeStats(String name) {
+        stats.remove(name);
+    }
+
+    private void sendTextBlocking(Session session, String text, Fanout fanout, AtomicInteger pending) {
+        SendResult result;
+        try {
+            session.getBasicRemote().sendText(text);
+            result = new SendResult();
+        } catch (IOException | RuntimeException e) {
+            result = new SendResult(e);
+        }
+        fanout.onResult(result, session, pending);
+    }
+
+    private void handleSlowConsumer(Session session, FanoutStats fanoutStats) {
+        if (!closeSlowConsumers) {
+            fanoutStats.dropped.increment();
+            return;
+        }
+
+        fanoutStats.closed.increment();
+        connectionManager.removeConnectionFromAll(session);
+        try {
+            session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Too many pending messages"));
+        } catch (IOException e) {
+            log.warn("error closing slow WebSocket session " + session.getId() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tracks the sends of a single message.
+     */
+    private static class Fanout {
+
+        private final FanoutStats fanoutStats;
+        private final long startTime = System.nanoTime();
+        private final AtomicInteger remaining = new AtomicInteger(1);
+
+        Fanout(FanoutStats fanoutStats) {
+            this.fanoutStats = fanoutStats;
+        }
+
+        void onResult(SendResult result, Session session, AtomicInteger pending) {
+            pending.decrementAndGet();
+            if (result.isOK()) {
+                fanoutStats.sent.increment();
+            } else {
+                fanoutStats.failed.increment();
+                log.warn("error sending text to WebSocket session " + session.getId() + ": " +
+                        result.getException().getMessage());
+            }
+            complete();
+        }
+
+        void complete() {
+            if (remaining.decrementAndGet() == 0) {
+                long latency = System.nanoTime() - startTime;
+                fanoutStats.completed.increment();
+                fanoutStats.totalLatencyNanos.add(latency);
+                fanoutStats.maxLatencyNanos.accumulate(latency);
+            }
+        }
+    }
+
+    /**
+     * Delivery statistics of a broadcast list or group.
+     */
+    public static class FanoutStats {
+
+        private final LongAdder messages = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder closed = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+        /**
+         * @return number of messages sent to the list or group
+         */
+        public long getMessageCount() {
+            return messages.sum();
+        }
+
+        /**
+         * @return number of messages successfully sent to a session
+         */
+        public long getSentCount() {
+            return sent.sum();
+        }
+
+        /**
+         * @return number of messages which could not be sent to a session
+         */
+        public long getFailedCount() {
+            return failed.sum();
+        }
+
+        /**
+         * @return number of messages dropped for a session with too many pending messages
+         */
+        public long getDroppedCount() {
+            return dropped.sum();
+        }
+
+        /**
+         * @return number of sessions closed for having too many pending messages
+         */
+        public long getClosedCount() {
+            return closed.sum();
+        }
+
+        /**
+         * @return number of messages which completed sending to all the sessions
+         */
+        public long getCompletedCount() {
+            return completed.sum();
+        }
+
+        /**
+         * @return average time in nanoseconds taken to send a message to all the sessions
+         */
+        public long getAverageLatencyNanos() {
+            long count = completed.sum();
+            return count == 0 ? 0 : totalLatencyNanos.sum() / count;
+        }
+
+        /**
+         * @return maximum time in nanoseconds taken to send a message to all the sessions
+         */
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos.get();
+        }
+    }
+}
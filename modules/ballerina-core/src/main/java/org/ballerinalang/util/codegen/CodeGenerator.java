@@ -17,6 +17,10 @@
 */
 package org.ballerinalang.util.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.ballerinalang.bre.ConnectorVarLocation;
 import org.ballerinalang.bre.ConstantLocation;
 import org.ballerinalang.bre.GlobalVarLocation;
@@ -122,9 +126,11 @@ import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.types.TypeSignature;
 import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.util.JSONUtils;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
@@ -135,6 +141,7 @@ import org.ballerinalang.util.codegen.cpentries.ForkJoinCPEntry;
 import org.ballerinalang.util.codegen.cpentries.FunctionCallCPEntry;
 import org.ballerinalang.util.codegen.cpentries.FunctionRefCPEntry;
 import org.ballerinalang.util.codegen.cpentries.IntegerCPEntry;
+import org.ballerinalang.util.codegen.cpentries.JSONCPEntry;
 import org.ballerinalang.util.codegen.cpentries.PackageRefCPEntry;
 import org.ballerinalang.util.codegen.cpentries.StringCPEntry;
 import org.ballerinalang.util.codegen.cpentries.StructureRefCPEntry;
@@ -200,10 +207,16 @@ public class CodeGenerator implements NodeVisitor {
     private Stack<TryCatchStmt.FinallyBlock> finallyBlocks = new Stack<>();
     private Stack<Instruction> abortInstructions = new Stack<>();
 
+    private boolean peepholeOptimizerEnabled = true;
+
     public ProgramFile getProgramFile() {
         return programFile;
     }
 
+    public void setPeepholeOptimizerEnabled(boolean peepholeOptimizerEnabled) {
+        this.peepholeOptimizerEnabled = peepholeOptimizerEnabled;
+    }
+
     @Override
     public void visit(BLangProgram bLangProgram) {
         for (BLangPackage bLangPackage : bLangProgram.getPackages()) {
@@ -282,6 +295,9 @@ public class CodeGenerator implements NodeVisitor {
         currentPkgInfo.setInitFunctionInfo(currentPkgInfo.getFunctionInfo(pkgInitFunction.getName()));
 
         currentPkgInfo.complete();
+        if (peepholeOptimizerEnabled) {
+            PeepholeOptimizer.optimize(currentPkgInfo);
+        }
         currentPkgCPIndex = -1;
         currentPkgPath = null;
     }
@@ -1503,14 +1519,14 @@ public class CodeGenerator implements NodeVisitor {
         TypeCPEntry typeCPEntry = new TypeCPEntry(getVMTypeFromSig(arrayInitExpr.getType().getSig()));
         int typeCPindex = currentPkgInfo.addCPEntry(typeCPEntry);
 
-        // Emit create array instruction
+        // Emit create array instruction, sized for the initial array values
+        Expression[] argExprs = arrayInitExpr.getArgExprs();
         int opcode = getOpcode(elementType.getTag(), InstructionCodes.INEWARRAY);
         int arrayVarRegIndex = ++regIndexes[REF_OFFSET];
         arrayInitExpr.setTempOffset(arrayVarRegIndex);
-        emit(opcode, arrayVarRegIndex, typeCPindex);
+        emit(opcode, arrayVarRegIndex, typeCPindex, argExprs.length);
 
         // Emit instructions populate initial array values;
-        Expression[] argExprs = arrayInitExpr.getArgExprs();
         for (int i = 0; i < argExprs.length; i++) {
             Expression argExpr = argExprs[i];
             argExpr.accept(this);
@@ -1680,6 +1696,10 @@ public class CodeGenerator implements NodeVisitor {
     public void visit(JSONInitExpr jsonInitExpr) {
         int jsonVarRegIndex = ++regIndexes[REF_OFFSET];
         jsonInitExpr.setTempOffset(jsonVarRegIndex);
+        if (emitJSONConst(jsonInitExpr, jsonVarRegIndex)) {
+            return;
+        }
+
         emit(InstructionCodes.NEWJSON, jsonVarRegIndex);
 
         Expression[] argExprs = jsonInitExpr.getArgExprs();
@@ -1701,6 +1721,10 @@ public class CodeGenerator implements NodeVisitor {
     public void visit(JSONArrayInitExpr jsonArrayInitExpr) {
         int jsonVarRegIndex = ++regIndexes[REF_OFFSET];
         jsonArrayInitExpr.setTempOffset(jsonVarRegIndex);
+        if (emitJSONConst(jsonArrayInitExpr, jsonVarRegIndex)) {
+            return;
+        }
+
         Expression[] argExprs = jsonArrayInitExpr.getArgExprs();
 
         BasicLiteral arraySizeLiteral = new BasicLiteral(jsonArrayInitExpr.getNodeLocation(),
@@ -1723,6 +1747,72 @@ public class CodeGenerator implements NodeVisitor {
         }
     }
 
+    /**
+     * Emit a JSON literal made of constant values only as a copy of a template in the constant pool, instead of
+     * building it element by element.
+     *
+     * @param initExpr        JSON object or array literal
+     * @param jsonVarRegIndex register of the JSON value
+     * @return true if the literal is constant, and an instruction is emitted
+     */
+    private boolean emitJSONConst(RefTypeInitExpr initExpr, int jsonVarRegIndex) {
+        if (initExpr.getArgExprs().length == 0) {
+            return false;
+        }
+
+        JsonNode template = getConstJSONValue(initExpr);
+        if (template == null) {
+            return false;
+        }
+
+        UTF8CPEntry utf8CPEntry = new UTF8CPEntry(new BJSON(template).stringValue());
+        int jsonValCPIndex = currentPkgInfo.addCPEntry(utf8CPEntry);
+        int jsonCPIndex = currentPkgInfo.addCPEntry(new JSONCPEntry(jsonValCPIndex, template));
+        emit(InstructionCodes.JSONCONST, jsonCPIndex, jsonVarRegIndex);
+        return true;
+    }
+
+    private JsonNode getConstJSONValue(Expression expr) {
+        if (expr instanceof JSONInitExpr) {
+            ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+            for (Expression argExpr : ((JSONInitExpr) expr).getArgExprs()) {
+                KeyValueExpr keyValueExpr = (KeyValueExpr) argExpr;
+                JsonNode value = getConstJSONValue(keyValueExpr.getValueExpr());
+                if (!(keyValueExpr.getKeyExpr() instanceof BasicLiteral) || value == null) {
+                    return null;
+                }
+                objectNode.set(((BasicLiteral) keyValueExpr.getKeyExpr()).getBValue().stringValue(), value);
+            }
+            return objectNode;
+        } else if (expr instanceof JSONArrayInitExpr) {
+            ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
+            for (Expression argExpr : ((JSONArrayInitExpr) expr).getArgExprs()) {
+                JsonNode value = getConstJSONValue(argExpr);
+                if (value == null) {
+                    return null;
+                }
+                arrayNode.add(value);
+            }
+            return arrayNode;
+        } else if (expr instanceof TypeCastExpression && expr.getType() == BTypes.typeJSON &&
+                ((TypeCastExpression) expr).getRExpr() instanceof BasicLiteral) {
+            BasicLiteral basicLiteral = (BasicLiteral) ((TypeCastExpression) expr).getRExpr();
+            switch (basicLiteral.getType().getTag()) {
+                case TypeTags.INT_TAG:
+                    return JSONUtils.toJSONNode(basicLiteral.getBValue().intValue());
+                case TypeTags.FLOAT_TAG:
+                    return JSONUtils.toJSONNode(basicLiteral.getBValue().floatValue());
+                case TypeTags.STRING_TAG:
+                    return JSONUtils.toJSONNode(basicLiteral.getBValue().stringValue());
+                case TypeTags.BOOLEAN_TAG:
+                    return JSONUtils.toJSONNode(basicLiteral.getBValue().booleanValue());
+                default:
+                    return null;
+            }
+        }
+        return null;
+    }
+
     @Override
     public void visit(KeyValueExpr keyValueExpr) {
 
@@ -19,12 +19,15 @@ package org.ballerinalang.util.codegen;
 
 import org.ballerinalang.bre.bvm.BLangVM;
 import org.ballerinalang.model.types.BStructType;
+import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.util.codegen.cpentries.StructureRefCPEntry;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Describes an error handing section defined using try block in a Ballerina program.
@@ -41,6 +44,9 @@ public class ErrorTableEntry {
     // Cache values.
     private StructInfo error;
     private PackageInfo packageInfo;
+    // Map<thrown error type, whether it is equivalent to the error type of this entry>, copied on write. Types are
+    // compared by identity, as BType.equals only compares the names.
+    private volatile Map<BType, Boolean> equivalentTypes = new IdentityHashMap<>();
 
     public ErrorTableEntry(int ipFrom, int ipTo, int ipTarget, int priority, int errorStructCPEntryIndex) {
         this.ipFrom = ipFrom;
@@ -95,70 +101,98 @@ public class ErrorTableEntry {
 
     }
 
-    private static class MatchedEntry {
-        protected ErrorTableEntry errorTableEntry;
-        // 0 - exact, 1 - equivalent, 2 - any.
-        int status;
-        int ipSize;
-    }
-
+    /**
+     * Find the error table entry which handles the given error thrown at the given IP. Among the entries whose range
+     * covers the IP, the ones with the smallest range are considered. Of those, an entry for the exact error type is
+     * preferred, then the entry with the lowest priority among the entries for an equivalent type or any type.
+     *
+     * @param packageInfo package of the code which threw the error
+     * @param currentIP   IP of the instruction which threw the error
+     * @param error       thrown error
+     * @return matching error table entry, or null if there is none
+     */
     public static ErrorTableEntry getMatch(PackageInfo packageInfo, int currentIP, final BStruct error) {
-        List<ErrorTableEntry> errorTableEntries = packageInfo.getErrorTableEntriesList();
-        List<MatchedEntry> rangeMatched = new ArrayList<>();
-        errorTableEntries.stream().filter(errorTableEntry -> errorTableEntry.matchRange(currentIP)).forEach
-                (errorTableEntry -> {
-                    MatchedEntry entry = new MatchedEntry();
-                    entry.errorTableEntry = errorTableEntry;
-                    entry.ipSize = errorTableEntry.ipTo - errorTableEntry.ipFrom;
-                    if (errorTableEntry.getErrorStructCPEntryIndex() == -1) {
-                        // match any.
-                        entry.status = 2;
-                        rangeMatched.add(entry);
-                    } else if (errorTableEntry.getError().getType().equals(error.getType())) {
-                        // exact match.
-                        entry.status = 0;
-                        rangeMatched.add(entry);
-                    } else if (BLangVM.checkStructEquivalency((BStructType) error.getType(),
-                            (BStructType) errorTableEntry.getError().getType())) {
-                        entry.status = 1;
-                        rangeMatched.add(entry);
-                    }
-                });
-        if (rangeMatched.size() == 0) {
-            return null;
+        Index index = packageInfo.getErrorTableIndex();
+        int bestSize = Integer.MAX_VALUE;
+        ErrorTableEntry exactMatch = null;
+        ErrorTableEntry otherMatch = null;
+
+        // Entries with the same range are visited in the reverse order of their definition, hence ties are given to
+        // the entry visited last
+        for (int i = index.lastStartingAtOrBefore(currentIP); i >= 0 && index.maxIpTo[i] >= currentIP; i--) {
+            ErrorTableEntry entry = index.entries[i];
+            int ipSize = entry.ipTo - entry.ipFrom;
+            if (currentIP > entry.ipTo || ipSize > bestSize) {
+                continue;
+            }
+
+            boolean exact = false;
+            if (entry.errorStructCPEntryIndex != -1) {
+                BType errorType = entry.getError().getType();
+                exact = errorType.equals(error.getType());
+                if (!exact && !entry.isEquivalent(error.getType())) {
+                    continue;
+                }
+            }
+            if (ipSize < bestSize) {
+                bestSize = ipSize;
+                exactMatch = null;
+                otherMatch = null;
+            }
+            if (exact) {
+                exactMatch = entry;
+            } else if (otherMatch == null || otherMatch.priority >= entry.priority) {
+                otherMatch = entry;
+            }
         }
-        if (rangeMatched.size() == 1) {
-            return rangeMatched.get(0).errorTableEntry;
+        return exactMatch != null ? exactMatch : otherMatch;
+    }
+
+    private boolean isEquivalent(BType errorType) {
+        Boolean equivalent = equivalentTypes.get(errorType);
+        if (equivalent == null) {
+            equivalent = BLangVM.checkStructEquivalency((BStructType) errorType, (BStructType) error.getType());
+            Map<BType, Boolean> updated = new IdentityHashMap<>(equivalentTypes);
+            updated.put(errorType, equivalent);
+            equivalentTypes = updated;
         }
-        MatchedEntry[] matchedEntries = rangeMatched.stream().sorted(Comparator.comparingInt(o -> o.ipSize)).toArray
-                (MatchedEntry[]::new);
-        int currentSize = 0;
-        ErrorTableEntry errorTableEntry = null;
-        for (int i = 0; i < matchedEntries.length; i++) {
-            MatchedEntry entry = matchedEntries[i];
-            if (currentSize < entry.ipSize) {
-                if (errorTableEntry == null) {
-                    // Expand scope.
-                    currentSize = entry.ipSize;
-                } else {
-                    // Return best match.
-                    return errorTableEntry;
-                }
+        return equivalent;
+    }
+
+    /**
+     * Error table entries of a package, sorted by the start IP of their ranges. Since the ranges of a callable unit
+     * lie within its code, a lookup only visits the entries of the callable unit which contains the IP.
+     */
+    static class Index {
+
+        private final ErrorTableEntry[] entries;
+        // Highest end IP of the entries up to each position
+        private final int[] maxIpTo;
+
+        Index(List<ErrorTableEntry> errorTableEntries) {
+            // A stable sort keeps the entries with the same start IP in their defined order
+            entries = errorTableEntries.toArray(new ErrorTableEntry[errorTableEntries.size()]);
+            Arrays.sort(entries, Comparator.comparingInt(entry -> entry.ipFrom));
+            maxIpTo = new int[entries.length];
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < entries.length; i++) {
+                max = Math.max(max, entries[i].ipTo);
+                maxIpTo[i] = max;
             }
-            if (entry.status == 0) {
-                // Best case.
-                return entry.errorTableEntry;
-            } else {
-                if (errorTableEntry == null) {
-                    errorTableEntry = entry.errorTableEntry;
+        }
+
+        int lastStartingAtOrBefore(int ip) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid].ipFrom <= ip) {
+                    low = mid + 1;
                 } else {
-                    if (errorTableEntry.priority > entry.errorTableEntry.priority) {
-                        // found a high order entry
-                        errorTableEntry = entry.errorTableEntry;
-                    }
+                    high = mid;
                 }
             }
+            return low - 1;
         }
-        return errorTableEntry;
     }
 }
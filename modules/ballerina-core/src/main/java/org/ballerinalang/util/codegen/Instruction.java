@@ -26,6 +26,13 @@ import java.util.Arrays;
  */
 public class Instruction {
 
+    /**
+     * Number of slots an instruction takes in the flat code stream, i.e. the opcode followed by up to three operands.
+     * Instructions are laid out with a fixed width so that an instruction address (ip) maps directly to the offset
+     * {@code ip * WIDTH} in the code stream.
+     */
+    public static final int WIDTH = 4;
+
     int opcode;
     int[] operands;
 
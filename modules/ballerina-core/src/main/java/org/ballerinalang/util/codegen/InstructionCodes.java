@@ -43,6 +43,7 @@ public interface InstructionCodes {
     int BCONST_0 = 17;
     int BCONST_1 = 18;
     int RCONST_NULL = 19;
+    int JSONCONST = 20;
 
     int ILOAD = 22;
     int FLOAD = 23;
@@ -207,6 +208,31 @@ public interface InstructionCodes {
     int TRBGN = 168;
     int TREND = 169;
 
+    // Superinstructions introduced by the PeepholeOptimizer. A superinstruction replaces the opcode of the first
+    // instruction of a sequence, reads its operands from the instructions of that sequence and skips over them.
+    // icmp_br_false i j k (br_false k target)
+    int IEQ_BR_FALSE = 170;
+    int INE_BR_FALSE = 171;
+    int IGT_BR_FALSE = 172;
+    int IGE_BR_FALSE = 173;
+    int ILT_BR_FALSE = 174;
+    int ILE_BR_FALSE = 175;
+    // iadd_locals lv1 r1 (iload lv2 r2) (iadd r1 r2 r3) (istore r3 lv3)
+    int IADD_LOCALS = 176;
+    // iadd_local_const lv1 r1 value (iconst_n r2) (iadd r1 r2 r3) (istore r3 lv3)
+    int IADD_LOCAL_CONST = 177;
+    // imove_local lv1 r (istore r lv2), and the same for the other types
+    int IMOVE_LOCAL = 178;
+    int FMOVE_LOCAL = 179;
+    int SMOVE_LOCAL = 180;
+    int BMOVE_LOCAL = 181;
+    int RMOVE_LOCAL = 182;
+    // iconst_folded value r3 (iconst r2) (iop r1 r2 r3)
+    int ICONST_FOLDED = 183;
+    // istore_const value lv n (iconst r | iconst r1, iconst r2, iop r1 r2 r) (istore r lv), where n instructions
+    // follow the first one
+    int ISTORE_CONST = 184;
+
     int WRKINVOKE = 190;
     int WRKREPLY = 191;
     int FORKJOIN = 192;
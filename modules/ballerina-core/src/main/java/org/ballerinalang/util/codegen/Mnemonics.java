@@ -42,6 +42,7 @@ public class Mnemonics {
         mnemonics[InstructionCodes.BCONST_0] = "bconst_0";
         mnemonics[InstructionCodes.BCONST_1] = "bconst_1";
         mnemonics[InstructionCodes.RCONST_NULL] = "rconst_null";
+        mnemonics[InstructionCodes.JSONCONST] = "jsonconst";
 
         mnemonics[InstructionCodes.ILOAD] = "iload";
         mnemonics[InstructionCodes.FLOAD] = "fload";
@@ -196,6 +197,22 @@ public class Mnemonics {
         mnemonics[InstructionCodes.TRBGN] = "trbgn";
         mnemonics[InstructionCodes.TREND] = "trend";
 
+        mnemonics[InstructionCodes.IEQ_BR_FALSE] = "ieq_br_false";
+        mnemonics[InstructionCodes.INE_BR_FALSE] = "ine_br_false";
+        mnemonics[InstructionCodes.IGT_BR_FALSE] = "igt_br_false";
+        mnemonics[InstructionCodes.IGE_BR_FALSE] = "ige_br_false";
+        mnemonics[InstructionCodes.ILT_BR_FALSE] = "ilt_br_false";
+        mnemonics[InstructionCodes.ILE_BR_FALSE] = "ile_br_false";
+        mnemonics[InstructionCodes.IADD_LOCALS] = "iadd_locals";
+        mnemonics[InstructionCodes.IADD_LOCAL_CONST] = "iadd_local_const";
+        mnemonics[InstructionCodes.IMOVE_LOCAL] = "imove_local";
+        mnemonics[InstructionCodes.FMOVE_LOCAL] = "fmove_local";
+        mnemonics[InstructionCodes.SMOVE_LOCAL] = "smove_local";
+        mnemonics[InstructionCodes.BMOVE_LOCAL] = "bmove_local";
+        mnemonics[InstructionCodes.RMOVE_LOCAL] = "rmove_local";
+        mnemonics[InstructionCodes.ICONST_FOLDED] = "iconst_folded";
+        mnemonics[InstructionCodes.ISTORE_CONST] = "istore_const";
+
         mnemonics[InstructionCodes.WRKINVOKE] = "wrkinvoke";
         mnemonics[InstructionCodes.WRKREPLY] = "wrkreply";
 
@@ -20,6 +20,8 @@ package org.ballerinalang.util.codegen;
 import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,9 @@ public class PackageInfo {
     private Instruction[] instructions;
     private List<Instruction> instructionList = new ArrayList<>();
 
+    // Flat code stream executed by the BVM. See Instruction.WIDTH
+    private int[] code;
+
     private Map<String, FunctionInfo> functionInfoMap = new HashMap<>();
 
     private Map<String, ConnectorInfo> connectorInfoMap = new HashMap<>();
@@ -54,6 +59,10 @@ public class PackageInfo {
     // TODO : Move this into CallableUnitInfo
     private List<ErrorTableEntry> errorTableEntriesList = new ArrayList<>();
 
+    // Indexes for the error handling path, built on first use
+    private volatile LineNumberInfo[] lineNumberIndex;
+    private volatile ErrorTableEntry.Index errorTableIndex;
+
     // Package level variable count
     protected int[] plvCount;
 
@@ -134,6 +143,10 @@ public class PackageInfo {
         return instructions;
     }
 
+    public int[] getCode() {
+        return code;
+    }
+
     public int getInstructionCount() {
         return instructionList.size();
     }
@@ -146,6 +159,7 @@ public class PackageInfo {
 
     public void addLineNumberInfo(LineNumberInfo lineNumberInfo) {
         lineNumberInfoList.add(lineNumberInfo);
+        lineNumberIndex = null;
     }
 
     public LineNumberInfo getLineNumberInfo(LineNumberInfo lineNumberInfo) {
@@ -156,20 +170,42 @@ public class PackageInfo {
         return null;
     }
 
+    /**
+     * Get the line which the given instruction belongs to. This is the line with the given IP, or else the last line
+     * starting before the given IP, provided that a line starts after it.
+     *
+     * @param currentIP instruction pointer
+     * @return {@link LineNumberInfo} of the instruction, or null if not found
+     */
     public LineNumberInfo getLineNumberInfo(int currentIP) {
-        LineNumberInfo old = null;
-        for (LineNumberInfo lineNumberInfo : lineNumberInfoList) {
-            if (currentIP == lineNumberInfo.getIp()) {
-                // best case.
-                return lineNumberInfo;
-            }
-            if (old != null && currentIP > old.getIp() && currentIP < lineNumberInfo.getIp()) {
-                // TODO : Check condition currentIP > lineNumberInfo.getIP() in different scopes.
-                return old;
+        LineNumberInfo[] lines = lineNumberIndex;
+        if (lines == null) {
+            // A stable sort keeps the first of the lines which start at the same IP first
+            lines = lineNumberInfoList.toArray(new LineNumberInfo[lineNumberInfoList.size()]);
+            Arrays.sort(lines, Comparator.comparingInt(LineNumberInfo::getIp));
+            lineNumberIndex = lines;
+        }
+
+        // Find the first line starting at or after the given IP
+        int low = 0;
+        int high = lines.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lines[mid].getIp() < currentIP) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-            old = lineNumberInfo;
         }
-        return null;
+        if (low == lines.length) {
+            return null;
+        }
+        if (lines[low].getIp() == currentIP) {
+            // best case.
+            return lines[low];
+        }
+        // TODO : Check condition currentIP > lineNumberInfo.getIP() in different scopes.
+        return low > 0 ? lines[low - 1] : null;
     }
 
     public List<ErrorTableEntry> getErrorTableEntriesList() {
@@ -178,6 +214,16 @@ public class PackageInfo {
 
     public void addErrorTableEntry(ErrorTableEntry errorTableEntry) {
         errorTableEntriesList.add(errorTableEntry);
+        errorTableIndex = null;
+    }
+
+    ErrorTableEntry.Index getErrorTableIndex() {
+        ErrorTableEntry.Index index = errorTableIndex;
+        if (index == null) {
+            index = new ErrorTableEntry.Index(errorTableEntriesList);
+            errorTableIndex = index;
+        }
+        return index;
     }
 
     public ProgramFile getProgramFile() {
@@ -199,5 +245,21 @@ public class PackageInfo {
     public void complete() {
         this.constPool = constantPoolEntries.toArray(new ConstantPoolEntry[0]);
         this.instructions = instructionList.toArray(new Instruction[0]);
+        this.code = encode(instructions);
+    }
+
+    private static int[] encode(Instruction[] instructions) {
+        int[] code = new int[instructions.length * Instruction.WIDTH];
+        for (int i = 0; i < instructions.length; i++) {
+            Instruction instruction = instructions[i];
+            if (instruction.operands.length >= Instruction.WIDTH) {
+                throw new IllegalStateException("too many operands in instruction " + instruction);
+            }
+
+            int offset = i * Instruction.WIDTH;
+            code[offset] = instruction.opcode;
+            System.arraycopy(instruction.operands, 0, code, offset + 1, instruction.operands.length);
+        }
+        return code;
     }
 }
@@ -0,0 +1,245 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen;
+
+import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
+import org.ballerinalang.util.codegen.cpentries.IntegerCPEntry;
+
+/**
+ * {@code PeepholeOptimizer} replaces common instruction sequences in the code stream of a package with
+ * superinstructions, so that the VM dispatches fewer instructions per executed statement.
+ * <p>
+ * Only the first instruction of a sequence is rewritten. The remaining instructions are left in place
+ * and the superinstruction skips over them, hence instruction addresses do not change. Jump targets, error tables,
+ * line number tables and worker addresses remain valid, and a jump into the middle of a sequence still executes the
+ * original instructions. All the matched sequences are emitted by the code generator for a single statement.
+ * <p>
+ * Besides fusing loads, arithmetic, compares and branches, the sequences
+ * <ul>
+ * <li>fold integer constant expressions, so that the result is loaded or stored directly,</li>
+ * <li>propagate copies from one local variable to another, without going through a register, and</li>
+ * <li>eliminate the stores to the temporary registers of the sequence. The code generator allocates these
+ * registers for a single expression, so nothing reads them after the sequence.</li>
+ * </ul>
+ *
+ * @since 0.88
+ */
+public class PeepholeOptimizer {
+
+    /**
+     * System property which turns the optimizer off by default. A program loader can also turn it off for a single
+     * program.
+     */
+    public static final String SYSTEM_PROP_DISABLE_OPTIMIZER = "ballerina.disablePeepholeOptimizer";
+
+    /**
+     * Rewrites the code stream of the given package in place.
+     *
+     * @param packageInfo package whose code is complete
+     * @return number of superinstructions introduced
+     */
+    public static int optimize(PackageInfo packageInfo) {
+        int[] code = packageInfo.getCode();
+        ConstantPoolEntry[] constPool = packageInfo.getConstPool();
+
+        int count = 0;
+        int instructionCount = code.length / Instruction.WIDTH;
+        int ip = 0;
+        while (ip < instructionCount) {
+            int length = fuse(code, constPool, ip, instructionCount);
+            if (length > 1) {
+                count++;
+                ip += length;
+            } else {
+                ip++;
+            }
+        }
+        return count;
+    }
+
+    private static int fuse(int[] code, ConstantPoolEntry[] constPool, int ip, int instructionCount) {
+        int offset = ip * Instruction.WIDTH;
+        int opcode = code[offset];
+        switch (opcode) {
+            case InstructionCodes.IEQ:
+            case InstructionCodes.INE:
+            case InstructionCodes.IGT:
+            case InstructionCodes.IGE:
+            case InstructionCodes.ILT:
+            case InstructionCodes.ILE:
+                // icmp i j k; br_false k target
+                if (ip + 1 < instructionCount && opcodeAt(code, ip + 1) == InstructionCodes.BR_FALSE &&
+                        operandAt(code, ip + 1, 0) == operandAt(code, ip, 2)) {
+                    code[offset] = getCompareAndBranchOpcode(opcode);
+                    return 2;
+                }
+                return 1;
+            case InstructionCodes.ILOAD:
+                int length = fuseAddLocals(code, ip, instructionCount);
+                if (length > 1) {
+                    return length;
+                }
+                return fuseMove(code, ip, instructionCount, InstructionCodes.ISTORE, InstructionCodes.IMOVE_LOCAL);
+            case InstructionCodes.FLOAD:
+                return fuseMove(code, ip, instructionCount, InstructionCodes.FSTORE, InstructionCodes.FMOVE_LOCAL);
+            case InstructionCodes.SLOAD:
+                return fuseMove(code, ip, instructionCount, InstructionCodes.SSTORE, InstructionCodes.SMOVE_LOCAL);
+            case InstructionCodes.BLOAD:
+                return fuseMove(code, ip, instructionCount, InstructionCodes.BSTORE, InstructionCodes.BMOVE_LOCAL);
+            case InstructionCodes.RLOAD:
+                return fuseMove(code, ip, instructionCount, InstructionCodes.RSTORE, InstructionCodes.RMOVE_LOCAL);
+            case InstructionCodes.ICONST:
+            case InstructionCodes.ICONST_0:
+            case InstructionCodes.ICONST_1:
+            case InstructionCodes.ICONST_2:
+            case InstructionCodes.ICONST_3:
+            case InstructionCodes.ICONST_4:
+            case InstructionCodes.ICONST_5:
+                return fuseConstant(code, constPool, ip, instructionCount);
+            default:
+                return 1;
+        }
+    }
+
+    private static int fuseAddLocals(int[] code, int ip, int instructionCount) {
+        // iload lv1 r1; (iload lv2 r2 | iconst_n r2); iadd r1 r2 r3; istore r3 lv3
+        if (ip + 3 >= instructionCount || opcodeAt(code, ip + 2) != InstructionCodes.IADD ||
+                opcodeAt(code, ip + 3) != InstructionCodes.ISTORE) {
+            return 1;
+        }
+
+        int secondOpcode = opcodeAt(code, ip + 1);
+        int r1 = operandAt(code, ip, 1);
+        int r2 = secondOpcode == InstructionCodes.ILOAD ? operandAt(code, ip + 1, 1) :
+                operandAt(code, ip + 1, 0);
+        int r3 = operandAt(code, ip + 2, 2);
+        if (operandAt(code, ip + 2, 0) != r1 || operandAt(code, ip + 2, 1) != r2 ||
+                operandAt(code, ip + 3, 0) != r3) {
+            return 1;
+        }
+
+        int offset = ip * Instruction.WIDTH;
+        if (secondOpcode == InstructionCodes.ILOAD) {
+            code[offset] = InstructionCodes.IADD_LOCALS;
+            return 4;
+        } else if (secondOpcode >= InstructionCodes.ICONST_0 && secondOpcode <= InstructionCodes.ICONST_5) {
+            // The constant is kept in the unused third operand slot of the iload instruction
+            code[offset] = InstructionCodes.IADD_LOCAL_CONST;
+            code[offset + 3] = secondOpcode - InstructionCodes.ICONST_0;
+            return 4;
+        }
+        return 1;
+    }
+
+    private static int fuseMove(int[] code, int ip, int instructionCount, int storeOpcode, int moveOpcode) {
+        // load lv1 r; store r lv2
+        if (ip + 1 < instructionCount && opcodeAt(code, ip + 1) == storeOpcode &&
+                operandAt(code, ip + 1, 0) == operandAt(code, ip, 1)) {
+            code[ip * Instruction.WIDTH] = moveOpcode;
+            return 2;
+        }
+        return 1;
+    }
+
+    private static int fuseConstant(int[] code, ConstantPoolEntry[] constPool, int ip, int instructionCount) {
+        long value = getConstant(code, constPool, ip);
+        int reg = getConstantReg(code, ip);
+        int length = 1;
+
+        // iconst r1; iconst r2; (iadd | isub | imul) r1 r2 r3
+        if (ip + 2 < instructionCount && isConstant(opcodeAt(code, ip + 1))) {
+            int opcode = opcodeAt(code, ip + 2);
+            if ((opcode == InstructionCodes.IADD || opcode == InstructionCodes.ISUB ||
+                    opcode == InstructionCodes.IMUL) && operandAt(code, ip + 2, 0) == reg &&
+                    operandAt(code, ip + 2, 1) == getConstantReg(code, ip + 1)) {
+                long value2 = getConstant(code, constPool, ip + 1);
+                // Wraps around on overflow, same as the VM
+                value = opcode == InstructionCodes.IADD ? value + value2 :
+                        opcode == InstructionCodes.ISUB ? value - value2 : value * value2;
+                reg = operandAt(code, ip + 2, 2);
+                length = 3;
+            }
+        }
+
+        // The folded value is kept in an operand slot, hence larger values are left to the constant pool
+        if (value != (int) value) {
+            return 1;
+        }
+
+        int offset = ip * Instruction.WIDTH;
+        // ...; istore r lv
+        if (ip + length < instructionCount && opcodeAt(code, ip + length) == InstructionCodes.ISTORE &&
+                operandAt(code, ip + length, 0) == reg) {
+            code[offset] = InstructionCodes.ISTORE_CONST;
+            code[offset + 1] = (int) value;
+            code[offset + 2] = operandAt(code, ip + length, 1);
+            // Number of instructions skipped
+            code[offset + 3] = length;
+            return length + 1;
+        } else if (length > 1) {
+            code[offset] = InstructionCodes.ICONST_FOLDED;
+            code[offset + 1] = (int) value;
+            code[offset + 2] = reg;
+            return length;
+        }
+        return 1;
+    }
+
+    private static boolean isConstant(int opcode) {
+        return opcode == InstructionCodes.ICONST ||
+                (opcode >= InstructionCodes.ICONST_0 && opcode <= InstructionCodes.ICONST_5);
+    }
+
+    private static long getConstant(int[] code, ConstantPoolEntry[] constPool, int ip) {
+        int opcode = opcodeAt(code, ip);
+        if (opcode == InstructionCodes.ICONST) {
+            return ((IntegerCPEntry) constPool[operandAt(code, ip, 0)]).getValue();
+        }
+        return opcode - InstructionCodes.ICONST_0;
+    }
+
+    private static int getConstantReg(int[] code, int ip) {
+        // iconst cpIndex r; iconst_n r
+        return opcodeAt(code, ip) == InstructionCodes.ICONST ? operandAt(code, ip, 1) : operandAt(code, ip, 0);
+    }
+
+    private static int getCompareAndBranchOpcode(int compareOpcode) {
+        switch (compareOpcode) {
+            case InstructionCodes.IEQ:
+                return InstructionCodes.IEQ_BR_FALSE;
+            case InstructionCodes.INE:
+                return InstructionCodes.INE_BR_FALSE;
+            case InstructionCodes.IGT:
+                return InstructionCodes.IGT_BR_FALSE;
+            case InstructionCodes.IGE:
+                return InstructionCodes.IGE_BR_FALSE;
+            case InstructionCodes.ILT:
+                return InstructionCodes.ILT_BR_FALSE;
+            default:
+                return InstructionCodes.ILE_BR_FALSE;
+        }
+    }
+
+    private static int opcodeAt(int[] code, int ip) {
+        return code[ip * Instruction.WIDTH];
+    }
+
+    private static int operandAt(int[] code, int ip, int index) {
+        return code[ip * Instruction.WIDTH + 1 + index];
+    }
+}
@@ -23,6 +23,7 @@ import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +90,10 @@ public class ProgramFile {
         packageInfoMap.put(packageName, packageInfo);
     }
 
+    public Collection<PackageInfo> getPackageInfoCollection() {
+        return packageInfoMap.values();
+    }
+
     public int[] getGlobalVarIndexes() {
         return globalVarIndexes;
     }
@@ -34,6 +34,7 @@ public interface ConstantPoolEntry {
         CP_ENTRY_INTEGER((byte) 2),
         CP_ENTRY_FLOAT((byte) 3),
         CP_ENTRY_STRING((byte) 4),
+        CP_ENTRY_JSON((byte) 5),
         CP_ENTRY_NAME_AND_TYPE((byte) 10),
         CP_ENTRY_PACKAGE((byte) 11),
         CP_ENTRY_FUNCTION_REF((byte) 12),
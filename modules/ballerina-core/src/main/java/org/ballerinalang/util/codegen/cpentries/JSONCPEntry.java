@@ -0,0 +1,53 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen.cpentries;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@code JSONCPEntry} represents a constant JSON value in the constant pool.
+ * <p>
+ * The value is a template built from a JSON literal at compile time. It is never modified: a deep copy of it is
+ * created each time the literal is evaluated.
+ *
+ * @since 0.88
+ */
+public class JSONCPEntry implements ConstantPoolEntry {
+
+    // Index to a valid UTF8 entry in the constant pool, holding the JSON string of the value
+    private int jsonCPIndex;
+
+    private JsonNode value;
+
+    public JSONCPEntry(int jsonCPIndex, JsonNode value) {
+        this.jsonCPIndex = jsonCPIndex;
+        this.value = value;
+    }
+
+    public JsonNode getValue() {
+        return value;
+    }
+
+    public int getJSONCPIndex() {
+        return jsonCPIndex;
+    }
+
+    public EntryType getEntryType() {
+        return EntryType.CP_ENTRY_JSON;
+    }
+}
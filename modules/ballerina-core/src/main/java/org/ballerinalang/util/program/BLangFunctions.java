@@ -315,7 +315,7 @@ public class BLangFunctions {
         calleeSF.setRefLocalVars(refLocalVars);
 
         // Execute workers
-        BLangVMWorkers.invoke(bLangProgram, functionInfo, calleeSF, retRegs);
+        calleeSF.setWorkerDataChannels(BLangVMWorkers.invoke(bLangProgram, functionInfo, calleeSF, retRegs));
 
         BLangVM bLangVM = new BLangVM(bLangProgram);
         context.setStartIP(codeAttribInfo.getCodeAddrs());
@@ -20,6 +20,7 @@ package org.ballerinalang.model.expressions;
 
 import org.ballerinalang.core.utils.BTestUtils;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.ballerinalang.util.program.BLangFunctions;
@@ -80,4 +81,26 @@ public class FuncInvocationExprTest {
         long expected = 322;
         Assert.assertEquals(actual, expected);
     }
+
+    @Test(description = "Test recursive function invocation with multiple calls per frame")
+    public void testFibonacci() {
+        BValue[] args = {new BInteger(15)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "fib", args);
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertSame(returns[0].getClass(), BInteger.class);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 610);
+    }
+
+    @Test(description = "Test local variables are reset to zero values across repeated invocations")
+    public void testRepeatedInvocation() {
+        BValue[] args = {new BInteger(10)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testRepeatedInvocation", args);
+
+        Assert.assertEquals(returns.length, 2);
+        Assert.assertSame(returns[0].getClass(), BInteger.class);
+        Assert.assertSame(returns[1].getClass(), BString.class);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 45);
+        Assert.assertEquals(returns[1].stringValue(), "aaaaaaaaaa");
+    }
 }
@@ -17,6 +17,8 @@
 */
 package org.ballerinalang.model.statements;
 
+import org.ballerinalang.BLangProgramLoader;
+import org.ballerinalang.bre.bvm.BLangVM;
 import org.ballerinalang.core.utils.BTestUtils;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
@@ -28,6 +30,10 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * This contains methods to test different behaviours of the while loop statement.
  *
@@ -67,6 +73,27 @@ public class WhileStmtTest {
         Assert.assertEquals(actual, expected);
     }
 
+    @Test(description = "Test while loop executes fewer instructions with the peephole optimizer")
+    public void testWhileStmtWithPeepholeOptimizer() throws URISyntaxException {
+        Path programPath = Paths.get(BTestUtils.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ProgramFile unoptimizedProgramFile = new BLangProgramLoader().disablePeepholeOptimizer()
+                .loadProgramFile(programPath, Paths.get("lang/statements/while-stmt.bal"));
+
+        BValue[] args = {new BInteger(100), new BInteger(1)};
+        BLangVM.resetDispatchedInstructionCount();
+        BValue[] returns = BLangFunctions.invokeNew(unoptimizedProgramFile, "testWhileStmt", args);
+        long unoptimizedCount = BLangVM.getDispatchedInstructionCount();
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1000);
+
+        BLangVM.resetDispatchedInstructionCount();
+        returns = BLangFunctions.invokeNew(programFile, "testWhileStmt", args);
+        long optimizedCount = BLangVM.getDispatchedInstructionCount();
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1000);
+
+        Assert.assertTrue(optimizedCount < unoptimizedCount, "expected fewer dispatched instructions, found " +
+                optimizedCount + " with and " + unoptimizedCount + " without the optimizer");
+    }
+
     @Test(description = "Check the scope managing in while block")
     public void testWhileBlockScopes() {
         BValue[] args = { new BInteger(1) };
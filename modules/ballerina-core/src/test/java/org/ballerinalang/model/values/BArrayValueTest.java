@@ -122,4 +122,50 @@ public class BArrayValueTest {
         Assert.assertTrue(returns[2] instanceof BJSON);
         Assert.assertEquals(returns[2].stringValue(), "{\"name\":\"supun\"}");
     }
+
+    @Test(description = "Test appending a large number of elements to arrays")
+    public void testAppendToArrays() {
+        int count = 100000;
+        BIntArray intArray = new BIntArray();
+        BStringArray stringArray = new BStringArray(0);
+        for (int i = 0; i < count; i++) {
+            intArray.add(i, i);
+            stringArray.add(i, String.valueOf(i));
+        }
+
+        Assert.assertEquals(intArray.size(), count);
+        Assert.assertEquals(stringArray.size(), count);
+        Assert.assertEquals(intArray.get(count - 1), count - 1);
+        Assert.assertEquals(stringArray.get(count - 1), String.valueOf(count - 1));
+    }
+
+    @Test(description = "Test copying arrays")
+    public void testCopyArray() {
+        BIntArray intArray = new BIntArray(new long[]{1, 2, 3});
+        BIntArray copy = (BIntArray) intArray.copy();
+        copy.add(0, 10);
+
+        Assert.assertEquals(copy.size(), 3);
+        Assert.assertEquals(copy.get(0), 10);
+        Assert.assertEquals(intArray.get(0), 1);
+    }
+
+    @Test(description = "Test copying a range of an array to another array")
+    public void testCopyArrayRange() {
+        BStringArray source = new BStringArray(new String[]{"a", "b", "c", "d"});
+        BStringArray target = new BStringArray();
+        target.add(0, "x");
+        target.copyFrom(source, 1, 4, 1);
+
+        Assert.assertEquals(target.size(), 4);
+        Assert.assertEquals(target.get(0), "x");
+        Assert.assertEquals(target.get(1), "b");
+        Assert.assertEquals(target.get(3), "d");
+    }
+
+    @Test(description = "Test copying between arrays of different types",
+            expectedExceptions = BallerinaException.class)
+    public void testCopyArrayTypeMismatch() {
+        new BStringArray().copyFrom(new BIntArray(new long[]{1}), 0, 1, 0);
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.model.values;
+
+import org.ballerinalang.model.DataIterator;
+import org.ballerinalang.model.types.TypeEnum;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for reading the rows of a datatable as structs.
+ *
+ * @since 0.88
+ */
+public class BDataTableTest {
+
+    private static final Object[][] ROWS = {
+            {1L, "Peter", 5000.5, true},
+            {2L, "John", 3000.25, false}
+    };
+
+    @Test(description = "Test reading the rows of a datatable through the typed fields of the row struct")
+    public void testGetNext() {
+        BDataTable dataTable = createDataTable();
+
+        Assert.assertTrue(dataTable.next());
+        BStruct row = dataTable.getNext();
+        assertTypedFields(row, ROWS[0]);
+
+        Assert.assertTrue(dataTable.next());
+        Assert.assertSame(dataTable.getNext(), row);
+        assertTypedFields(row, ROWS[1]);
+        Assert.assertFalse(dataTable.next());
+    }
+
+    @Test(description = "Test reading the rows of a datatable through the memory block of the row struct")
+    public void testGetNextWithMemoryBlock() {
+        BDataTable dataTable = createDataTable();
+
+        for (Object[] expectedRow : ROWS) {
+            Assert.assertTrue(dataTable.next());
+            BStruct row = dataTable.getNextWithMemoryBlock();
+            assertTypedFields(row, expectedRow);
+            Assert.assertEquals(((BInteger) row.getValue(0)).intValue(), expectedRow[0]);
+            Assert.assertEquals(row.getValue(1).stringValue(), expectedRow[1]);
+            Assert.assertEquals(((BFloat) row.getValue(2)).floatValue(), expectedRow[2]);
+            Assert.assertEquals(((BBoolean) row.getValue(3)).booleanValue(), expectedRow[3]);
+        }
+        Assert.assertFalse(dataTable.next());
+    }
+
+    private void assertTypedFields(BStruct row, Object[] expectedRow) {
+        Assert.assertEquals(row.getIntField(0), expectedRow[0]);
+        Assert.assertEquals(row.getStringField(0), expectedRow[1]);
+        Assert.assertEquals(row.getFloatField(0), expectedRow[2]);
+        Assert.assertEquals(row.getBooleanField(0), (Boolean) expectedRow[3] ? 1 : 0);
+    }
+
+    private BDataTable createDataTable() {
+        List<BDataTable.ColumnDefinition> columnDefs = new ArrayList<>();
+        columnDefs.add(new BDataTable.ColumnDefinition("id", TypeEnum.INT, Types.INTEGER));
+        columnDefs.add(new BDataTable.ColumnDefinition("name", TypeEnum.STRING, Types.VARCHAR));
+        columnDefs.add(new BDataTable.ColumnDefinition("salary", TypeEnum.FLOAT, Types.DOUBLE));
+        columnDefs.add(new BDataTable.ColumnDefinition("active", TypeEnum.BOOLEAN, Types.BOOLEAN));
+        return new BDataTable(new RowDataIterator(), columnDefs);
+    }
+
+    /**
+     * Data iterator over the test rows, which reads the columns by index.
+     */
+    private static class RowDataIterator implements DataIterator {
+
+        private int rowIndex = -1;
+
+        @Override
+        public boolean next() {
+            return ++rowIndex < ROWS.length;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String getString(int columnIndex) {
+            return (String) getColumn(columnIndex);
+        }
+
+        @Override
+        public String getString(String columnName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getInt(int columnIndex) {
+            return (Long) getColumn(columnIndex);
+        }
+
+        @Override
+        public long getInt(String columnName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double getFloat(int columnIndex) {
+            return (Double) getColumn(columnIndex);
+        }
+
+        @Override
+        public double getFloat(String columnName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean getBoolean(int columnIndex) {
+            return (Boolean) getColumn(columnIndex);
+        }
+
+        @Override
+        public boolean getBoolean(String columnName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getObjectAsString(int columnIndex) {
+            return String.valueOf(getColumn(columnIndex));
+        }
+
+        @Override
+        public String getObjectAsString(String columnName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BValue get(int columnIndex, String type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BValue get(String columnName, String type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Object> getArray(int columnIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Object> getArray(String columnName) {
+            throw new UnsupportedOperationException();
+        }
+
+        private Object getColumn(int columnIndex) {
+            return ROWS[rowIndex][columnIndex - 1];
+        }
+    }
+}
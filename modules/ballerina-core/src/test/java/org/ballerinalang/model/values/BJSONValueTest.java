@@ -400,7 +400,16 @@ public class BJSONValueTest   {
         BJSON json = ((BJSON) returns[0]);
         Assert.assertEquals(json.toString(), "{\"details\":{\"fname\":\"Supun\",\"lname\":\"Setunga\"}}");
     }
-    
+
+    @Test(description = "Test that each evaluation of a constant json literal creates a new json")
+    public void testConstJsonLiteralCopies() {
+        BValue[] returns = BLangFunctions.invokeNew(programFile, "testConstJsonLiteralCopies");
+        Assert.assertEquals(returns[0].stringValue(), "{\"details\":{\"fname\":\"Supun\",\"lname\":\"Setunga\"}," +
+                "\"age\":25,\"weight\":62.5,\"married\":false,\"tags\":[\"a\",\"b\"]}");
+        Assert.assertEquals(returns[1].stringValue(), "{\"details\":{\"fname\":\"Supun\",\"lname\":\"Thilina\"}," +
+                "\"age\":25,\"weight\":62.5,\"married\":false,\"tags\":[\"a\",\"b\"]}");
+    }
+
     @Test
     public void testEmptyStringToJson() {
         BValue[] returns = BLangFunctions.invokeNew(programFile, "testEmptyStringToJson");
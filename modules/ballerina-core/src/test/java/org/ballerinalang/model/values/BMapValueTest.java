@@ -79,6 +79,38 @@ public class BMapValueTest   {
         assertEquals(map.size(), 101);
     }
 
+    @Test
+    public void testBMapWithStringKeys() {
+        BMap<String, BInteger> map = new BMap<>();
+        for (int i = 0; i < 100000; i++) {
+            map.put("key" + i, new BInteger(i));
+        }
+        assertEquals(map.size(), 100000);
+        assertEquals(map.get("key99999"), new BInteger(99999));
+
+        for (int i = 0; i < 100000; i += 2) {
+            map.remove("key" + i);
+        }
+        assertEquals(map.size(), 50000);
+        Assert.assertNull(map.get("key0"));
+        assertEquals(map.get("key1"), new BInteger(1));
+
+        // Removed slots are reused, and the insertion order is kept
+        map.put("key0", new BInteger(0));
+        for (int i = 100000; i < 150000; i++) {
+            map.put("key" + i, new BInteger(i));
+        }
+        assertEquals(map.size(), 100001);
+        assertEquals(map.get("key0"), new BInteger(0));
+        assertEquals(map.get("key149999"), new BInteger(149999));
+
+        String[] keys = map.keySet().toArray(new String[0]);
+        assertEquals(keys[0], "key1");
+        assertEquals(keys[49999], "key99999");
+        assertEquals(keys[50000], "key0");
+        assertEquals(keys[100000], "key149999");
+    }
+
     @Test
     void testGrammar() {
         programFile = BTestUtils.getProgramFile("lang/values/map-value.bal");
@@ -0,0 +1,69 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.natives.connectors;
+
+import org.ballerinalang.bre.Context;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for completing a connector action through the {@link BalConnectorCallback}.
+ *
+ * @since 0.88
+ */
+public class BalConnectorCallbackTest {
+
+    @Test(description = "Test completing an action with an error when the response does not arrive in time")
+    public void testTimeout() throws InterruptedException {
+        BalConnectorCallback callback = new BalConnectorCallback(new Context());
+        callback.setTimeout(10, TimeUnit.MILLISECONDS, "timed out");
+
+        Assert.assertTrue(callback.awaitResponse(10, TimeUnit.SECONDS));
+        Assert.assertEquals(callback.getError().getMessage(), "timed out");
+
+        // A response after the timeout is dropped
+        callback.done(new DefaultCarbonMessage());
+        Assert.assertNull(callback.getValueRef());
+    }
+
+    @Test(description = "Test dropping the completions of an expired action")
+    public void testExpire() {
+        BalConnectorCallback callback = new BalConnectorCallback(new Context());
+        callback.setTimeout(1, TimeUnit.MINUTES, "timed out");
+
+        Assert.assertTrue(callback.expire());
+        Assert.assertFalse(callback.expire());
+        callback.done(new IllegalStateException("failed"));
+        Assert.assertFalse(callback.isResponseArrived());
+        Assert.assertNull(callback.getError());
+    }
+
+    @Test(description = "Test waiting for a completion which happened before the action could be expired")
+    public void testExpireAfterCompletion() throws InterruptedException {
+        BalConnectorCallback callback = new BalConnectorCallback(new Context());
+        callback.done(new IllegalStateException("failed"));
+
+        Assert.assertFalse(callback.expire());
+        callback.awaitResponse();
+        Assert.assertTrue(callback.isResponseArrived());
+        Assert.assertEquals(callback.getError().getMessage(), "failed");
+    }
+}
@@ -0,0 +1,143 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.runtime.threadpool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Test cases for thread pool configuration.
+ *
+ * @since 0.88
+ */
+public class ThreadPoolConfigTest {
+
+    @Test(description = "Test default thread pool configuration")
+    public void testDefaultConfig() {
+        ThreadPoolConfig config = new ThreadPoolConfig("test", new Properties(), 50, 4);
+        Assert.assertEquals(config.getCoreSize(), 50);
+        Assert.assertEquals(config.getMaxSize(), 50);
+        Assert.assertEquals(config.getQueueType(), ThreadPoolConfig.QUEUE_LINKED);
+        Assert.assertEquals(config.getRejectionPolicy(), ThreadPoolConfig.POLICY_ABORT);
+        Assert.assertTrue(config.createQueue() instanceof LinkedBlockingQueue);
+    }
+
+    @Test(description = "Test configured thread pool settings")
+    public void testConfiguredSettings() {
+        Properties properties = new Properties();
+        properties.setProperty("ballerina.threadpool.test.coreSize", "8");
+        properties.setProperty("ballerina.threadpool.test.maxSize", "16");
+        properties.setProperty("ballerina.threadpool.test.keepAliveSeconds", "30");
+        properties.setProperty("ballerina.threadpool.test.queue", "array");
+        properties.setProperty("ballerina.threadpool.test.queueCapacity", "64");
+        properties.setProperty("ballerina.threadpool.test.rejectionPolicy", "callerRuns");
+        ThreadPoolConfig config = new ThreadPoolConfig("test", properties, 50, 4);
+
+        Assert.assertEquals(config.getCoreSize(), 8);
+        Assert.assertEquals(config.getMaxSize(), 16);
+        Assert.assertEquals(config.getKeepAliveSeconds(), 30);
+        Assert.assertEquals(config.getQueueCapacity(), 64);
+        Assert.assertEquals(config.getRejectionPolicy(), ThreadPoolConfig.POLICY_CALLER_RUNS);
+        Assert.assertTrue(config.createQueue() instanceof ArrayBlockingQueue);
+    }
+
+    @Test(description = "Test sizing thread pools from the number of processors")
+    public void testAutoSizing() {
+        Properties properties = new Properties();
+        properties.setProperty(ThreadPoolConfig.PROP_SIZING, ThreadPoolConfig.SIZING_AUTO);
+        ThreadPoolConfig config = new ThreadPoolConfig("test", properties, 500, 4);
+        Assert.assertEquals(config.getCoreSize(), Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    @Test(description = "Test falling back to the defaults for invalid thread pool settings")
+    public void testInvalidSettings() {
+        Properties properties = new Properties();
+        properties.setProperty("ballerina.threadpool.test.coreSize", "0");
+        properties.setProperty("ballerina.threadpool.test.maxSize", "many");
+        properties.setProperty("ballerina.threadpool.test.queue", "unbounded");
+        properties.setProperty("ballerina.threadpool.test.rejectionPolicy", "retry");
+        ThreadPoolConfig config = new ThreadPoolConfig("test", properties, 50, 4);
+
+        Assert.assertEquals(config.getCoreSize(), 50);
+        Assert.assertEquals(config.getMaxSize(), 50);
+        Assert.assertEquals(config.getQueueType(), ThreadPoolConfig.QUEUE_LINKED);
+        Assert.assertEquals(config.getRejectionPolicy(), ThreadPoolConfig.POLICY_ABORT);
+        Assert.assertTrue(config.createQueue() instanceof LinkedBlockingQueue);
+    }
+
+    @Test(description = "Test counting rejected tasks of a bounded thread pool")
+    public void testRejectedTaskCount() throws InterruptedException {
+        Properties properties = new Properties();
+        properties.setProperty("ballerina.threadpool.test.queue", "array");
+        properties.setProperty("ballerina.threadpool.test.queueCapacity", "1");
+        BLangThreadPoolExecutor executor = new BLangThreadPoolExecutor(
+                new ThreadPoolConfig("test", properties, 1, 1), new BLangThreadFactory("test"));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> { });
+            Assert.assertEquals(executor.getQueueDepth(), 1);
+            try {
+                executor.execute(() -> { });
+                Assert.fail("task should have been rejected");
+            } catch (RejectedExecutionException e) {
+                Assert.assertEquals(executor.getRejectedTaskCount(), 1);
+            }
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test(description = "Test running nested fork/join branches on a fork/join pool with a single core thread")
+    public void testNestedForkJoinBranches() throws InterruptedException, ExecutionException, TimeoutException {
+        Properties properties = new Properties();
+        properties.setProperty("ballerina.threadpool.forkjoin.coreSize", "1");
+        ThreadPoolConfig config = ThreadPoolFactory.createForkJoinPoolConfig(properties);
+        Assert.assertEquals(config.getCoreSize(), 1);
+        Assert.assertEquals(config.getMaxSize(), Integer.MAX_VALUE);
+        Assert.assertTrue(config.createQueue() instanceof SynchronousQueue);
+
+        BLangThreadPoolExecutor executor = new BLangThreadPoolExecutor(config, new BLangThreadFactory("test"));
+        try {
+            // The outer branch holds the only core thread while waiting for the inner branch
+            Future<String> outerBranch = executor.submit(() -> executor.submit(() -> "inner").get());
+            Assert.assertEquals(outerBranch.get(10, TimeUnit.SECONDS), "inner");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
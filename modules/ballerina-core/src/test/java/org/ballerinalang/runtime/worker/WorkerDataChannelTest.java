@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test cases for handing over data between workers through a {@link WorkerDataChannel}.
+ *
+ * @since 0.88
+ */
+public class WorkerDataChannelTest {
+
+    @Test(description = "Test taking data which is sent while the receiver is waiting")
+    public void testTakeData() throws InterruptedException, ExecutionException, TimeoutException {
+        WorkerDataChannel channel = new WorkerDataChannel("sender", "receiver");
+        CompletableFuture<Object[]> receiver = CompletableFuture.supplyAsync(channel::takeData);
+
+        Object[] data = {"data"};
+        channel.putData(data);
+        Assert.assertSame(receiver.get(10, TimeUnit.SECONDS), data);
+    }
+
+    @Test(description = "Test releasing a receiver which is cancelled while waiting for data")
+    public void testCancelReceiver() throws InterruptedException, ExecutionException, TimeoutException {
+        WorkerDataChannel channel = new WorkerDataChannel("sender", "receiver");
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture<Object[]> receiver = CompletableFuture.supplyAsync(() -> channel.takeData(cancelled::get));
+
+        cancelled.set(true);
+        channel.wakeUpReceiver();
+        // Released well before the timeout of the channel
+        Assert.assertNull(receiver.get(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.services.dispatchers.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for matching request paths against service base paths.
+ *
+ * @since 0.88
+ */
+public class BasePathTrieTest {
+
+    private final BasePathTrie basePathTrie = new BasePathTrie(
+            Arrays.asList("/", "/hello", "/hello/world", "/Echo", "/a/b/c"));
+
+    @Test(description = "Test matching the most specific base path")
+    public void testMostSpecificBasePath() {
+        Assert.assertEquals(basePathTrie.match("/hello"), "/hello");
+        Assert.assertEquals(basePathTrie.match("/hello/"), "/hello");
+        Assert.assertEquals(basePathTrie.match("/hello/sayHello"), "/hello");
+        Assert.assertEquals(basePathTrie.match("/hello/world"), "/hello/world");
+        Assert.assertEquals(basePathTrie.match("/hello/world/foo/bar"), "/hello/world");
+        Assert.assertEquals(basePathTrie.match("/a/b/c/d"), "/a/b/c");
+    }
+
+    @Test(description = "Test matching base paths ignoring case")
+    public void testCaseInsensitiveMatch() {
+        Assert.assertEquals(basePathTrie.match("/echo/foo"), "/Echo");
+        Assert.assertEquals(basePathTrie.match("/HELLO/World"), "/hello/world");
+    }
+
+    @Test(description = "Test matching base paths only on whole segments")
+    public void testSegmentMatch() {
+        Assert.assertEquals(basePathTrie.match("/helloworld"), "/");
+        Assert.assertEquals(basePathTrie.match("/hell"), "/");
+        Assert.assertEquals(basePathTrie.match("/a/b"), "/");
+    }
+
+    @Test(description = "Test falling back to the default base path")
+    public void testDefaultBasePath() {
+        Assert.assertEquals(basePathTrie.match("/"), "/");
+        Assert.assertEquals(basePathTrie.match(""), "/");
+        Assert.assertEquals(basePathTrie.match("/unknown/path"), "/");
+    }
+
+    @Test(description = "Test matching without a default base path")
+    public void testNoDefaultBasePath() {
+        BasePathTrie trie = new BasePathTrie(Collections.singletonList("/hello"));
+        Assert.assertEquals(trie.match("/hello/foo"), "/hello");
+        Assert.assertNull(trie.match("/unknown"));
+        Assert.assertNull(trie.match("/"));
+    }
+
+    @Test(description = "Test matching paths with repeated slashes")
+    public void testRepeatedSlashes() {
+        Assert.assertEquals(basePathTrie.match("//hello//world/"), "/hello/world");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.services.dispatchers.uri;
+
+import org.ballerinalang.services.dispatchers.http.Constants;
+import org.ballerinalang.services.dispatchers.uri.parser.Literal;
+import org.ballerinalang.util.codegen.AnnotationAttachmentInfo;
+import org.ballerinalang.util.codegen.AnnotationAttributeInfo;
+import org.ballerinalang.util.codegen.AttributeInfo;
+import org.ballerinalang.util.codegen.ResourceInfo;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for dispatching request paths with compiled URI templates.
+ *
+ * @since 0.88
+ */
+public class URITemplateMatcherTest {
+
+    private URITemplate uriTemplate;
+    private ResourceInfo getRoot;
+    private ResourceInfo getUser;
+    private ResourceInfo getUserOrders;
+    private ResourceInfo getCurrentUser;
+    private ResourceInfo postUser;
+    private ResourceInfo defaultResource;
+
+    @BeforeClass
+    public void setup() throws URITemplateException {
+        getRoot = createResource(1, "GET");
+        getUser = createResource(2, "GET");
+        getUserOrders = createResource(3, "GET");
+        getCurrentUser = createResource(4, "GET");
+        postUser = createResource(5, "POST");
+        defaultResource = createResource(6, null);
+
+        uriTemplate = new URITemplate(new Literal("/"));
+        uriTemplate.parse("/", getRoot);
+        uriTemplate.parse("/users/{userId}", getUser);
+        uriTemplate.parse("/users/{userId}/orders/{orderId}", getUserOrders);
+        uriTemplate.parse("/users/me", getCurrentUser);
+        uriTemplate.parse("/users/{userId}", postUser);
+        uriTemplate.parse("/echo/", defaultResource);
+    }
+
+    @Test(description = "Test matching literal and variable segments")
+    public void testMatch() {
+        Map<String, String> variables = new HashMap<>();
+        Assert.assertSame(uriTemplate.matches("/", "GET", variables), getRoot);
+        Assert.assertSame(uriTemplate.matches("/users/me", "GET", variables), getCurrentUser);
+        Assert.assertTrue(variables.isEmpty());
+
+        Assert.assertSame(uriTemplate.matches("/users/john", "GET", variables), getUser);
+        Assert.assertEquals(variables.get("userId"), "john");
+
+        variables.clear();
+        Assert.assertSame(uriTemplate.matches("/users/me/orders/10", "GET", variables), getUserOrders);
+        Assert.assertEquals(variables.get("userId"), "me");
+        Assert.assertEquals(variables.get("orderId"), "10");
+    }
+
+    @Test(description = "Test matching by HTTP method")
+    public void testMatchMethod() {
+        Map<String, String> variables = new HashMap<>();
+        Assert.assertSame(uriTemplate.matches("/users/john", "POST", variables), postUser);
+        Assert.assertNull(uriTemplate.matches("/users/john/orders/10", "POST", variables));
+        Assert.assertNull(uriTemplate.matches("/users/john", "PUT", variables));
+
+        // Resources without a method annotation only handle GET requests
+        Assert.assertSame(uriTemplate.matches("/echo", "GET", variables), defaultResource);
+        Assert.assertNull(uriTemplate.matches("/echo", "POST", variables));
+    }
+
+    @Test(description = "Test matching whole segments only")
+    public void testNoMatch() {
+        Map<String, String> variables = new HashMap<>();
+        Assert.assertNull(uriTemplate.matches("/usersfoo/john", "GET", variables));
+        Assert.assertNull(uriTemplate.matches("/users/john/orders", "GET", variables));
+        Assert.assertNull(uriTemplate.matches("/users/john/orders/10/items", "GET", variables));
+        Assert.assertNull(uriTemplate.matches("/users/a,b", "GET", variables));
+        Assert.assertTrue(variables.isEmpty());
+    }
+
+    @Test(description = "Test decoding variable values")
+    public void testDecodeValue() {
+        Map<String, String> variables = new HashMap<>();
+        Assert.assertSame(uriTemplate.matches("/users/john%20doe", "GET", variables), getUser);
+        Assert.assertEquals(variables.get("userId"), "john doe");
+    }
+
+    @Test(description = "Test reading only the declared query parameters")
+    public void testQueryParams() throws Exception {
+        Map<String, String> queryParams = new HashMap<>();
+        QueryParamProcessor.processQueryParams("foo=1&bar=a%20b&baz&foobar=2", new String[] {"m", "bar", "foo"},
+                queryParams);
+        Assert.assertEquals(queryParams.size(), 2);
+        Assert.assertEquals(queryParams.get("foo"), "1");
+        Assert.assertEquals(queryParams.get("bar"), "a b");
+    }
+
+    private static ResourceInfo createResource(int nameCPIndex, String httpMethod) {
+        ResourceInfo resourceInfo = new ResourceInfo("test", 0, "resource" + nameCPIndex, nameCPIndex);
+        if (httpMethod != null) {
+            AnnotationAttributeInfo attributeInfo = new AnnotationAttributeInfo();
+            attributeInfo.addAnnotationAttachmentInfo(
+                    new AnnotationAttachmentInfo(Constants.HTTP_PACKAGE_PATH, 0, httpMethod, 0));
+            resourceInfo.addAttributeInfo(AttributeInfo.ANNOTATIONS_ATTRIBUTE, attributeInfo);
+        }
+        return resourceInfo;
+    }
+}
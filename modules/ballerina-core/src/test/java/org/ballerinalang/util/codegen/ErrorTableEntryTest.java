@@ -0,0 +1,95 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for looking up error table entries and line numbers by instruction pointer.
+ *
+ * @since 0.88
+ */
+public class ErrorTableEntryTest {
+
+    @Test(description = "Test matching the innermost error table entry covering an IP")
+    public void testGetMatch() {
+        PackageInfo packageInfo = new PackageInfo("test");
+        // Two callable units, the first with a nested try block
+        ErrorTableEntry outer = addAnyErrorEntry(packageInfo, 10, 40, 0);
+        ErrorTableEntry inner = addAnyErrorEntry(packageInfo, 20, 30, 0);
+        ErrorTableEntry other = addAnyErrorEntry(packageInfo, 60, 70, 0);
+
+        // Entries for any error type do not look at the error
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 15, null), outer);
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 20, null), inner);
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 30, null), inner);
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 35, null), outer);
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 65, null), other);
+        Assert.assertNull(ErrorTableEntry.getMatch(packageInfo, 5, null));
+        Assert.assertNull(ErrorTableEntry.getMatch(packageInfo, 50, null));
+        Assert.assertNull(ErrorTableEntry.getMatch(packageInfo, 80, null));
+    }
+
+    @Test(description = "Test matching the error table entry with the lowest priority for the same range")
+    public void testGetMatchByPriority() {
+        PackageInfo packageInfo = new PackageInfo("test");
+        addAnyErrorEntry(packageInfo, 10, 20, 1);
+        ErrorTableEntry first = addAnyErrorEntry(packageInfo, 10, 20, 0);
+
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 15, null), first);
+
+        // Entries added after a lookup are found too
+        ErrorTableEntry inner = addAnyErrorEntry(packageInfo, 12, 14, 0);
+        Assert.assertSame(ErrorTableEntry.getMatch(packageInfo, 13, null), inner);
+    }
+
+    @Test(description = "Test looking up the line of an IP")
+    public void testGetLineNumberInfo() {
+        PackageInfo packageInfo = new PackageInfo("test");
+        LineNumberInfo line1 = addLine(packageInfo, 1, 0);
+        LineNumberInfo line2 = addLine(packageInfo, 2, 5);
+        // A line without instructions
+        LineNumberInfo line3 = addLine(packageInfo, 3, 9);
+        LineNumberInfo line4 = addLine(packageInfo, 4, 9);
+        LineNumberInfo line5 = addLine(packageInfo, 5, 12);
+
+        Assert.assertSame(packageInfo.getLineNumberInfo(0), line1);
+        Assert.assertSame(packageInfo.getLineNumberInfo(3), line1);
+        Assert.assertSame(packageInfo.getLineNumberInfo(5), line2);
+        Assert.assertSame(packageInfo.getLineNumberInfo(8), line2);
+        Assert.assertSame(packageInfo.getLineNumberInfo(9), line3);
+        Assert.assertSame(packageInfo.getLineNumberInfo(10), line4);
+        Assert.assertSame(packageInfo.getLineNumberInfo(12), line5);
+        Assert.assertNull(packageInfo.getLineNumberInfo(13));
+        Assert.assertNull(packageInfo.getLineNumberInfo(-1));
+    }
+
+    private ErrorTableEntry addAnyErrorEntry(PackageInfo packageInfo, int ipFrom, int ipTo, int priority) {
+        ErrorTableEntry errorTableEntry = new ErrorTableEntry(ipFrom, ipTo, ipTo + 1, priority, -1);
+        packageInfo.addErrorTableEntry(errorTableEntry);
+        errorTableEntry.setPackageInfo(packageInfo);
+        return errorTableEntry;
+    }
+
+    private LineNumberInfo addLine(PackageInfo packageInfo, int lineNumber, int ip) {
+        LineNumberInfo lineNumberInfo = new LineNumberInfo(lineNumber, -1, ip).setPackageInfo(packageInfo);
+        packageInfo.addLineNumberInfo(lineNumberInfo);
+        return lineNumberInfo;
+    }
+}
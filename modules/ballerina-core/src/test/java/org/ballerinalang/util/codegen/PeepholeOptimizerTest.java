@@ -0,0 +1,106 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen;
+
+import org.ballerinalang.BLangProgramLoader;
+import org.ballerinalang.core.utils.BTestUtils;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test cases for the superinstructions introduced by the {@link PeepholeOptimizer}.
+ *
+ * @since 0.88
+ */
+public class PeepholeOptimizerTest {
+
+    private static final String SOURCE_PATH = "lang/codegen/peephole-optimizer.bal";
+
+    private ProgramFile programFile;
+    private ProgramFile unoptimizedProgramFile;
+
+    @BeforeClass
+    public void setup() throws URISyntaxException {
+        programFile = BTestUtils.getProgramFile(SOURCE_PATH);
+        Path programPath = Paths.get(BTestUtils.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        unoptimizedProgramFile = new BLangProgramLoader().disablePeepholeOptimizer()
+                .loadProgramFile(programPath, Paths.get(SOURCE_PATH));
+    }
+
+    @Test(description = "Test the superinstructions introduced for copies and constant expressions")
+    public void testSuperinstructions() {
+        Set<Integer> opcodes = getOpcodes(programFile);
+        Assert.assertTrue(opcodes.contains(InstructionCodes.IMOVE_LOCAL));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.FMOVE_LOCAL));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.SMOVE_LOCAL));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.BMOVE_LOCAL));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.ISTORE_CONST));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.ICONST_FOLDED));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.ILT_BR_FALSE));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.IADD_LOCALS));
+        Assert.assertTrue(opcodes.contains(InstructionCodes.IADD_LOCAL_CONST));
+
+        Set<Integer> unoptimizedOpcodes = getOpcodes(unoptimizedProgramFile);
+        Assert.assertFalse(unoptimizedOpcodes.contains(InstructionCodes.IMOVE_LOCAL));
+        Assert.assertFalse(unoptimizedOpcodes.contains(InstructionCodes.ISTORE_CONST));
+        Assert.assertFalse(unoptimizedOpcodes.contains(InstructionCodes.ICONST_FOLDED));
+    }
+
+    @Test(description = "Test the results of a function with and without the superinstructions")
+    public void testOptimizedSequences() {
+        BValue[] args = {new BInteger(4), new BFloat(2.5), new BString("ballerina"), new BBoolean(true)};
+        assertResults(BLangFunctions.invokeNew(programFile, "testOptimizedSequences", args));
+        assertResults(BLangFunctions.invokeNew(unoptimizedProgramFile, "testOptimizedSequences", args));
+    }
+
+    private void assertResults(BValue[] returns) {
+        Assert.assertEquals(returns.length, 6);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 4);
+        Assert.assertEquals(((BFloat) returns[1]).floatValue(), 2.5);
+        Assert.assertEquals(returns[2].stringValue(), "ballerina");
+        Assert.assertTrue(((BBoolean) returns[3]).booleanValue());
+        // (2 + 3 + 3 * 4) + (10 - 4) + (7 * 6) + (4 + 2 * 3)
+        Assert.assertEquals(((BInteger) returns[4]).intValue(), 75);
+        // Does not fit in an operand, hence not folded
+        Assert.assertEquals(((BInteger) returns[5]).intValue(), 10000000000L);
+    }
+
+    private Set<Integer> getOpcodes(ProgramFile programFile) {
+        Set<Integer> opcodes = new HashSet<>();
+        for (PackageInfo packageInfo : programFile.getPackageInfoCollection()) {
+            int[] code = packageInfo.getCode();
+            for (int i = 0; i < code.length; i += Instruction.WIDTH) {
+                opcodes.add(code[i]);
+            }
+        }
+        return opcodes;
+    }
+}
@@ -0,0 +1,19 @@
+function testOptimizedSequences(int a, float b, string c, boolean d) (int, float, string, boolean, int, int) {
+    int a1 = a;
+    float b1 = b;
+    string c1 = c;
+    boolean d1 = d;
+
+    int sum = 2 + 3;
+    int diff = 10 - 4;
+    int product = 7 * 6;
+    int large = 100000 * 100000;
+    int folded = a1 + 2 * 3;
+
+    int i = 0;
+    while (i < 3) {
+        sum = sum + a1;
+        i = i + 1;
+    }
+    return a1, b1, c1, d1, sum + diff + product + folded, large;
+}
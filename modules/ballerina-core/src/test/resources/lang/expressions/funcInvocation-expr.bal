@@ -28,3 +28,34 @@ function sum (int a) (int) {
    return a;
 }
 
+
+function fib (int n) (int) {
+    if (n < 2) {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function testRepeatedInvocation (int n) (int, string) {
+    int i = 0;
+    int total;
+    string labels;
+    while (i < n) {
+        total = total + accumulate(i);
+        labels = labels + label("a");
+        i = i + 1;
+    }
+    return total, labels;
+}
+
+function accumulate (int a) (int) {
+    int x;
+    x = x + a;
+    return x;
+}
+
+function label (string prefix) (string) {
+    string s;
+    s = s + prefix;
+    return s;
+}
@@ -268,3 +268,15 @@ function testStringWithEscapedCharsToJson() (json) {
     string s = "{\\\"name\\\", \"supun\"}";
     return <json> s;
 }
+
+function testConstJsonLiteralCopies() (json, json) {
+    json j1 = getConstJson();
+    j1.details.lname = "Setunga";
+    json j2 = getConstJson();
+    return j1, j2;
+}
+
+function getConstJson() (json) {
+    json j = {details: {fname:"Supun", lname:"Thilina"}, age:25, weight:62.5, married:false, tags:["a", "b"]};
+    return j;
+}
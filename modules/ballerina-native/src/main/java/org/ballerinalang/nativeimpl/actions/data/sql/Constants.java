@@ -93,4 +93,12 @@ public final class Constants {
 
     public static final String CONNECTOR_NAME = "ClientConnector";
     public static final String DATASOURCE_KEY = "datasource_key";
+    // Maximum number of idle prepared statements cached per connection, or 0 to disable caching
+    public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+    // Number of rows sent to the database at a time by a batch update, or 0 to send all the rows at once
+    public static final String BATCH_SIZE = "batchSize";
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    // Number of rows after which a batch update commits, or 0 (the default) to commit once all the rows are updated
+    public static final String BATCH_COMMIT_INTERVAL = "batchCommitInterval";
 }
@@ -49,16 +49,26 @@ public class SQLDataIterator implements DataIterator {
     private Connection conn;
     private Statement stmt;
     private ResultSet rs;
+    private boolean isInTransaction;
+    private StatementCache statementCache;
 
     public SQLDataIterator(Connection conn, Statement stmt, ResultSet rs) throws SQLException {
+        this(conn, stmt, rs, false, null);
+    }
+
+    public SQLDataIterator(Connection conn, Statement stmt, ResultSet rs, boolean isInTransaction,
+                           StatementCache statementCache) throws SQLException {
         this.conn = conn;
         this.stmt = stmt;
         this.rs = rs;
+        this.isInTransaction = isInTransaction;
+        this.statementCache = statementCache;
     }
 
     @Override
     public void close() {
-        SQLDatasourceUtils.cleanupConnection(rs, stmt, conn, false);
+        // The connection of a transaction is closed by the transaction, after it is committed or rolled back
+        SQLDatasourceUtils.cleanupConnection(rs, stmt, conn, isInTransaction, statementCache);
         rs = null;
         stmt = null;
         conn = null;
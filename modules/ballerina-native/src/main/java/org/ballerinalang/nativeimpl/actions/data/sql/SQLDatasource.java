@@ -25,6 +25,7 @@ import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.sql.Connection;
@@ -32,6 +33,10 @@ import java.sql.SQLException;
 import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.sql.XADataSource;
 
 /**
@@ -47,6 +52,11 @@ public class SQLDatasource implements BValue {
     private String databaseName;
     private String connectorId;
     private boolean xaConn;
+    private boolean mysql;
+    private StatementCache statementCache;
+    private ThreadPoolExecutor executor;
+    private int batchSize;
+    private int batchCommitInterval;
 
     public String getDatabaseName() {
         return databaseName;
@@ -58,8 +68,19 @@ public class SQLDatasource implements BValue {
         buildDataSource(options);
         connectorId = UUID.randomUUID().toString();
         xaConn = isXADataSource();
+        // Connections of distributed transactions are not pooled, hence their statements are not cached
+        statementCache = new StatementCache(xaConn ? 0 :
+                getIntOption(options, Constants.STATEMENT_CACHE_SIZE, Constants.DEFAULT_STATEMENT_CACHE_SIZE));
+        batchSize = getIntOption(options, Constants.BATCH_SIZE, Constants.DEFAULT_BATCH_SIZE);
+        batchCommitInterval = getIntOption(options, Constants.BATCH_COMMIT_INTERVAL, 0);
+        // A thread per pooled connection, since more would only wait for a connection
+        int poolSize = hikariDataSource.getMaximumPoolSize();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new BLangThreadFactory("sql-" + hikariDataSource.getPoolName()));
+        executor.allowCoreThreadTimeOut(true);
         try (Connection con = getSQLConnection()) {
             databaseName = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ENGLISH);
+            mysql = databaseName.contains("mysql");
         } catch (SQLException e) {
             throw new BallerinaException(
                     "error in get connection: " + Constants.CONNECTOR_NAME + ": " + e.getMessage(), e);
@@ -84,6 +105,43 @@ public class SQLDatasource implements BValue {
         return this.xaConn;
     }
 
+    /**
+     * MySQL reads the whole result set into memory, unless it is asked to stream the results.
+     *
+     * @return true if the database is MySQL
+     */
+    public boolean isMySQL() {
+        return mysql;
+    }
+
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Get the executor which runs the JDBC calls of non-blocking action invocations, so that the thread of the
+     * request is released while waiting for the database.
+     *
+     * @return database executor of the datasource
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return number of rows sent to the database at a time by a batch update, or 0 to send all the rows at once
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return number of rows after which a batch update commits, or 0 to commit once all the rows are updated
+     */
+    public int getBatchCommitInterval() {
+        return batchCommitInterval;
+    }
+
     public XADataSource getXADataSource() {
         XADataSource xaDataSource;
         try {
@@ -95,9 +153,28 @@ public class SQLDatasource implements BValue {
     }
 
     public void closeConnectionPool() {
+        executor.shutdown();
+        statementCache.clear();
         hikariDataSource.close();
     }
 
+    private int getIntOption(BMap options, String key, int defaultValue) {
+        BValue value = options.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.stringValue());
+            if (intValue >= 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new BallerinaException("error in sql connector configuration: invalid value '" + value.stringValue()
+                + "' for " + key);
+    }
+
     private void buildDataSource(BMap options) {
         try {
             HikariConfig config = new HikariConfig();
@@ -0,0 +1,314 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.nativeimpl.actions.data.sql;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code StatementCache} keeps the prepared and callable statements of the physical connections of a
+ * {@link SQLDatasource}, so that repeated queries are not prepared again each time a connection is taken from the pool.
+ * <p>
+ * Statements are cached per physical connection and keyed by the SQL text and the kind of statement. Each connection
+ * keeps at most the configured number of idle statements, and closes the least recently used one when full. A
+ * statement taken from the cache is not handed out again until it is released, so concurrent uses of the same query
+ * on one connection, such as two open datatables in a transaction, get their own statements.
+ * <p>
+ * Since the connection pool closes the statements of a connection proxy when the proxy is closed, statements are
+ * prepared on the physical connection instead, which the pool does not track. Hence:
+ * <ul>
+ * <li>the pool does not roll back the uncommitted work of these statements when a connection is returned, which is
+ * done by {@code SQLDatasourceUtils.cleanupConnection} instead. Commits and rollbacks through the proxy, as done by
+ * transactions and batch updates, apply to the physical connection as usual.</li>
+ * <li>statements are closed along with the physical connection when the pool evicts it. Closed connections are
+ * dropped from the cache, and closed statements are never handed out.</li>
+ * </ul>
+ *
+ * @since 0.88
+ */
+public class StatementCache {
+
+    /**
+     * Kinds of statements, since the same SQL text gives a different statement for each.
+     */
+    enum Kind {
+        PREPARED, PREPARED_STREAMING, CALLABLE, CALLABLE_STREAMING
+    }
+
+    private final int maxSize;
+    // Map<physical connection, statements of the connection>
+    private final Map<Connection, ConnectionStatements> connections = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maxSize maximum number of idle statements kept per connection. Caching is disabled if this is zero.
+     */
+    public StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get a prepared statement for the given query, from the cache if one is available.
+     *
+     * @param conn      connection to prepare the statement on
+     * @param query     SQL query
+     * @param streaming whether results are streamed a row at a time instead of being read into memory (MySQL)
+     * @return prepared statement, which should be given back through {@link #release(Statement)}
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareStatement(Connection conn, String query, boolean streaming) throws SQLException {
+        Kind kind = streaming ? Kind.PREPARED_STREAMING : Kind.PREPARED;
+        return (PreparedStatement) getStatement(conn, new Key(query, kind));
+    }
+
+    /**
+     * Get a callable statement for the given procedure call, from the cache if one is available.
+     *
+     * @param conn      connection to prepare the statement on
+     * @param query     SQL procedure call
+     * @param streaming whether results are streamed a row at a time instead of being read into memory (MySQL)
+     * @return callable statement, which should be given back through {@link #release(Statement)}
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public CallableStatement prepareCall(Connection conn, String query, boolean streaming) throws SQLException {
+        Kind kind = streaming ? Kind.CALLABLE_STREAMING : Kind.CALLABLE;
+        return (CallableStatement) getStatement(conn, new Key(query, kind));
+    }
+
+    /**
+     * Give back a statement after its results are read. Statements which did not come from this cache, or which do
+     * not fit into it, are closed.
+     *
+     * @param stmt statement to release
+     */
+    public void release(Statement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        boolean cached = false;
+        if (maxSize > 0) {
+            try {
+                ConnectionStatements statements = connections.get(stmt.getConnection());
+                cached = statements != null && statements.checkIn(stmt);
+            } catch (SQLException ignore) { /* ignore */ }
+        }
+        if (!cached) {
+            closeQuietly(stmt);
+        }
+    }
+
+    /**
+     * Close the idle statements and forget all the connections. This is called when the connection pool is closed.
+     */
+    public synchronized void clear() {
+        connections.values().forEach(ConnectionStatements::closeIdle);
+        connections.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return number of physical connections whose statements are kept
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    private Statement getStatement(Connection conn, Key key) throws SQLException {
+        if (maxSize <= 0) {
+            missCount.increment();
+            return prepare(conn, key);
+        }
+
+        Connection physicalConn = getPhysicalConnection(conn);
+        ConnectionStatements statements = connections.get(physicalConn);
+        if (statements == null) {
+            statements = addConnection(physicalConn);
+        }
+        Statement stmt = statements.checkOut(key);
+        if (stmt != null) {
+            hitCount.increment();
+            return stmt;
+        }
+        missCount.increment();
+        stmt = prepare(physicalConn, key);
+        statements.track(stmt, key);
+        return stmt;
+    }
+
+    private synchronized ConnectionStatements addConnection(Connection physicalConn) {
+        // A new connection usually replaces one which the pool closed, so this is when closed ones are dropped
+        connections.keySet().removeIf(this::isClosed);
+        return connections.computeIfAbsent(physicalConn, c -> new ConnectionStatements());
+    }
+
+    private boolean isClosed(Connection conn) {
+        try {
+            return conn.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private Connection getPhysicalConnection(Connection conn) {
+        // The pool hands out a new proxy each time, hence the statements are kept against the connection it wraps
+        try {
+            return conn.unwrap(Connection.class);
+        } catch (SQLException e) {
+            return conn;
+        }
+    }
+
+    private static void closeQuietly(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException ignore) { /* ignore */ }
+    }
+
+    private Statement prepare(Connection conn, Key key) throws SQLException {
+        switch (key.kind) {
+        case PREPARED_STREAMING:
+            PreparedStatement stmt = conn.prepareStatement(key.query, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
+            try {
+                stmt.setFetchSize(Integer.MIN_VALUE);
+            } catch (SQLException e) {
+                stmt.close();
+            }
+            return stmt;
+        case CALLABLE:
+            return conn.prepareCall(key.query);
+        case CALLABLE_STREAMING:
+            CallableStatement call = conn.prepareCall(key.query, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            call.setFetchSize(Integer.MIN_VALUE);
+            return call;
+        default:
+            return conn.prepareStatement(key.query);
+        }
+    }
+
+    /**
+     * Statements of a single physical connection.
+     */
+    private class ConnectionStatements {
+
+        private final Map<Key, Statement> idle = new LinkedHashMap<Key, Statement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Statement> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                evictionCount.increment();
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+        private final Map<Statement, Key> inUse = new IdentityHashMap<>();
+
+        synchronized Statement checkOut(Key key) throws SQLException {
+            Statement stmt = idle.remove(key);
+            if (stmt == null) {
+                return null;
+            }
+            if (stmt.isClosed()) {
+                // The driver closed it, e.g. along with the connection
+                return null;
+            }
+            inUse.put(stmt, key);
+            return stmt;
+        }
+
+        synchronized void track(Statement stmt, Key key) {
+            inUse.put(stmt, key);
+        }
+
+        synchronized boolean checkIn(Statement stmt) throws SQLException {
+            Key key = inUse.remove(stmt);
+            if (key == null || stmt.isClosed() || idle.containsKey(key)) {
+                return false;
+            }
+            ((PreparedStatement) stmt).clearParameters();
+            idle.put(key, stmt);
+            return true;
+        }
+
+        synchronized void closeIdle() {
+            idle.values().forEach(StatementCache::closeQuietly);
+            idle.clear();
+        }
+    }
+
+    /**
+     * Cache key of a statement.
+     */
+    private static class Key {
+
+        private final String query;
+        private final Kind kind;
+
+        Key(String query, Kind kind) {
+            this.query = query;
+            this.kind = kind;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return kind == that.kind && query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * query.hashCode() + kind.hashCode();
+        }
+    }
+}
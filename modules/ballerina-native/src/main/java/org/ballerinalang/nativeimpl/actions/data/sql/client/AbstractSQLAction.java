@@ -21,11 +21,13 @@ import org.ballerinalang.bre.BallerinaTransactionContext;
 import org.ballerinalang.bre.BallerinaTransactionManager;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
-import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BRefValueArray;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BStringArray;
@@ -35,7 +37,9 @@ import org.ballerinalang.nativeimpl.actions.data.sql.Constants;
 import org.ballerinalang.nativeimpl.actions.data.sql.SQLDataIterator;
 import org.ballerinalang.nativeimpl.actions.data.sql.SQLDatasource;
 import org.ballerinalang.nativeimpl.actions.data.sql.SQLTransactionContext;
+import org.ballerinalang.nativeimpl.actions.data.sql.StatementCache;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
+import org.ballerinalang.natives.connectors.BalConnectorCallback;
 import org.ballerinalang.util.DistributedTxManagerProvider;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
@@ -57,6 +61,8 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 import javax.sql.XAConnection;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
@@ -71,22 +77,93 @@ import javax.transaction.xa.XAResource;
  */
 public abstract class AbstractSQLAction extends AbstractNativeAction {
 
+    protected static final BString DATASOURCE_KEY = new BString(Constants.DATASOURCE_KEY);
+
+    /**
+     * Get the datasource of the connector. It is looked up in the shared map of the connector the first time, and
+     * kept in the connector afterwards.
+     *
+     * @param bConnector SQL connector
+     * @return datasource created by the init action
+     */
+    protected SQLDatasource getDatasource(BConnector bConnector) {
+        Object nativeData = bConnector.getNativeData();
+        if (nativeData instanceof SQLDatasource) {
+            return (SQLDatasource) nativeData;
+        }
+        BMap sharedMap = (BMap) bConnector.getRefField(1);
+        SQLDatasource datasource = (SQLDatasource) sharedMap.get(DATASOURCE_KEY);
+        if (datasource == null) {
+            throw new BallerinaException("Datasource have not been initialized properly at " +
+                    "Init native action invocation.");
+        }
+        bConnector.setNativeData(datasource);
+        return datasource;
+    }
+
+    /**
+     * Run the action on the executor of the datasource, and resume the VM through the callback once it completes.
+     *
+     * @param context           Ballerina context.
+     * @param connectorCallback Callback instance to notify completion of the action invocation.
+     */
+    @Override
+    public void execute(Context context, BalConnectorCallback connectorCallback) {
+        SQLDatasource datasource = getDatasource((BConnector) getRefArgument(context, 0));
+        connectorCallback.setNonBlockingExecution(true);
+        try {
+            datasource.getExecutor().execute(() -> {
+                Throwable error = null;
+                try {
+                    // Return values are set in the frame of the action, which the VM copies when resumed
+                    execute(context);
+                } catch (Throwable t) {
+                    error = t;
+                }
+                connectorCallback.done(error);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new BallerinaException("datasource is closed: " + Constants.CONNECTOR_NAME, e);
+        }
+    }
+
+    @Override
+    public void validate(BalConnectorCallback connectorCallback) {
+        Throwable error = connectorCallback.getError();
+        if (error != null) {
+            throw new BallerinaException(error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Only invocations from a resource run non-blocking, as the VM is then resumed by the response worker. Functions
+     * invoked directly expect the results once the invocation returns. The VM does not run actions within a
+     * transaction non-blocking either, so those stay on the thread which holds the transaction connection.
+     *
+     * @param context Ballerina context of the invocation
+     * @return true if the invocation comes from a resource
+     */
+    @Override
+    public boolean isNonBlockingAction(Context context) {
+        return context.getServiceInfo() != null;
+    }
 
     protected void executeQuery(Context context, SQLDatasource datasource, String query, BRefValueArray parameters) {
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
         boolean isInTransaction = context.isInTransaction();
+        StatementCache statementCache = datasource.getStatementCache();
         try {
             conn = getDatabaseConnection(context, datasource, isInTransaction);
-            stmt = getPreparedStatement(conn, datasource, query);
+            stmt = statementCache.prepareStatement(conn, query, datasource.isMySQL());
             createProcessedStatement(conn, stmt, parameters);
             rs = stmt.executeQuery();
-            BDataTable dataTable = new BDataTable(new SQLDataIterator(conn, stmt, rs),
-                    getColumnDefinitions(rs));
+            BDataTable dataTable = new BDataTable(
+                    new SQLDataIterator(conn, stmt, rs, isInTransaction, statementCache), getColumnDefinitions(rs));
             context.getControlStackNew().getCurrentFrame().returnValues[0] = dataTable;
         } catch (SQLException e) {
-            SQLDatasourceUtils.cleanupConnection(rs, stmt, conn, isInTransaction);
+            SQLDatasourceUtils.cleanupConnection(rs, stmt, conn, isInTransaction, statementCache);
             throw new BallerinaException("execute query failed: " + e.getMessage(), e);
         }
     }
@@ -95,9 +172,10 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         Connection conn = null;
         PreparedStatement stmt = null;
         boolean isInTransaction = context.isInTransaction();
+        StatementCache statementCache = datasource.getStatementCache();
         try {
             conn = getDatabaseConnection(context, datasource, isInTransaction);
-            stmt = conn.prepareStatement(query);
+            stmt = statementCache.prepareStatement(conn, query, false);
             createProcessedStatement(conn, stmt, parameters);
             int count = stmt.executeUpdate();
             BInteger updatedCount = new BInteger(count);
@@ -105,7 +183,7 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         } catch (SQLException e) {
             throw new BallerinaException("execute update failed: " + e.getMessage(), e);
         } finally {
-            SQLDatasourceUtils.cleanupConnection(null, stmt, conn, isInTransaction);
+            SQLDatasourceUtils.cleanupConnection(null, stmt, conn, isInTransaction, statementCache);
         }
     }
 
@@ -154,21 +232,25 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         CallableStatement stmt = null;
         ResultSet rs = null;
         boolean isInTransaction = context.isInTransaction();
+        StatementCache statementCache = datasource.getStatementCache();
         try {
-           conn = getDatabaseConnection(context, datasource, isInTransaction);
-            stmt = getPreparedCall(conn, datasource, query, parameters);
+            conn = getDatabaseConnection(context, datasource, isInTransaction);
+            /* Only stream if there aren't any OUT parameters since can't use streaming result sets with callable
+               statements that have output parameters */
+            boolean streaming = datasource.isMySQL() && !hasOutParams(parameters);
+            stmt = statementCache.prepareCall(conn, query, streaming);
             createProcessedStatement(conn, stmt, parameters);
             rs = executeStoredProc(stmt);
             setOutParameters(stmt, parameters);
             if (rs != null) {
-                BDataTable datatable = new BDataTable(new SQLDataIterator(conn, stmt, rs),
-                        getColumnDefinitions(rs));
+                BDataTable datatable = new BDataTable(
+                        new SQLDataIterator(conn, stmt, rs, isInTransaction, statementCache), getColumnDefinitions(rs));
                 context.getControlStackNew().getCurrentFrame().returnValues[0] = datatable;
             } else {
-                SQLDatasourceUtils.cleanupConnection(null, stmt, conn, isInTransaction);
+                SQLDatasourceUtils.cleanupConnection(null, stmt, conn, isInTransaction, statementCache);
             }
         } catch (SQLException e) {
-            SQLDatasourceUtils.cleanupConnection(rs, stmt, conn, isInTransaction);
+            SQLDatasourceUtils.cleanupConnection(rs, stmt, conn, isInTransaction, statementCache);
             throw new BallerinaException("execute stored procedure failed: " + e.getMessage(), e);
         }
     }
@@ -177,32 +259,67 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
                                       String query, BRefValueArray parameters) {
         Connection conn = null;
         PreparedStatement stmt = null;
+        int batchSize = datasource.getBatchSize();
+        int commitInterval = datasource.getBatchCommitInterval();
         try {
             conn = datasource.getSQLConnection();
             stmt = conn.prepareStatement(query);
             setConnectionAutoCommit(conn, false);
             int paramArrayCount = (int) parameters.size();
+            long[] updatedCount = new long[paramArrayCount];
+            int paramCount = paramArrayCount > 0 ? (int) ((BRefValueArray) parameters.get(0)).size() : 0;
+            String[] typeNames = new String[paramCount];
+            int[] sqlTypes = new int[paramCount];
+            int flushedCount = 0;
+            int uncommittedCount = 0;
             for (int index = 0; index < paramArrayCount; index++) {
                 BRefValueArray params = (BRefValueArray) parameters.get(index);
-                createProcessedStatement(conn, stmt, params);
+                createProcessedBatchStatement(conn, stmt, params, typeNames, sqlTypes);
                 stmt.addBatch();
+                int batchedCount = index + 1 - flushedCount;
+                if (batchedCount == batchSize || index == paramArrayCount - 1) {
+                    // Rows are sent every batchSize rows, so the driver does not hold all of them at once
+                    flushBatch(stmt, updatedCount, flushedCount, batchedCount);
+                    flushedCount += batchedCount;
+                    uncommittedCount += batchedCount;
+                    if (commitInterval > 0 && uncommittedCount >= commitInterval) {
+                        conn.commit();
+                        uncommittedCount = 0;
+                    }
+                }
             }
-            int[] updatedCount = stmt.executeBatch();
             conn.commit();
-            BArray<BInteger> arrayValue = new BArray<>(BInteger.class);
-            int iSize = updatedCount.length;
-            for (int i = 0; i < iSize; ++i) {
-                arrayValue.add(i, new BInteger(updatedCount[i]));
-            }
-            context.getControlStackNew().getCurrentFrame().returnValues[0] = arrayValue;
+            context.getControlStackNew().getCurrentFrame().returnValues[0] = new BIntArray(updatedCount);
         } catch (SQLException e) {
+            rollback(conn);
             throw new BallerinaException("execute update failed: " + e.getMessage(), e);
+        } catch (BallerinaException e) {
+            rollback(conn);
+            throw e;
         } finally {
             setConnectionAutoCommit(conn, true);
             SQLDatasourceUtils.cleanupConnection(null, stmt, conn, false);
         }
     }
 
+    private void flushBatch(PreparedStatement stmt, long[] updatedCount, int offset, int batchedCount)
+            throws SQLException {
+        int[] counts = stmt.executeBatch();
+        int count = Math.min(counts.length, batchedCount);
+        for (int i = 0; i < count; i++) {
+            updatedCount[offset + i] = counts[i];
+        }
+    }
+
+    private void rollback(Connection conn) {
+        // Rows after the last commit would otherwise be committed when auto commit is enabled again
+        try {
+            if (conn != null) {
+                conn.rollback();
+            }
+        } catch (SQLException ignore) { /* ignore */ }
+    }
+
     private void setConnectionAutoCommit(Connection conn, boolean status) {
         try {
             if (conn != null) {
@@ -217,43 +334,6 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         datasource.closeConnectionPool();
     }
 
-    private PreparedStatement getPreparedStatement(Connection conn, SQLDatasource datasource, String query)
-            throws SQLException {
-        PreparedStatement stmt;
-        boolean mysql = datasource.getDatabaseName().contains("mysql");
-        /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
-           Following properties are set to stream the results back one row at a time.*/
-        if (mysql) {
-            stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-            // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
-            try {
-                stmt.setFetchSize(Integer.MIN_VALUE);
-            } catch (SQLException e) {
-                stmt.close();
-            }
-        } else {
-            stmt = conn.prepareStatement(query);
-        }
-        return stmt;
-    }
-
-    private CallableStatement getPreparedCall(Connection conn, SQLDatasource datasource, String query,
-                                              BRefValueArray parameters) throws SQLException {
-        CallableStatement stmt;
-        boolean mysql = datasource.getDatabaseName().contains("mysql");
-        if (mysql) {
-            stmt = conn.prepareCall(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-            /* Only stream if there aren't any OUT parameters since can't use streaming result sets with callable
-               statements that have output parameters */
-            if (!hasOutParams(parameters)) {
-                stmt.setFetchSize(Integer.MIN_VALUE);
-            }
-        } else {
-            stmt = conn.prepareCall(query);
-        }
-        return stmt;
-    }
-
     private ArrayList<BDataTable.ColumnDefinition> getColumnDefinitions(ResultSet rs) throws SQLException {
         ArrayList<BDataTable.ColumnDefinition> columnDefs = new ArrayList<>();
         ResultSetMetaData rsMetaData = rs.getMetaData();
@@ -321,76 +401,146 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
             BValue value = paramValue.getRefField(0);
             int direction = (int) paramValue.getIntField(0);
             String structuredSQLType = paramValue.getStringField(1);
-            setParameter(conn, stmt, sqlType, value, direction, index, structuredSQLType);
+            setParameter(conn, stmt, getSQLType(sqlType, index), value, direction, index, structuredSQLType);
         }
     }
 
-    private void setParameter(Connection conn, PreparedStatement stmt, String sqlType, BValue value, int direction,
-            int index, String structuredSQLType) {
+    /**
+     * Set the parameters of a row of a batch. The SQL type names of the columns are resolved once, from the first
+     * row of the batch, and only resolved again for a column of a row which gives a different type name.
+     *
+     * @param typeNames SQL type names of the columns, as given in the rows so far
+     * @param sqlTypes  {@link Types} resolved from the type names
+     */
+    private void createProcessedBatchStatement(Connection conn, PreparedStatement stmt, BRefValueArray params,
+            String[] typeNames, int[] sqlTypes) {
+        int paramCount = (int) params.size();
+        for (int index = 0; index < paramCount; index++) {
+            BStruct paramValue = (BStruct) params.get(index);
+            String sqlType = paramValue.getStringField(0);
+            int resolvedType;
+            if (index >= sqlTypes.length) {
+                resolvedType = getSQLType(sqlType, index);
+            } else if (sqlTypes[index] != 0 && Objects.equals(typeNames[index], sqlType)) {
+                resolvedType = sqlTypes[index];
+            } else {
+                resolvedType = getSQLType(sqlType, index);
+                typeNames[index] = sqlType;
+                sqlTypes[index] = resolvedType;
+            }
+            BValue value = paramValue.getRefField(0);
+            int direction = (int) paramValue.getIntField(0);
+            String structuredSQLType = paramValue.getStringField(1);
+            setParameter(conn, stmt, resolvedType, value, direction, index, structuredSQLType);
+        }
+    }
+
+    private int getSQLType(String sqlType, int index) {
         if (sqlType == null || sqlType.isEmpty()) {
+            return Types.VARCHAR;
+        }
+        String sqlDataType = sqlType.toUpperCase(Locale.getDefault());
+        switch (sqlDataType) {
+        case Constants.SQLDataTypes.INTEGER:
+            return Types.INTEGER;
+        case Constants.SQLDataTypes.VARCHAR:
+            return Types.VARCHAR;
+        case Constants.SQLDataTypes.DOUBLE:
+            return Types.DOUBLE;
+        case Constants.SQLDataTypes.NUMERIC:
+        case Constants.SQLDataTypes.DECIMAL:
+            return Types.NUMERIC;
+        case Constants.SQLDataTypes.BIT:
+        case Constants.SQLDataTypes.BOOLEAN:
+            return Types.BIT;
+        case Constants.SQLDataTypes.TINYINT:
+            return Types.TINYINT;
+        case Constants.SQLDataTypes.SMALLINT:
+            return Types.SMALLINT;
+        case Constants.SQLDataTypes.BIGINT:
+            return Types.BIGINT;
+        case Constants.SQLDataTypes.REAL:
+        case Constants.SQLDataTypes.FLOAT:
+            return Types.FLOAT;
+        case Constants.SQLDataTypes.DATE:
+            return Types.DATE;
+        case Constants.SQLDataTypes.TIMESTAMP:
+        case Constants.SQLDataTypes.DATETIME:
+            return Types.TIMESTAMP;
+        case Constants.SQLDataTypes.TIME:
+            return Types.TIME;
+        case Constants.SQLDataTypes.BINARY:
+            return Types.BINARY;
+        case Constants.SQLDataTypes.BLOB:
+            return Types.BLOB;
+        case Constants.SQLDataTypes.CLOB:
+            return Types.CLOB;
+        case Constants.SQLDataTypes.ARRAY:
+            return Types.ARRAY;
+        case Constants.SQLDataTypes.STRUCT:
+            return Types.STRUCT;
+        default:
+            throw new BallerinaException("unsupported datatype as parameter: " + sqlType + " index:" + index);
+        }
+    }
+
+    private void setParameter(Connection conn, PreparedStatement stmt, int sqlType, BValue value, int direction,
+            int index, String structuredSQLType) {
+        switch (sqlType) {
+        case Types.INTEGER:
+            SQLDatasourceUtils.setIntValue(stmt, value, index, direction, Types.INTEGER);
+            break;
+        case Types.VARCHAR:
             SQLDatasourceUtils.setStringValue(stmt, value, index, direction, Types.VARCHAR);
-        } else {
-            String sqlDataType = sqlType.toUpperCase(Locale.getDefault());
-            switch (sqlDataType) {
-            case Constants.SQLDataTypes.INTEGER:
-                SQLDatasourceUtils.setIntValue(stmt, value, index, direction, Types.INTEGER);
-                break;
-            case Constants.SQLDataTypes.VARCHAR:
-                SQLDatasourceUtils.setStringValue(stmt, value, index, direction, Types.VARCHAR);
-                break;
-            case Constants.SQLDataTypes.DOUBLE:
-                SQLDatasourceUtils.setDoubleValue(stmt, value, index, direction, Types.DOUBLE);
-                break;
-            case Constants.SQLDataTypes.NUMERIC:
-            case Constants.SQLDataTypes.DECIMAL:
-                SQLDatasourceUtils.setNumericValue(stmt, value, index, direction, Types.NUMERIC);
-                break;
-            case Constants.SQLDataTypes.BIT:
-            case Constants.SQLDataTypes.BOOLEAN:
-                SQLDatasourceUtils.setBooleanValue(stmt, value, index, direction, Types.BIT);
-                break;
-            case Constants.SQLDataTypes.TINYINT:
-                SQLDatasourceUtils.setTinyIntValue(stmt, value, index, direction, Types.TINYINT);
-                break;
-            case Constants.SQLDataTypes.SMALLINT:
-                SQLDatasourceUtils.setSmallIntValue(stmt, value, index, direction, Types.SMALLINT);
-                break;
-            case Constants.SQLDataTypes.BIGINT:
-                SQLDatasourceUtils.setBigIntValue(stmt, value, index, direction, Types.BIGINT);
-                break;
-            case Constants.SQLDataTypes.REAL:
-            case Constants.SQLDataTypes.FLOAT:
-                SQLDatasourceUtils.setRealValue(stmt, value, index, direction, Types.FLOAT);
-                break;
-            case Constants.SQLDataTypes.DATE:
-                SQLDatasourceUtils.setDateValue(stmt, value, index, direction, Types.DATE);
-                break;
-            case Constants.SQLDataTypes.TIMESTAMP:
-            case Constants.SQLDataTypes.DATETIME:
-                SQLDatasourceUtils.setTimeStampValue(stmt, value, index, direction, Types.TIMESTAMP);
-                break;
-            case Constants.SQLDataTypes.TIME:
-                SQLDatasourceUtils.setTimeValue(stmt, value, index, direction, Types.TIME);
-                break;
-            case Constants.SQLDataTypes.BINARY:
-                SQLDatasourceUtils.setBinaryValue(stmt, value, index, direction, Types.BINARY);
-                break;
-            case Constants.SQLDataTypes.BLOB:
-                SQLDatasourceUtils.setBlobValue(stmt, value, index, direction, Types.BLOB);
-                break;
-            case Constants.SQLDataTypes.CLOB:
-                SQLDatasourceUtils.setClobValue(stmt, value, index, direction, Types.CLOB);
-                break;
-            case Constants.SQLDataTypes.ARRAY:
-                SQLDatasourceUtils.setArrayValue(conn, stmt, value, index, direction, Types.ARRAY, structuredSQLType);
-                break;
-            case Constants.SQLDataTypes.STRUCT:
-                SQLDatasourceUtils
-                        .setUserDefinedValue(conn, stmt, value, index, direction, Types.STRUCT, structuredSQLType);
-                break;
-            default:
-                throw new BallerinaException("unsupported datatype as parameter: " + sqlType + " index:" + index);
-            }
+            break;
+        case Types.DOUBLE:
+            SQLDatasourceUtils.setDoubleValue(stmt, value, index, direction, Types.DOUBLE);
+            break;
+        case Types.NUMERIC:
+            SQLDatasourceUtils.setNumericValue(stmt, value, index, direction, Types.NUMERIC);
+            break;
+        case Types.BIT:
+            SQLDatasourceUtils.setBooleanValue(stmt, value, index, direction, Types.BIT);
+            break;
+        case Types.TINYINT:
+            SQLDatasourceUtils.setTinyIntValue(stmt, value, index, direction, Types.TINYINT);
+            break;
+        case Types.SMALLINT:
+            SQLDatasourceUtils.setSmallIntValue(stmt, value, index, direction, Types.SMALLINT);
+            break;
+        case Types.BIGINT:
+            SQLDatasourceUtils.setBigIntValue(stmt, value, index, direction, Types.BIGINT);
+            break;
+        case Types.FLOAT:
+            SQLDatasourceUtils.setRealValue(stmt, value, index, direction, Types.FLOAT);
+            break;
+        case Types.DATE:
+            SQLDatasourceUtils.setDateValue(stmt, value, index, direction, Types.DATE);
+            break;
+        case Types.TIMESTAMP:
+            SQLDatasourceUtils.setTimeStampValue(stmt, value, index, direction, Types.TIMESTAMP);
+            break;
+        case Types.TIME:
+            SQLDatasourceUtils.setTimeValue(stmt, value, index, direction, Types.TIME);
+            break;
+        case Types.BINARY:
+            SQLDatasourceUtils.setBinaryValue(stmt, value, index, direction, Types.BINARY);
+            break;
+        case Types.BLOB:
+            SQLDatasourceUtils.setBlobValue(stmt, value, index, direction, Types.BLOB);
+            break;
+        case Types.CLOB:
+            SQLDatasourceUtils.setClobValue(stmt, value, index, direction, Types.CLOB);
+            break;
+        case Types.ARRAY:
+            SQLDatasourceUtils.setArrayValue(conn, stmt, value, index, direction, Types.ARRAY, structuredSQLType);
+            break;
+        case Types.STRUCT:
+            SQLDatasourceUtils
+                    .setUserDefinedValue(conn, stmt, value, index, direction, Types.STRUCT, structuredSQLType);
+            break;
+        default:
+            throw new BallerinaException("unsupported datatype as parameter: " + sqlType + " index:" + index);
         }
     }
 
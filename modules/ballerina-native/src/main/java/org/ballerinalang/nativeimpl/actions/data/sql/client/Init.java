@@ -22,7 +22,6 @@ import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BMap;
-import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.actions.data.sql.Constants;
 import org.ballerinalang.nativeimpl.actions.data.sql.SQLDatasource;
@@ -68,14 +67,20 @@ public class Init extends AbstractSQLAction {
             BConnector bConnector = (BConnector) getRefArgument(context, 0);
             BMap optionMap = (BMap) bConnector.getRefField(0);
             BMap sharedMap = (BMap) bConnector.getRefField(1);
-            if (sharedMap.get(new BString(Constants.DATASOURCE_KEY)) == null) {
+            if (sharedMap.get(DATASOURCE_KEY) == null) {
                 SQLDatasource datasource = new SQLDatasource();
                 datasource.init(optionMap);
-                sharedMap.put(new BString(Constants.DATASOURCE_KEY), datasource);
+                sharedMap.put(DATASOURCE_KEY, datasource);
             }
             return null;
         } finally {
             lock.unlock();
         }
     }
+
+    @Override
+    public boolean isNonBlockingAction(Context context) {
+        // The datasource, along with its executor, is created by this action
+        return false;
+    }
 }
@@ -22,6 +22,7 @@ import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.actions.data.sql.Constants;
+import org.ballerinalang.nativeimpl.actions.data.sql.StatementCache;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.BufferedReader;
@@ -632,17 +633,39 @@ public class SQLDatasourceUtils {
      * @param conn SQL connection
      */
     public static void cleanupConnection(ResultSet rs, Statement stmt, Connection conn, boolean isInTransaction) {
+        cleanupConnection(rs, stmt, conn, isInTransaction, null);
+    }
+
+    /**
+     * This will close Database connection and the resultset, and give the statement back to the statement cache.
+     *
+     * @param rs             SQL resultset
+     * @param stmt           SQL statement
+     * @param conn           SQL connection
+     * @param statementCache cache the statement was taken from, or null to close the statement
+     */
+    public static void cleanupConnection(ResultSet rs, Statement stmt, Connection conn, boolean isInTransaction,
+                                         StatementCache statementCache) {
         if (rs != null) {
             try {
                 rs.close();
             } catch (SQLException ignore) { /* ignore */ }
         }
-        if (stmt != null) {
+        if (stmt != null && statementCache != null) {
+            statementCache.release(stmt);
+        } else if (stmt != null) {
             try {
                 stmt.close();
             } catch (SQLException ignore) { /* ignore */ }
         }
         if (conn != null && !isInTransaction) {
+            try {
+                if (statementCache != null && !conn.getAutoCommit()) {
+                    // Cached statements are prepared on the physical connection, hence the pool cannot tell whether
+                    // they left uncommitted work, and does not roll it back when the connection is returned
+                    conn.rollback();
+                }
+            } catch (SQLException ignore) { /* ignore */ }
             try {
                 conn.close();
             } catch (SQLException ignore) { /* ignore */ }
@@ -35,6 +35,9 @@ import org.wso2.carbon.messaging.exceptions.ClientConnectorException;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.runtime.Constants.BALLERINA_VERSION;
 
@@ -47,8 +50,17 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
 
     private static final String BALLERINA_USER_AGENT;
 
+    /**
+     * System property for the time in milliseconds to wait for a response. The timeout of an endpoint can be set
+     * with the property suffixed by .&lt;host&gt;:&lt;port&gt; of the endpoint. Timeouts are read once per endpoint.
+     */
+    public static final String PROP_SENDER_TIMEOUT = "ballerina.http.senderTimeout";
+
     /* Application level timeout */
-    private static final long SENDER_TIMEOUT = 180000; // TODO: Make this configurable with endpoint timeout impl
+    private static final long DEFAULT_SENDER_TIMEOUT = 180000;
+
+    // Map<host:port, sender timeout of the endpoint>
+    private static final Map<String, Long> senderTimeouts = new ConcurrentHashMap<>();
 
     static {
         String version = System.getProperty(BALLERINA_VERSION);
@@ -139,21 +151,17 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
                 throw new BallerinaException("Http client connector is not available");
             }
 
+            long senderTimeout = getSenderTimeout(message);
             clientConnector.send(message, balConnectorCallback);
 
             // Wait till Response comes
-            long startTime = System.currentTimeMillis();
-            while (!balConnectorCallback.isResponseArrived()) {
-                synchronized (context) {
-                    if (!balConnectorCallback.isResponseArrived()) {
-                        logger.debug("Waiting for a response");
-                        context.wait(SENDER_TIMEOUT);
-                        if (System.currentTimeMillis() >= (startTime + SENDER_TIMEOUT)) {
-                            throw new RuntimeException("response was not received within sender timeout of " +
-                                                       SENDER_TIMEOUT / 1000 + " seconds");
-                        }
-                    }
+            logger.debug("Waiting for a response");
+            if (!balConnectorCallback.awaitResponse(senderTimeout, TimeUnit.MILLISECONDS)) {
+                if (balConnectorCallback.expire()) {
+                    throw new RuntimeException(getTimeoutMessage(senderTimeout));
                 }
+                // The response arrived just as the wait timed out, and is still being delivered
+                balConnectorCallback.awaitResponse();
             }
             handleTransportException(balConnectorCallback.getValueRef());
             return balConnectorCallback.getValueRef();
@@ -175,11 +183,50 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
         if (clientConnector == null) {
             throw new BallerinaException("Http client connector is not available");
         }
-        clientConnector.send(message, balConnectorCallback);
+        long senderTimeout = getSenderTimeout(message);
+        balConnectorCallback.setTimeout(senderTimeout, TimeUnit.MILLISECONDS, getTimeoutMessage(senderTimeout));
+        try {
+            clientConnector.send(message, balConnectorCallback);
+        } catch (ClientConnectorException | RuntimeException e) {
+            // The error is handled by the invoking thread, hence the timeout must not resume the VM again
+            balConnectorCallback.expire();
+            throw e;
+        }
+    }
+
+    private long getSenderTimeout(CarbonMessage message) {
+        String endpoint = message.getProperty(Constants.HOST) + ":" + message.getProperty(Constants.PORT);
+        return senderTimeouts.computeIfAbsent(endpoint, key -> {
+            String timeout = System.getProperty(PROP_SENDER_TIMEOUT + "." + key,
+                    System.getProperty(PROP_SENDER_TIMEOUT));
+            if (timeout == null) {
+                return DEFAULT_SENDER_TIMEOUT;
+            }
+            try {
+                long value = Long.parseLong(timeout.trim());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // Logged below
+            }
+            logger.warn("invalid value '" + timeout + "' for '" + PROP_SENDER_TIMEOUT + "' of " + key +
+                    ", using the default of " + DEFAULT_SENDER_TIMEOUT + " milliseconds");
+            return DEFAULT_SENDER_TIMEOUT;
+        });
+    }
+
+    private String getTimeoutMessage(long senderTimeout) {
+        return "response was not received within sender timeout of " + senderTimeout + " milliseconds";
     }
 
     @Override
     public void validate(BalConnectorCallback callback) {
+        Throwable error = callback.getError();
+        if (error != null) {
+            // Sender timeout
+            throw new BallerinaException(error.getMessage());
+        }
         handleTransportException(callback.getValueRef());
     }
 
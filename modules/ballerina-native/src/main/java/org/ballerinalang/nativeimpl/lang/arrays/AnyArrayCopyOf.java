@@ -19,23 +19,18 @@
 package org.ballerinalang.nativeimpl.lang.arrays;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
-import org.ballerinalang.model.values.BBooleanArray;
-import org.ballerinalang.model.values.BFloatArray;
-import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BNewArray;
-import org.ballerinalang.model.values.BRefValueArray;
-import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
-import org.ballerinalang.util.exceptions.BLangExceptionHelper;
-import org.ballerinalang.util.exceptions.RuntimeErrors;
 
 /**
  * Native function ballerina.model.arrays:copyOf(any[], any[]).
@@ -56,46 +51,22 @@ import org.ballerinalang.util.exceptions.RuntimeErrors;
         value = "The to array to which to copy to") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
         value = "Number of elements copied") })
-public class AnyArrayCopyOf extends AbstractNativeFunction {
+public class AnyArrayCopyOf extends AbstractNativeFunction implements DirectNativeFunction {
     @Override
     public BValue[] execute(Context context) {
         BNewArray arrayFrom = (BNewArray) getArgument(context, 0);
         BNewArray arrayTo = (BNewArray) getArgument(context, 1);
 
-        if (arrayFrom instanceof BIntArray && arrayTo instanceof BIntArray) {
-            BIntArray intArrayFrom = (BIntArray) arrayFrom;
-            BIntArray intArrayTo = (BIntArray) arrayTo;
-            for (int i = 0; i < arrayFrom.size(); i++) {
-                intArrayTo.add(i, intArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BFloatArray && arrayTo instanceof BFloatArray) {
-            BFloatArray floatArrayFrom = (BFloatArray) arrayFrom;
-            BFloatArray floatArrayTo = (BFloatArray) arrayTo;
-            for (int i = 0; i < arrayFrom.size(); i++) {
-                floatArrayTo.add(i, floatArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BStringArray && arrayTo instanceof BStringArray) {
-            BStringArray stringArrayFrom = (BStringArray) arrayFrom;
-            BStringArray stringArrayTo = (BStringArray) arrayTo;
-            for (int i = 0; i < arrayFrom.size(); i++) {
-                stringArrayTo.add(i, stringArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BBooleanArray && arrayTo instanceof BBooleanArray) {
-            BBooleanArray booleanArrayFrom = (BBooleanArray) arrayFrom;
-            BBooleanArray booleanArrayTo = (BBooleanArray) arrayTo;
-            for (int i = 0; i < arrayFrom.size(); i++) {
-                booleanArrayTo.add(i, booleanArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BRefValueArray && arrayTo instanceof BRefValueArray) {
-            BRefValueArray refValueArrayFrom = (BRefValueArray) arrayFrom;
-            BRefValueArray refValueArrayTo = (BRefValueArray) arrayTo;
-            for (int i = 0; i < arrayFrom.size(); i++) {
-                refValueArrayTo.add(i, refValueArrayFrom.get(i));
-            }
-        } else {
-            throw BLangExceptionHelper
-                    .getRuntimeException(RuntimeErrors.ARRAY_TYPE_MISMATCH, arrayFrom.getType(), arrayTo.getType());
-        }
+        arrayTo.copyFrom(arrayFrom, 0, (int) arrayFrom.size(), 0);
         return getBValues(new BInteger(arrayTo.size()));
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BNewArray arrayFrom = (BNewArray) frame.getRef(0);
+        BNewArray arrayTo = (BNewArray) frame.getRef(1);
+
+        arrayTo.copyFrom(arrayFrom, 0, (int) arrayFrom.size(), 0);
+        frame.setInt(0, arrayTo.size());
+    }
 }
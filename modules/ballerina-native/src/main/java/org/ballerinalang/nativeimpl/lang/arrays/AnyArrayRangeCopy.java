@@ -20,13 +20,8 @@ package org.ballerinalang.nativeimpl.lang.arrays;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
-import org.ballerinalang.model.values.BBooleanArray;
-import org.ballerinalang.model.values.BFloatArray;
-import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BNewArray;
-import org.ballerinalang.model.values.BRefValueArray;
-import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -90,46 +85,7 @@ public class AnyArrayRangeCopy extends AbstractNativeFunction {
                     "Array index out of range. Actual:" + arrayFrom.size() + " requested: " + from + " to " + to);
         }
 
-
-        if (arrayFrom instanceof BIntArray && arrayTo instanceof BIntArray) {
-            BIntArray intArrayFrom = (BIntArray) arrayFrom;
-            BIntArray intArrayTo = (BIntArray) arrayTo;
-            int index = 0;
-            for (int i = from; i < to; i++) {
-                intArrayTo.add(index++, intArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BFloatArray && arrayTo instanceof BFloatArray) {
-            BFloatArray floatArrayFrom = (BFloatArray) arrayFrom;
-            BFloatArray floatArrayTo = (BFloatArray) arrayTo;
-            int index = 0;
-            for (int i = from; i < to; i++) {
-                floatArrayTo.add(index++, floatArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BStringArray && arrayTo instanceof BStringArray) {
-            BStringArray stringArrayFrom = (BStringArray) arrayFrom;
-            BStringArray stringArrayTo = (BStringArray) arrayTo;
-            int index = 0;
-            for (int i = from; i < to; i++) {
-                stringArrayTo.add(index++, stringArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BBooleanArray && arrayTo instanceof BBooleanArray) {
-            BBooleanArray booleanArrayFrom = (BBooleanArray) arrayFrom;
-            BBooleanArray booleanArrayTo = (BBooleanArray) arrayTo;
-            int index = 0;
-            for (int i = from; i < to; i++) {
-                booleanArrayTo.add(index++, booleanArrayFrom.get(i));
-            }
-        } else if (arrayFrom instanceof BRefValueArray && arrayTo instanceof BRefValueArray) {
-            BRefValueArray refValueArrayFrom = (BRefValueArray) arrayFrom;
-            BRefValueArray refValueArrayTo = (BRefValueArray) arrayTo;
-            int index = 0;
-            for (int i = from; i < to; i++) {
-                refValueArrayTo.add(index++, refValueArrayFrom.get(i));
-            }
-        } else {
-            throw BLangExceptionHelper
-                    .getRuntimeException(RuntimeErrors.ARRAY_TYPE_MISMATCH, arrayFrom.getType(), arrayTo.getType());
-        }
+        arrayTo.copyFrom(arrayFrom, from, to, 0);
         return getBValues(new BInteger(to - from));
     }
 }
@@ -29,12 +29,6 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-
-
 /**
  * Native function ballerina.model.arrays:sort(string[]).
  */
@@ -57,17 +51,8 @@ public class StringArraySort extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         BStringArray array = (BStringArray) getArgument(context, 0);
 
-        List<String> list = new ArrayList<>();
-        for (int i = 0; i < array.size(); i++) {
-            list.add(i, array.get(i));
-        }
-        Collections.sort(list, Comparator.naturalOrder());
-        BStringArray sortedArray = new BStringArray();
-        int i = 0;
-        while (i < list.size()) {
-            sortedArray.add(i, list.get(i));
-            i++;
-        }
+        BStringArray sortedArray = (BStringArray) array.copy();
+        sortedArray.sort();
         return getBValues(sortedArray);
     }
 }
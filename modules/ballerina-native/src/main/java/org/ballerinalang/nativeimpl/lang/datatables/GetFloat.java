@@ -18,13 +18,16 @@
 package org.ballerinalang.nativeimpl.lang.datatables;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -53,7 +56,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The column position of the result as index or name") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "float",
         value = "The column value as a float") })
-public class GetFloat extends AbstractNativeFunction {
+public class GetFloat extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BDataTable dataTable = (BDataTable) getArgument(ctx, 0);
@@ -67,4 +70,16 @@ public class GetFloat extends AbstractNativeFunction {
         }
         return result;
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BDataTable dataTable = (BDataTable) frame.getRef(0);
+        BRefType index = frame.getRef(1);
+
+        if (index instanceof BInteger) {
+            frame.setFloat(0, dataTable.getFloat(((BInteger) index).intValue()));
+        } else if (index instanceof BString) {
+            frame.setFloat(0, dataTable.getFloat(((BString) index).stringValue()));
+        }
+    }
 }
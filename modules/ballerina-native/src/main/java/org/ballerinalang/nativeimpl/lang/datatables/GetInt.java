@@ -18,12 +18,15 @@
 package org.ballerinalang.nativeimpl.lang.datatables;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -52,7 +55,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The column position of the result as index or name") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
                 value = "The column value as an integer") })
-public class GetInt extends AbstractNativeFunction {
+public class GetInt extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BDataTable dataTable = (BDataTable) getArgument(ctx, 0);
@@ -66,4 +69,16 @@ public class GetInt extends AbstractNativeFunction {
         }
         return result;
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BDataTable dataTable = (BDataTable) frame.getRef(0);
+        BRefType index = frame.getRef(1);
+
+        if (index instanceof BInteger) {
+            frame.setInt(0, dataTable.getInt(((BInteger) index).intValue()));
+        } else if (index instanceof BString) {
+            frame.setInt(0, dataTable.getInt(((BString) index).stringValue()));
+        }
+    }
 }
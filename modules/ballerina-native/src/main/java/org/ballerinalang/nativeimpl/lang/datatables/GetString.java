@@ -18,12 +18,15 @@
 package org.ballerinalang.nativeimpl.lang.datatables;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -52,7 +55,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The column position of the result as index or name") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
         value = "The column value as a string") })
-public class GetString extends AbstractNativeFunction {
+public class GetString extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BDataTable dataTable = (BDataTable) getArgument(ctx, 0);
@@ -66,4 +69,16 @@ public class GetString extends AbstractNativeFunction {
         }
         return result;
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BDataTable dataTable = (BDataTable) frame.getRef(0);
+        BRefType index = frame.getRef(1);
+
+        if (index instanceof BInteger) {
+            frame.setString(0, dataTable.getString(((BInteger) index).intValue()));
+        } else if (index instanceof BString) {
+            frame.setString(0, dataTable.getString(((BString) index).stringValue()));
+        }
+    }
 }
@@ -18,11 +18,13 @@
 package org.ballerinalang.nativeimpl.lang.datatables;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -48,10 +50,16 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The datatable object") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
         value = "True if there is a new row; false otherwise") })
-public class HasNext extends AbstractNativeFunction {
+public class HasNext extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BDataTable dataTable = (BDataTable) getArgument(ctx, 0);
         return getBValues(new BBoolean(dataTable.next()));
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BDataTable dataTable = (BDataTable) frame.getRef(0);
+        frame.setBoolean(0, dataTable.next());
+    }
 }
@@ -18,10 +18,12 @@
 package org.ballerinalang.nativeimpl.lang.datatables;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -47,10 +49,16 @@ import org.ballerinalang.natives.annotations.ReturnType;
                value = "The datatable object") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "struct",
                value = "The struct created with the data of the current row") })
-public class Next extends AbstractNativeFunction {
+public class Next extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BDataTable dataTable = (BDataTable) getArgument(ctx, 0);
-        return getBValues(dataTable.getNext());
+        return getBValues(dataTable.getNextWithMemoryBlock());
+    }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BDataTable dataTable = (BDataTable) frame.getRef(0);
+        frame.setRef(0, dataTable.getNext());
     }
 }
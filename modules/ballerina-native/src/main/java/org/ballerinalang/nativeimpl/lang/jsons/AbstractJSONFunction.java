@@ -19,29 +19,78 @@
 
 package org.ballerinalang.nativeimpl.lang.jsons;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.ParseContext;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
+import org.ballerinalang.nativeimpl.lang.utils.ExpressionCache;
 import org.ballerinalang.natives.AbstractNativeFunction;
 
 import java.util.EnumSet;
 import java.util.Set;
 
 /**
- * Test Class for Testing Ballerina Service.
+ * Base class of the native functions which evaluate JSONPaths on JSON values.
+ * <p>
+ * Compiled JSONPaths are cached by their expression, and shared by all the functions.
  */
 public abstract class AbstractJSONFunction extends AbstractNativeFunction {
 
+    private static final int MAX_CACHED_JSON_PATHS = 1024;
+
+    private static final ExpressionCache<JsonPath> JSON_PATH_CACHE = new ExpressionCache<>(MAX_CACHED_JSON_PATHS);
+
+    private static final ParseContext PARSE_CONTEXT;
+
+    static {
+        // Configure jayway jsonpath with Jackson provider
+        JacksonDefaultConfiguration defaults = new JacksonDefaultConfiguration();
+        Configuration.setDefaults(defaults);
+        PARSE_CONTEXT = JsonPath.using(Configuration.builder()
+                .jsonProvider(defaults.jsonProvider())
+                .mappingProvider(defaults.mappingProvider())
+                .options(defaults.options())
+                .build());
+    }
+
     /**
-     * Create a JSON function.
+     * Create a document context to evaluate JSONPaths on the given JSON.
+     *
+     * @param json JSON value
+     * @return document context of the JSON
      */
-    public AbstractJSONFunction() {
-        super();
-        // Configure jayway jsonpath with Jackson provider
-        Configuration.setDefaults(new JacksonDefaultConfiguration());
+    protected static DocumentContext parse(JsonNode json) {
+        return PARSE_CONTEXT.parse(json);
+    }
+
+    /**
+     * Get the compiled form of a JSONPath.
+     *
+     * @param jsonPath JSONPath
+     * @return compiled JSONPath
+     */
+    protected static JsonPath compile(String jsonPath) {
+        JsonPath compiledPath = JSON_PATH_CACHE.get(jsonPath);
+        if (compiledPath == null) {
+            compiledPath = JsonPath.compile(jsonPath);
+            JSON_PATH_CACHE.put(jsonPath, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    /**
+     * Get the cache of compiled JSONPaths.
+     *
+     * @return cache of compiled JSONPaths
+     */
+    public static ExpressionCache<JsonPath> getJsonPathCache() {
+        return JSON_PATH_CACHE;
     }
 
     /**
@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -73,18 +72,18 @@ public class AddAnyToArray extends AbstractJSONFunction {
             BValue value = getArgument(ctx, 2);
 
             // Adding the value to JSON Array
-            WriteContext jsonCtx = JsonPath.parse(json.value());
+            WriteContext jsonCtx = parse(json.value());
 
             if (value instanceof BInteger) {
-                jsonCtx.add(jsonPath, ((BInteger) value).intValue());
+                jsonCtx.add(compile(jsonPath), ((BInteger) value).intValue());
             } else if (value instanceof BFloat) {
-                jsonCtx.add(jsonPath, ((BFloat) value).floatValue());
+                jsonCtx.add(compile(jsonPath), ((BFloat) value).floatValue());
             } else if (value instanceof BBoolean) {
-                jsonCtx.add(jsonPath, ((BBoolean) value).booleanValue());
+                jsonCtx.add(compile(jsonPath), ((BBoolean) value).booleanValue());
             } else if (value instanceof BString) {
-                jsonCtx.add(jsonPath, value.stringValue());
+                jsonCtx.add(compile(jsonPath), value.stringValue());
             } else if (value instanceof BJSON) {
-                jsonCtx.add(jsonPath, ((BJSON) value).value());
+                jsonCtx.add(compile(jsonPath), ((BJSON) value).value());
             }
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -77,18 +76,18 @@ public class AddAnyToObject extends AbstractJSONFunction {
             BValue value = getArgument(ctx, 3);
 
             // Adding the value to JSON Object
-            WriteContext jsonCtx = JsonPath.parse(json.value());
+            WriteContext jsonCtx = parse(json.value());
 
             if (value instanceof BInteger) {
-                jsonCtx.put(jsonPath, key, ((BInteger) value).intValue());
+                jsonCtx.put(compile(jsonPath), key, ((BInteger) value).intValue());
             } else if (value instanceof BFloat) {
-                jsonCtx.put(jsonPath, key, ((BFloat) value).floatValue());
+                jsonCtx.put(compile(jsonPath), key, ((BFloat) value).floatValue());
             } else if (value instanceof BBoolean) {
-                jsonCtx.put(jsonPath, key, ((BBoolean) value).booleanValue());
+                jsonCtx.put(compile(jsonPath), key, ((BBoolean) value).booleanValue());
             } else if (value instanceof BString) {
-                jsonCtx.put(jsonPath, key, value.stringValue());
+                jsonCtx.put(compile(jsonPath), key, value.stringValue());
             } else if (value instanceof BJSON) {
-                jsonCtx.put(jsonPath, key, ((BJSON) value).value());
+                jsonCtx.put(compile(jsonPath), key, ((BJSON) value).value());
             }
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
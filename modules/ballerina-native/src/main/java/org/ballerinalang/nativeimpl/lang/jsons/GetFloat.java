@@ -20,7 +20,6 @@ package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
@@ -71,8 +70,8 @@ public class GetFloat extends AbstractJSONFunction {
 
 
             // Getting the value from JSON
-            ReadContext jsonCtx = JsonPath.parse(json.value());
-            Object elementObj = jsonCtx.read(jsonPath);
+            ReadContext jsonCtx = parse(json.value());
+            Object elementObj = jsonCtx.read(compile(jsonPath));
             if (elementObj == null) {
                 throw new BallerinaException("No matching element found for jsonpath: " + jsonPath);
             } else if (elementObj instanceof JsonNode) {
@@ -20,16 +20,17 @@ package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -56,28 +57,39 @@ import org.ballerinalang.util.exceptions.BallerinaException;
         value = "The path of the JSON element") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
         value = "The string element on the specified path") })
-public class GetString extends AbstractJSONFunction {
+public class GetString extends AbstractJSONFunction implements DirectNativeFunction {
     
     private static final String OPERATION = "get string from json";
 
     @Override
     public BValue[] execute(Context ctx) {
-        String jsonPath = null;
-        BValue result = null;
-        try {
-            // Accessing Parameters.
-            BJSON json = (BJSON) getArgument(ctx, 0);
-            jsonPath = getArgument(ctx, 1).stringValue();
+        // Accessing Parameters.
+        BJSON json = (BJSON) getArgument(ctx, 0);
+        String jsonPath = getArgument(ctx, 1).stringValue();
+
+        // Setting output value.
+        return getBValues(new BString(getString(json, jsonPath)));
+    }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BJSON json = (BJSON) frame.getRef(0);
+        String jsonPath = frame.getString(1);
+        frame.setString(0, getString(json, jsonPath));
+    }
 
+    private static String getString(BJSON json, String jsonPath) {
+        String result = null;
+        try {
             // Getting the value from JSON
-            ReadContext jsonCtx = JsonPath.parse(json.value());
-            JsonNode element = jsonCtx.read(jsonPath);
+            ReadContext jsonCtx = parse(json.value());
+            JsonNode element = jsonCtx.read(compile(jsonPath));
             if (element == null) {
                 throw new BallerinaException("No matching element found for jsonpath: " + jsonPath);
             } else if (element.isValueNode()) {
                 // if the resulting value is a primitive, return the respective primitive value object
                 if (element.isTextual()) {
-                    result = new BString(element.asText());
+                    result = element.asText();
                 } else {
                     throw new BallerinaException("The element matching path: " + jsonPath + " is not a String.");
                 }
@@ -93,8 +105,6 @@ public class GetString extends AbstractJSONFunction {
         } catch (Throwable e) {
             ErrorHandler.handleJsonPathException(OPERATION, e);
         }
-
-        // Setting output value.
-        return getBValues(result);
+        return result;
     }
 }
@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -62,8 +61,8 @@ public class Remove extends AbstractJSONFunction {
             jsonPath = getArgument(ctx, 1).stringValue();
 
             // Removing the element
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.delete(jsonPath);
+            WriteContext jsonCtx = parse(json.value());
+            jsonCtx.delete(compile(jsonPath));
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
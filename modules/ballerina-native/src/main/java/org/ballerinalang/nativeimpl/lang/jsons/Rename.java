@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -70,8 +69,8 @@ public class Rename extends AbstractJSONFunction {
             String newKey = getArgument(ctx, 3).stringValue();
             
             // Rename the element key
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.renameKey(jsonPath, oldKey, newKey);
+            WriteContext jsonCtx = parse(json.value());
+            jsonCtx.renameKey(compile(jsonPath), oldKey, newKey);
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -72,18 +71,18 @@ public class SetAny extends AbstractJSONFunction {
             BValue value = getArgument(ctx, 2);
 
             // Setting the value to JSON
-            WriteContext jsonCtx = JsonPath.parse(json.value());
+            WriteContext jsonCtx = parse(json.value());
 
             if (value instanceof BInteger) {
-                jsonCtx.set(jsonPath, ((BInteger) value).intValue());
+                jsonCtx.set(compile(jsonPath), ((BInteger) value).intValue());
             } else if (value instanceof BFloat) {
-                jsonCtx.set(jsonPath, ((BFloat) value).floatValue());
+                jsonCtx.set(compile(jsonPath), ((BFloat) value).floatValue());
             } else if (value instanceof BBoolean) {
-                jsonCtx.set(jsonPath, ((BBoolean) value).booleanValue());
+                jsonCtx.set(compile(jsonPath), ((BBoolean) value).booleanValue());
             } else if (value instanceof BString) {
-                jsonCtx.set(jsonPath, value.stringValue());
+                jsonCtx.set(compile(jsonPath), value.stringValue());
             } else if (value instanceof BJSON) {
-                jsonCtx.set(jsonPath, ((BJSON) value).value());
+                jsonCtx.set(compile(jsonPath), ((BJSON) value).value());
             }
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
@@ -19,11 +19,13 @@
 package org.ballerinalang.nativeimpl.lang.maps;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -47,10 +49,16 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The map object") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
         value = "The number of elements in the map object") })
-public class Length extends AbstractNativeFunction {
+public class Length extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BMap map = (BMap) getArgument(ctx, 0);
         return getBValues(new BInteger(map.size()));
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BMap map = (BMap) frame.getRef(0);
+        frame.setInt(0, map.size());
+    }
 }
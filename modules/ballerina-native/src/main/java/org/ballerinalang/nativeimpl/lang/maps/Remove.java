@@ -19,11 +19,13 @@
 package org.ballerinalang.nativeimpl.lang.maps;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -46,7 +48,7 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
         value = "The map object") })
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "key",
         value = "The key to be removed") })
-public class Remove extends AbstractNativeFunction {
+public class Remove extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BMap map = (BMap) getArgument(ctx, 0);
@@ -54,4 +56,10 @@ public class Remove extends AbstractNativeFunction {
         map.remove(key.stringValue());
         return VOID_RETURN;
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        BMap map = (BMap) frame.getRef(0);
+        map.remove(frame.getString(1));
+    }
 }
@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -50,7 +52,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The substring to be compared") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
         value = "True if the string contains the substring; false otherwise") })
-public class Contains extends AbstractNativeFunction {
+public class Contains extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -61,4 +63,11 @@ public class Contains extends AbstractNativeFunction {
         return getBValues(isContains);
 
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        String param1 = frame.getString(0);
+        String subString = frame.getString(1);
+        frame.setBoolean(0, param1.contains(subString));
+    }
 }
@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -50,7 +52,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The string to be compared") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
         value = "True if the strings are equal; false otherwise") })
-public class EqualsIgnoreCase extends AbstractNativeFunction {
+public class EqualsIgnoreCase extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -61,4 +63,11 @@ public class EqualsIgnoreCase extends AbstractNativeFunction {
         return getBValues(booleanValue);
 
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        String string1 = frame.getString(0);
+        String anotherString = frame.getString(1);
+        frame.setBoolean(0, string1.equalsIgnoreCase(anotherString));
+    }
 }
@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -50,7 +52,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The substring to search for") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
         value = "The index of the last occurence of the substring") })
-public class LastIndexOf extends AbstractNativeFunction {
+public class LastIndexOf extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -60,4 +62,11 @@ public class LastIndexOf extends AbstractNativeFunction {
         BInteger bInteger = new BInteger(param1.lastIndexOf(subString));
         return getBValues(bInteger);
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        String param1 = frame.getString(0);
+        String subString = frame.getString(1);
+        frame.setInt(0, param1.lastIndexOf(subString));
+    }
 }
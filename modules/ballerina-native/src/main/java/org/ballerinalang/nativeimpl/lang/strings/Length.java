@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -47,7 +49,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The original string argument") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
         value = "The length of the specified string") })
-public class Length extends AbstractNativeFunction {
+public class Length extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -55,4 +57,9 @@ public class Length extends AbstractNativeFunction {
         BInteger intValue = new BInteger(param1.length());
         return getBValues(intValue);
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        frame.setInt(0, frame.getString(0).length());
+    }
 }
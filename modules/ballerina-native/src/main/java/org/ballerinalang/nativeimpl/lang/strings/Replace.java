@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -53,7 +55,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The replacement string") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
         value = "The derived string") })
-public class Replace extends AbstractNativeFunction {
+public class Replace extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -64,4 +66,12 @@ public class Replace extends AbstractNativeFunction {
         String replacedString = mainString.replace(replacePattern, replaceWith);
         return getBValues(new BString(replacedString));
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        String mainString = frame.getString(0);
+        String replacePattern = frame.getString(1);
+        String replaceWith = frame.getString(2);
+        frame.setString(0, mainString.replace(replacePattern, replaceWith));
+    }
 }
@@ -1,11 +1,13 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -37,7 +39,7 @@ import org.ballerinalang.util.exceptions.RuntimeErrors;
         value = "The ending index") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
         value = "The derived sub string") })
-public class SubString extends AbstractNativeFunction {
+public class SubString extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -45,9 +47,17 @@ public class SubString extends AbstractNativeFunction {
         BInteger argFrom = (BInteger) getArgument(context, 1);
         BInteger argTo = (BInteger) getArgument(context, 2);
 
-        long fromLong = argFrom.intValue();
-        long toLong = argTo.intValue();
+        BString subString = new BString(subString(initialString, argFrom.intValue(), argTo.intValue()));
+        return getBValues(subString);
+    }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        String initialString = frame.getString(0);
+        frame.setString(0, subString(initialString, frame.getInt(1), frame.getInt(2)));
+    }
 
+    private static String subString(String initialString, long fromLong, long toLong) {
         if (toLong != (int) toLong) {
             throw BLangExceptionHelper
                     .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, toLong);
@@ -64,7 +74,6 @@ public class SubString extends AbstractNativeFunction {
             throw new BallerinaException("String index out of range. Actual:" + initialString.length() +
                     " requested: " + from + " to " + to);
         }
-        BString subString = new BString(initialString.substring(from, to));
-        return getBValues(subString);
+        return initialString.substring(from, to);
     }
 }
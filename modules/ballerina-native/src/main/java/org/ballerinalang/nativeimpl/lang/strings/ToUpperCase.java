@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.strings;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -49,7 +51,7 @@ import java.util.Locale;
         value = "The original string argument") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
         value = "The string converted to uppercase") })
-public class ToUpperCase extends AbstractNativeFunction {
+public class ToUpperCase extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
@@ -57,4 +59,9 @@ public class ToUpperCase extends AbstractNativeFunction {
         BString upperCaseString = new BString(param1.toUpperCase(Locale.getDefault()));
         return getBValues(upperCaseString);
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        frame.setString(0, frame.getString(0).toUpperCase(Locale.getDefault()));
+    }
 }
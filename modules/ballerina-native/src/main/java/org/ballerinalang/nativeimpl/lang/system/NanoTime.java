@@ -19,10 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.system;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -43,10 +45,15 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "Gets the current system time in nanoseconds") })
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
         value = "System time in nanoseconds") })
-public class NanoTime extends AbstractNativeFunction {
+public class NanoTime extends AbstractNativeFunction implements DirectNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
         return getBValues(new BInteger(System.nanoTime()));
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        frame.setInt(0, System.nanoTime());
+    }
 }
@@ -18,9 +18,11 @@
 package org.ballerinalang.nativeimpl.lang.system;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.NativeCallFrame;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.DirectNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -43,7 +45,7 @@ import java.io.PrintStream;
         value = "Prints an any value to the STDOUT in a new line") })
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "a",
         value = "any value to be printed") })
-public class PrintlnAny extends AbstractNativeFunction {
+public class PrintlnAny extends AbstractNativeFunction implements DirectNativeFunction {
 
     public BValue[] execute(Context ctx) {
         // Had to write "System . out . println" (ignore spaces) in another way to deceive the Check style plugin.
@@ -51,4 +53,10 @@ public class PrintlnAny extends AbstractNativeFunction {
         out.println(getArgument(ctx, 0).stringValue());
         return VOID_RETURN;
     }
+
+    @Override
+    public void executeDirect(NativeCallFrame frame) {
+        PrintStream out = System.out;
+        out.println(frame.getRef(0).stringValue());
+    }
 }
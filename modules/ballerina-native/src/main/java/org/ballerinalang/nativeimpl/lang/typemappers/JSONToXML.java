@@ -17,33 +17,17 @@
  */
 package org.ballerinalang.nativeimpl.lang.typemappers;
 
-import de.odysseus.staxon.json.JsonXMLConfig;
-import de.odysseus.staxon.json.JsonXMLConfigBuilder;
-import de.odysseus.staxon.json.JsonXMLInputFactory;
-import de.odysseus.staxon.xml.util.PrettyXMLEventWriter;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.util.XMLUtils;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BValue;
-import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.natives.AbstractNativeTypeMapper;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaTypeMapper;
 import org.ballerinalang.natives.annotations.ReturnType;
-import org.ballerinalang.util.exceptions.BallerinaException;
-
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLEventWriter;
-import javax.xml.stream.XMLOutputFactory;
-import javax.xml.stream.XMLStreamException;
 
 /**
  * Convert JSON to XML.
@@ -63,49 +47,8 @@ import javax.xml.stream.XMLStreamException;
         value = "XML representation of the given JSON") })
 public class JSONToXML extends AbstractNativeTypeMapper {
 
-    private static final String XML_ROOT = "root";
-    
     public BValue convert(Context ctx) {
         BJSON msg = (BJSON) getArgument(ctx, 0);
-        BXML result = convertJSONString(msg.stringValue());;
-        return result;
-    }
-
-    private BXML convertJSONString(String message) {
-        InputStream input = new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8));
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        JsonXMLConfig config = new JsonXMLConfigBuilder().multiplePI(false).virtualRoot(XML_ROOT).build();
-        BXML result = null;
-
-        XMLEventReader reader = null;
-        XMLEventWriter writer = null;
-        try {
-            reader = new JsonXMLInputFactory(config).createXMLEventReader(input);
-            writer = XMLOutputFactory.newInstance().createXMLEventWriter(output);
-            writer = new PrettyXMLEventWriter(writer);
-            writer.add(reader);
-        } catch (XMLStreamException e) {
-            throw new BallerinaException("Error in parsing the XML Stream", e);
-        } finally {
-            try {
-                if (reader != null) {
-                    reader.close();
-                }
-
-                if (writer != null) {
-                    writer.close();
-                }
-            } catch (XMLStreamException ignore) {
-            }
-            try {
-                output.close();
-                input.close();
-            } catch (IOException ignore) {
-            }
-        }
-
-        byte[] xml = output.toByteArray();
-        result = XMLUtils.parse(new ByteArrayInputStream(xml));
-        return result;
+        return XMLUtils.jsonToXML(msg);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.lang.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ExpressionCache} is a bounded cache of compiled expressions, such as XPaths and JSONPaths, which evicts the
+ * least recently used expression when full.
+ * <p>
+ * Cached values must be safe to use from multiple threads. Lookups are counted, so that the hit ratio of the cache
+ * can be monitored.
+ *
+ * @param <T> type of the compiled expressions
+ * @since 0.88
+ */
+public class ExpressionCache<T> {
+
+    private final int maxSize;
+    private final Map<String, T> expressions;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public ExpressionCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.expressions = new LinkedHashMap<String, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > ExpressionCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get a compiled expression.
+     *
+     * @param key expression, along with anything else its compiled form depends on
+     * @return the compiled expression, or null if it is not cached
+     */
+    public T get(String key) {
+        T expression;
+        synchronized (expressions) {
+            expression = expressions.get(key);
+        }
+
+        if (expression != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return expression;
+    }
+
+    /**
+     * Add a compiled expression. Compiling is done outside the cache, hence two threads may add the same
+     * expression, in which case the last one is kept.
+     *
+     * @param key        expression, along with anything else its compiled form depends on
+     * @param expression compiled expression
+     */
+    public void put(String key, T expression) {
+        synchronized (expressions) {
+            expressions.put(key, expression);
+        }
+    }
+
+    public int size() {
+        synchronized (expressions) {
+            return expressions.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public void clear() {
+        synchronized (expressions) {
+            expressions.clear();
+        }
+    }
+}
@@ -19,12 +19,7 @@
 package org.ballerinalang.nativeimpl.lang.xmls;
 
 import net.sf.saxon.om.Sequence;
-import net.sf.saxon.s9api.DocumentBuilder;
-import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.SaxonApiException;
-import net.sf.saxon.s9api.XPathCompiler;
-import net.sf.saxon.s9api.XPathSelector;
-import net.sf.saxon.s9api.XdmNode;
 import net.sf.saxon.s9api.XdmValue;
 import net.sf.saxon.value.EmptySequence;
 
@@ -77,13 +72,7 @@ public class GetString extends AbstractNativeFunction {
             xml = XMLUtils.getSingletonValue(xml);
 
             // Getting the value from XML
-            Processor processor = new Processor(false);
-            XPathCompiler xPathCompiler = processor.newXPathCompiler();
-            DocumentBuilder builder = processor.newDocumentBuilder();
-            XdmNode doc = builder.build(((OMElement) xml.value()).getSAXSource(true));
-            XPathSelector selector = xPathCompiler.compile(xPath).load();
-            selector.setContextItem(doc);
-            XdmValue xdmValue = selector.evaluate();
+            XdmValue xdmValue = XPathUtils.evaluate((OMElement) xml.value(), xPath, null);
             Sequence sequence = xdmValue.getUnderlyingValue();
             
             if (sequence instanceof EmptySequence) {
@@ -18,12 +18,7 @@
 package org.ballerinalang.nativeimpl.lang.xmls;
 
 import net.sf.saxon.om.Sequence;
-import net.sf.saxon.s9api.DocumentBuilder;
-import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.SaxonApiException;
-import net.sf.saxon.s9api.XPathCompiler;
-import net.sf.saxon.s9api.XPathSelector;
-import net.sf.saxon.s9api.XdmNode;
 import net.sf.saxon.s9api.XdmValue;
 import net.sf.saxon.tree.tiny.TinyAttributeImpl;
 import net.sf.saxon.tree.tiny.TinyElementImpl;
@@ -86,18 +81,7 @@ public class GetXMLWithNamespaces extends AbstractNativeFunction {
             xml = XMLUtils.getSingletonValue(xml);
             
             // Getting the value from XML
-            Processor processor = new Processor(false);
-            XPathCompiler xPathCompiler = processor.newXPathCompiler();
-            DocumentBuilder builder = processor.newDocumentBuilder();
-            XdmNode doc = builder.build(((OMElement) xml.value()).getSAXSource(true));
-            if (namespaces != null && !namespaces.isEmpty()) {
-                for (BString entry : namespaces.keySet()) {
-                    xPathCompiler.declareNamespace(entry.stringValue(), namespaces.get(entry).stringValue());
-                }
-            }
-            XPathSelector selector = xPathCompiler.compile(xPath).load();
-            selector.setContextItem(doc);
-            XdmValue xdmValue = selector.evaluate();
+            XdmValue xdmValue = XPathUtils.evaluate((OMElement) xml.value(), xPath, namespaces);
             Sequence sequence = xdmValue.getUnderlyingValue();
 
             if (sequence instanceof EmptySequence) {
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ **/
+
+package org.ballerinalang.nativeimpl.lang.xmls;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XPathExecutable;
+import net.sf.saxon.s9api.XPathSelector;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+
+import org.apache.axiom.om.OMElement;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.nativeimpl.lang.utils.ExpressionCache;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Evaluates XPaths on XML elements with Saxon.
+ * <p>
+ * A single Saxon processor is shared by all the evaluations, and compiled XPaths are cached by their expression
+ * and declared namespaces. Hence evaluating an XPath only builds the Saxon tree of the element and runs the
+ * compiled XPath on it.
+ *
+ * @since 0.88
+ */
+public class XPathUtils {
+
+    private static final int MAX_CACHED_XPATHS = 1024;
+
+    private static final Processor PROCESSOR = new Processor(false);
+
+    private static final ExpressionCache<XPathExecutable> XPATH_CACHE = new ExpressionCache<>(MAX_CACHED_XPATHS);
+
+    /**
+     * Evaluate an XPath on an XML element.
+     *
+     * @param element    XML element
+     * @param xPath      XPath to evaluate
+     * @param namespaces namespaces used in the XPath, by prefix, or null
+     * @return result of the evaluation
+     * @throws SaxonApiException if the XPath is invalid, or it cannot be evaluated
+     */
+    public static XdmValue evaluate(OMElement element, String xPath, BMap<BString, BString> namespaces)
+            throws SaxonApiException {
+        XPathExecutable xPathExecutable = getXPathExecutable(xPath, namespaces);
+        XdmNode doc = PROCESSOR.newDocumentBuilder().build(element.getSAXSource(true));
+        XPathSelector selector = xPathExecutable.load();
+        selector.setContextItem(doc);
+        return selector.evaluate();
+    }
+
+    /**
+     * Get the cache of compiled XPaths.
+     *
+     * @return cache of compiled XPaths
+     */
+    public static ExpressionCache<XPathExecutable> getXPathCache() {
+        return XPATH_CACHE;
+    }
+
+    private static XPathExecutable getXPathExecutable(String xPath, BMap<BString, BString> namespaces)
+            throws SaxonApiException {
+        Map<String, String> namespaceDecls = new TreeMap<>();
+        if (namespaces != null) {
+            for (BString prefix : namespaces.keySet()) {
+                namespaceDecls.put(prefix.stringValue(), namespaces.get(prefix).stringValue());
+            }
+        }
+
+        // Namespaces are sorted by prefix, so that the same declarations in any order share an entry
+        StringBuilder key = new StringBuilder(xPath);
+        for (Map.Entry<String, String> namespaceDecl : namespaceDecls.entrySet()) {
+            key.append('\n').append(namespaceDecl.getKey()).append('=').append(namespaceDecl.getValue());
+        }
+
+        String cacheKey = key.toString();
+        XPathExecutable xPathExecutable = XPATH_CACHE.get(cacheKey);
+        if (xPathExecutable == null) {
+            XPathCompiler xPathCompiler = PROCESSOR.newXPathCompiler();
+            for (Map.Entry<String, String> namespaceDecl : namespaceDecls.entrySet()) {
+                xPathCompiler.declareNamespace(namespaceDecl.getKey(), namespaceDecl.getValue());
+            }
+            xPathExecutable = xPathCompiler.compile(xPath);
+            XPATH_CACHE.put(cacheKey, xPathExecutable);
+        }
+        return xPathExecutable;
+    }
+}
@@ -29,10 +29,6 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.services.dispatchers.ws.WebSocketConnectionManager;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.IOException;
-import java.util.List;
-import javax.websocket.Session;
-
 /**
  * Broadcasts text to all the clients connected to a given endpoint.
  */
@@ -55,19 +51,9 @@ public class BroadcastText extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String text = getArgument(context, 0).stringValue();
         String serviceName = context.getServiceInfo().getName();
-        List<Session> sessions = WebSocketConnectionManager.getInstance().getBroadcastConnectionList(serviceName);
-        if (sessions == null) {
+        if (!WebSocketConnectionManager.getInstance().broadcastText(serviceName, text)) {
             throw new BallerinaException("Cannot find a broadcast list for the service: " + serviceName);
         }
-        sessions.forEach(
-                session -> {
-                    try {
-                        session.getBasicRemote().sendText(text);
-                    } catch (IOException e) {
-                        throw new BallerinaException("IO exception occurred during broadcasting text", e, context);
-                    }
-                }
-        );
         return VOID_RETURN;
     }
 }
@@ -29,10 +29,6 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.services.dispatchers.ws.WebSocketConnectionManager;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.IOException;
-import java.util.List;
-import javax.websocket.Session;
-
 /**
  * This pushes text to a group which is previously define.
  */
@@ -57,19 +53,9 @@ public class PushTextToGroup extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String connectionGroupName = getArgument(context, 0).stringValue();
         String text = getArgument(context, 1).stringValue();
-        List<Session> sessions = WebSocketConnectionManager.getInstance().getConnectionGroup(connectionGroupName);
-        if (sessions != null) {
-            sessions.forEach(
-                    session -> {
-                        try {
-                            session.getBasicRemote().sendText(text);
-                        } catch (IOException e) {
-                            throw new BallerinaException("IO exception occurred during broadcasting text", e, context);
-                        }
-                    }
-            );
+        if (!WebSocketConnectionManager.getInstance().pushTextToGroup(connectionGroupName, text)) {
+            throw new BallerinaException("Cannot find a connection group for the name: " + connectionGroupName);
         }
-        // TODO: Throw exception if null
         return VOID_RETURN;
     }
 }
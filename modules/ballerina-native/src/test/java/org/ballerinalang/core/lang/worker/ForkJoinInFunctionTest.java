@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.core.lang.worker;
 
+import org.ballerinalang.bre.bvm.BLangVM;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMessage;
@@ -99,4 +100,20 @@ public class ForkJoinInFunctionTest {
         Assert.assertTrue(returns[1] instanceof BFloat);
         Assert.assertEquals(((BFloat) returns[1]).floatValue(), 1.23);
     }
+
+    @Test(description = "Test Fork Join Any cancels the workers which are not awaited")
+    public void testForkJoinAnyCancelsOtherWorkers() throws InterruptedException {
+        bProgramFile = BTestUtils.getProgramFile("samples/fork-join-any-cancel.bal");
+        long cancelledCount = BLangVM.getCancelledForkBranchCount();
+        BValue[] returns = BLangFunctions.invokeNew(bProgramFile, "testForkJoinAnyCancelsOtherWorkers");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 100);
+        Assert.assertEquals(BLangVM.getCancelledForkBranchCount(), cancelledCount + 1);
+
+        // The looping worker stops at its next instruction
+        for (int i = 0; i < 100 && BLangVM.getActiveForkBranchCount() > 0; i++) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(BLangVM.getActiveForkBranchCount(), 0);
+    }
 }
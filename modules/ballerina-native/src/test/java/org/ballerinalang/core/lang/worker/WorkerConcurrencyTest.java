@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.core.lang.worker;
+
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.testutils.EnvironmentInitializer;
+import org.ballerinalang.testutils.MessageUtils;
+import org.ballerinalang.testutils.Services;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for concurrent invocations of a resource with workers.
+ *
+ * @since 0.88
+ */
+public class WorkerConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 400;
+
+    private ProgramFile application;
+
+    @BeforeClass
+    public void setup() {
+        application = EnvironmentInitializer.setupProgramFile("samples/worker-in-resource-concurrent.bal");
+    }
+
+    @Test(description = "Test that concurrent resource invocations do not share worker data channels")
+    public void testConcurrentWorkerInteractions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                String id = "ID" + i;
+                responses.add(executor.submit((Callable<String>) () -> {
+                    CarbonMessage cMsg = MessageUtils.generateHTTPMessage("/workerecho/echo/" + id, "GET");
+                    CarbonMessage response = Services.invoke(cMsg);
+                    return ((BJSON) response.getMessageDataSource()).value().get("id").asText();
+                }));
+            }
+
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                Assert.assertEquals(responses.get(i).get(30, TimeUnit.SECONDS), "ID" + i,
+                        "Response of another invocation received");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @AfterClass
+    public void tearDown() {
+        EnvironmentInitializer.cleanup(application);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.nativeimpl.actions;
+
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.nativeimpl.util.SQLDBUtils;
+import org.ballerinalang.testutils.EnvironmentInitializer;
+import org.ballerinalang.testutils.MessageUtils;
+import org.ballerinalang.testutils.Services;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for SQL Connector actions invoked from a resource, which run non-blocking on the executor of the
+ * datasource and resume the resource once they complete.
+ *
+ * @since 0.88
+ */
+public class SQLActionsServiceTest {
+
+    private static final String DB_NAME = "TEST_SQL_CONNECTOR_SERVICE";
+    private static final long RESPONSE_TIMEOUT = 30;
+
+    private ProgramFile application;
+
+    @BeforeClass
+    public void setup() {
+        SQLDBUtils.deleteFiles(new File(SQLDBUtils.DB_DIRECTORY), DB_NAME);
+        SQLDBUtils.initDatabase(SQLDBUtils.DB_DIRECTORY, DB_NAME, "datafiles/SQLConnectorDataFile.sql");
+        application = EnvironmentInitializer.setupProgramFile("samples/sqlConnectorServiceTest.bal");
+    }
+
+    @Test(description = "Test reading the result of a select action invoked from a resource")
+    public void testSelectData() throws InterruptedException {
+        BJSON response = invoke("/sql/select");
+        Assert.assertEquals(response.value().get("firstName").asText(), "Peter");
+    }
+
+    @Test(description = "Test reading the result of an update action invoked from a resource")
+    public void testUpdateData() throws InterruptedException {
+        BJSON response = invoke("/sql/update");
+        Assert.assertEquals(response.value().get("updateCount").asInt(), 1);
+    }
+
+    @Test(description = "Test catching the error of a failed action invoked from a resource")
+    public void testInvalidQuery() throws InterruptedException {
+        BJSON response = invoke("/sql/invalid-query");
+        Assert.assertTrue(response.value().get("error").asText().startsWith("execute query failed: "),
+                response.value().get("error").asText());
+    }
+
+    @Test(description = "Test catching the error of an action invoked on a closed connector from a resource")
+    public void testClosedConnector() throws InterruptedException {
+        BJSON response = invoke("/sql/closed");
+        Assert.assertTrue(response.value().get("error").asText().startsWith("datasource is closed: "),
+                response.value().get("error").asText());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        EnvironmentInitializer.cleanup(application);
+    }
+
+    private BJSON invoke(String path) throws InterruptedException {
+        CarbonMessage cMsg = MessageUtils.generateHTTPMessage(path, "GET");
+        CarbonMessage response = Services.invoke(cMsg, RESPONSE_TIMEOUT, TimeUnit.SECONDS);
+        Assert.assertNotNull(response, "no response received for " + path);
+        return (BJSON) response.getMessageDataSource();
+    }
+}
@@ -17,7 +17,6 @@
  */
 package org.ballerinalang.nativeimpl.actions;
 
-import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BIntArray;
@@ -333,9 +332,29 @@ public class SQLActionsTest {
     @Test(groups = "ConnectorTest")
     public void testBatchUpdate() {
         BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testBatchUpdate");
-        BArray retValue = (BArray) returns[0];
-        Assert.assertEquals(retValue.get(0).stringValue(), "1");
-        Assert.assertEquals(retValue.get(1).stringValue(), "1");
+        BIntArray retValue = (BIntArray) returns[0];
+        Assert.assertEquals(retValue.size(), 2);
+        Assert.assertEquals(retValue.get(0), 1);
+        Assert.assertEquals(retValue.get(1), 1);
+    }
+
+    @Test(groups = "ConnectorTest")
+    public void testBatchUpdateInChunks() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testBatchUpdateInChunks");
+        BIntArray retValue = (BIntArray) returns[0];
+        Assert.assertEquals(retValue.size(), 3);
+        Assert.assertEquals(retValue.get(0), 1);
+        Assert.assertEquals(retValue.get(1), 1);
+        Assert.assertEquals(retValue.get(2), 1);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 3);
+    }
+
+    @Test(groups = "ConnectorTest")
+    public void testBatchUpdateWithFailure() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testBatchUpdateWithFailure");
+        // Only the rows of the committed first chunk remain, the failed chunk and the rows after it are rolled back
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertTrue(returns[1].stringValue().startsWith("execute update failed: "), returns[1].stringValue());
     }
 
     @Test(groups = "ConnectorTest")
@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.nativeimpl.actions;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.ballerinalang.nativeimpl.actions.data.sql.StatementCache;
+import org.ballerinalang.nativeimpl.actions.data.sql.client.SQLDatasourceUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test class for the prepared statement cache of the SQL Connector.
+ *
+ * @since 0.88
+ */
+public class StatementCacheTest {
+
+    private static final String DB_URL = "jdbc:hsqldb:mem:StatementCacheTest";
+    private static final String QUERY = "SELECT name FROM Customers WHERE id = ?";
+    private Connection connection;
+
+    @BeforeClass
+    public void setup() throws Exception {
+        Class.forName("org.hsqldb.jdbcDriver");
+        connection = DriverManager.getConnection(DB_URL, "SA", "");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Customers (id INTEGER, name VARCHAR(50))");
+            stmt.executeUpdate("INSERT INTO Customers VALUES (1, 'Peter')");
+            stmt.executeUpdate("INSERT INTO Customers VALUES (2, 'John')");
+        }
+    }
+
+    @Test
+    public void testRepeatedQueryReusesStatement() throws SQLException {
+        StatementCache statementCache = new StatementCache(4);
+        PreparedStatement stmt = statementCache.prepareStatement(connection, QUERY, false);
+        Assert.assertEquals(getName(stmt, 1), "Peter");
+        statementCache.release(stmt);
+
+        PreparedStatement cachedStmt = statementCache.prepareStatement(connection, QUERY, false);
+        Assert.assertSame(cachedStmt, stmt);
+        Assert.assertEquals(getName(cachedStmt, 2), "John");
+        statementCache.release(cachedStmt);
+
+        Assert.assertFalse(stmt.isClosed());
+        Assert.assertEquals(statementCache.getHitCount(), 1);
+        Assert.assertEquals(statementCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testStatementInUseIsNotShared() throws SQLException {
+        StatementCache statementCache = new StatementCache(4);
+        PreparedStatement stmt1 = statementCache.prepareStatement(connection, QUERY, false);
+        PreparedStatement stmt2 = statementCache.prepareStatement(connection, QUERY, false);
+        Assert.assertNotSame(stmt2, stmt1);
+
+        statementCache.release(stmt1);
+        // Only one idle statement is kept per query
+        statementCache.release(stmt2);
+        Assert.assertFalse(stmt1.isClosed());
+        Assert.assertTrue(stmt2.isClosed());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsClosed() throws SQLException {
+        StatementCache statementCache = new StatementCache(1);
+        PreparedStatement stmt1 = statementCache.prepareStatement(connection, QUERY, false);
+        statementCache.release(stmt1);
+        PreparedStatement stmt2 = statementCache.prepareStatement(connection, "SELECT id FROM Customers", false);
+        statementCache.release(stmt2);
+
+        Assert.assertTrue(stmt1.isClosed());
+        Assert.assertFalse(stmt2.isClosed());
+        Assert.assertEquals(statementCache.getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testDisabledCacheClosesStatements() throws SQLException {
+        StatementCache statementCache = new StatementCache(0);
+        PreparedStatement stmt = statementCache.prepareStatement(connection, QUERY, false);
+        statementCache.release(stmt);
+
+        Assert.assertTrue(stmt.isClosed());
+        Assert.assertNotSame(statementCache.prepareStatement(connection, QUERY, false), stmt);
+        Assert.assertEquals(statementCache.getHitCount(), 0);
+    }
+
+    @Test
+    public void testStatementNotFromCacheIsClosed() throws SQLException {
+        StatementCache statementCache = new StatementCache(4);
+        PreparedStatement stmt = connection.prepareStatement(QUERY);
+        statementCache.release(stmt);
+
+        Assert.assertTrue(stmt.isClosed());
+    }
+
+    @Test
+    public void testStatementsOfClosedConnectionAreDropped() throws SQLException {
+        StatementCache statementCache = new StatementCache(4);
+        Connection closedConnection = DriverManager.getConnection(DB_URL, "SA", "");
+        PreparedStatement stmt = statementCache.prepareStatement(closedConnection, QUERY, false);
+        statementCache.release(stmt);
+        // As done by the pool when it evicts a connection
+        closedConnection.close();
+        Assert.assertTrue(stmt.isClosed());
+
+        PreparedStatement newStmt = statementCache.prepareStatement(connection, QUERY, false);
+        Assert.assertNotSame(newStmt, stmt);
+        Assert.assertEquals(getName(newStmt, 1), "Peter");
+        statementCache.release(newStmt);
+        Assert.assertEquals(statementCache.getConnectionCount(), 1);
+    }
+
+    @Test
+    public void testUncommittedWorkIsRolledBackOnReturn() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(DB_URL);
+        config.setUsername("SA");
+        config.setPassword("");
+        config.setMaximumPoolSize(1);
+        config.setAutoCommit(false);
+        StatementCache statementCache = new StatementCache(4);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            Connection conn = dataSource.getConnection();
+            PreparedStatement stmt = statementCache.prepareStatement(conn,
+                    "INSERT INTO Customers VALUES (?, 'Anne')", false);
+            stmt.setInt(1, 3);
+            Assert.assertEquals(stmt.executeUpdate(), 1);
+            SQLDatasourceUtils.cleanupConnection(null, stmt, conn, false, statementCache);
+
+            // The pool has a single connection, which would still see its own insert if it was not rolled back
+            conn = dataSource.getConnection();
+            PreparedStatement countStmt = statementCache.prepareStatement(conn,
+                    "SELECT COUNT(*) FROM Customers WHERE id = ?", false);
+            countStmt.setInt(1, 3);
+            try (ResultSet rs = countStmt.executeQuery()) {
+                Assert.assertTrue(rs.next());
+                Assert.assertEquals(rs.getInt(1), 0);
+            }
+            SQLDatasourceUtils.cleanupConnection(null, countStmt, conn, false, statementCache);
+        } finally {
+            statementCache.clear();
+        }
+    }
+
+    @AfterClass
+    public void cleanup() throws SQLException {
+        connection.close();
+    }
+
+    private String getName(PreparedStatement stmt, int id) throws SQLException {
+        stmt.setInt(1, id);
+        try (ResultSet rs = stmt.executeQuery()) {
+            Assert.assertTrue(rs.next());
+            return rs.getString(1);
+        }
+    }
+}
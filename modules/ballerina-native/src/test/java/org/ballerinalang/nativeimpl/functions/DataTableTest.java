@@ -46,6 +46,8 @@ public class DataTableTest {
 
     private ProgramFile bLangProgram;
     private static final String DB_NAME = "TEST_DATA_TABLE_DB";
+    // Rows of LargeDataTable, which is more than the rows written between two flushes of the output
+    private static final int LARGE_DATA_TABLE_ROWS = 150;
 
     @BeforeClass
     public void setup() {
@@ -103,6 +105,47 @@ public class DataTableTest {
                         + "<BOOLEAN_TYPE>true</BOOLEAN_TYPE><STRING_TYPE>Hello</STRING_TYPE></type></types>");
     }
 
+    @Test(description = "Check toJson methods with more rows than are written between two flushes.")
+    public void testToJsonLargeDataTable() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "toJsonLargeDataTable");
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 1; i <= LARGE_DATA_TABLE_ROWS; i++) {
+            if (i > 1) {
+                expected.append(",");
+            }
+            expected.append("{\"INT_TYPE\":").append(i * 10)
+                    .append(",\"LONG_TYPE\":").append(i * 10000000000L)
+                    .append(",\"FLOAT_TYPE\":").append(i + 0.5)
+                    .append(",\"DOUBLE_TYPE\":").append(i * 1000.25)
+                    .append(",\"BOOLEAN_TYPE\":").append(i % 2 == 0)
+                    .append(",\"STRING_TYPE\":\"Row ").append(i).append("\"}");
+        }
+        expected.append("]");
+        Assert.assertEquals(returns[0].stringValue(), expected.toString());
+    }
+
+    @Test(description = "Check toXml methods with more rows than are written between two flushes.")
+    public void testToXmlLargeDataTable() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "toXmlLargeDataTable");
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        StringBuilder expected = new StringBuilder("<types>");
+        for (int i = 1; i <= LARGE_DATA_TABLE_ROWS; i++) {
+            expected.append("<type><INT_TYPE>").append(i * 10).append("</INT_TYPE>")
+                    .append("<LONG_TYPE>").append(i * 10000000000L).append("</LONG_TYPE>")
+                    .append("<FLOAT_TYPE>").append(i + 0.5).append("</FLOAT_TYPE>")
+                    .append("<DOUBLE_TYPE>").append(i * 1000.25).append("</DOUBLE_TYPE>")
+                    .append("<BOOLEAN_TYPE>").append(i % 2 == 0).append("</BOOLEAN_TYPE>")
+                    .append("<STRING_TYPE>Row ").append(i).append("</STRING_TYPE></type>");
+        }
+        expected.append("</types>");
+        Assert.assertEquals(returns[0].stringValue(), expected.toString());
+    }
+
     @Test(description = "Check toXml methods with complex element.")
     public void testToXmlComplex() {
         BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "toXmlComplex");
@@ -25,6 +25,7 @@ import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BValueType;
+import org.ballerinalang.nativeimpl.lang.jsons.AbstractJSONFunction;
 import org.ballerinalang.nativeimpl.util.BTestUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangFunctions;
@@ -66,6 +67,18 @@ public class JSONTest {
         Assert.assertEquals(returns[0].stringValue(), "Jack");
     }
 
+    @Test(description = "Get a string twice with the same jsonpath")
+    public void testGetStringReusesCompiledJsonPath() {
+        BValue[] args = {new BJSON(json1), new BString("$.name.lname")};
+        BLangFunctions.invoke(bLangProgram, "getString", args);
+        long hits = AbstractJSONFunction.getJsonPathCache().getHitCount();
+
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getString", args);
+
+        Assert.assertEquals(returns[0].stringValue(), "Taylor");
+        Assert.assertTrue(AbstractJSONFunction.getJsonPathCache().getHitCount() > hits);
+    }
+
     @Test(description = "Get an integer in a valid jsonpath")
     public void testGetInt() {
         BValue[] args = {new BJSON(json1), new BString("$.age")};
@@ -225,6 +225,13 @@ public class StringTest {
         Assert.assertEquals(returns[0].stringValue(), expected);
     }
 
+    @Test(expectedExceptions = {BallerinaException.class},
+            expectedExceptionsMessageRegExp = ".*String index out of range. Actual:10 requested: 0 to 20.*")
+    public void testSubStringOutOfRange() {
+        BValue[] args = {new BString("testValues"), new BInteger(0), new BInteger(20)};
+        BLangFunctions.invokeNew(programFile, "subString", args);
+    }
+
     @Test
     public void testToLowerCase() {
         BValue[] args = {new BString("COMPANY")};
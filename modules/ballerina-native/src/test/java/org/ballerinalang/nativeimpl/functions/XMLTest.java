@@ -26,6 +26,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.model.values.BXMLItem;
 import org.ballerinalang.model.values.BXMLSequence;
+import org.ballerinalang.nativeimpl.lang.xmls.XPathUtils;
 import org.ballerinalang.nativeimpl.util.BTestUtils;
 import org.ballerinalang.nativeimpl.util.XMLUtils;
 import org.ballerinalang.util.codegen.ProgramFile;
@@ -77,6 +78,19 @@ public class XMLTest {
     }
     
 
+    @Test
+    public void testGetStringReusesCompiledXPath() {
+        String xPath = "/persons/person/address/text()";
+        BValue[] args = {new BXMLItem(s1), new BString(xPath)};
+        BLangFunctions.invokeNew(programFile, "getString", args);
+        long hits = XPathUtils.getXPathCache().getHitCount();
+
+        BValue[] returns = BLangFunctions.invokeNew(programFile, "getString", args);
+
+        Assert.assertEquals(returns[0].stringValue(), "wso2");
+        Assert.assertTrue(XPathUtils.getXPathCache().getHitCount() > hits);
+    }
+
     @Test(expectedExceptions = BallerinaException.class)
     public void testGetNonExistingString() {
         BValue[] args = {new BXMLItem(s1), new BString("/xxx/text()")};
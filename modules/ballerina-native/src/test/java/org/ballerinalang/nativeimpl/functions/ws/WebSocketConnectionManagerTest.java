@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.nativeimpl.functions.ws;
+
+import org.ballerinalang.services.dispatchers.ws.WebSocketConnectionManager;
+import org.ballerinalang.testutils.ws.MockWebSocketSession;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the session memberships kept by the {@link WebSocketConnectionManager}.
+ */
+public class WebSocketConnectionManagerTest {
+
+    private final WebSocketConnectionManager connectionManager = WebSocketConnectionManager.getInstance();
+
+    @Test
+    public void testGroupSizes() {
+        MockWebSocketSession session1 = new MockWebSocketSession("managerSession1");
+        MockWebSocketSession session2 = new MockWebSocketSession("managerSession2");
+        int sessionCount = connectionManager.getSessionCount();
+
+        connectionManager.addConnectionToBroadcast("managerService", session1);
+        connectionManager.addConnectionToBroadcast("managerService", session2);
+        connectionManager.addConnectionToGroup("managerGroup", session1);
+
+        Assert.assertEquals(connectionManager.getBroadcastConnectionCount("managerService"), 2);
+        Assert.assertEquals(connectionManager.getConnectionGroupSize("managerGroup"), 1);
+        Assert.assertEquals(connectionManager.getConnectionGroup("managerGroup").iterator().next(), session1);
+        Assert.assertEquals(connectionManager.getConnectionGroupSize("managerMissingGroup"), 0);
+        Assert.assertNull(connectionManager.getConnectionGroup("managerMissingGroup"));
+        Assert.assertEquals(connectionManager.getSessionCount(), sessionCount + 2);
+
+        connectionManager.removeConnectionFromBroadcast("managerService", session1);
+        connectionManager.removeConnectionFromBroadcast("managerService", session2);
+        Assert.assertEquals(connectionManager.getBroadcastConnectionCount("managerService"), 0);
+        // session1 is still in the group
+        Assert.assertEquals(connectionManager.getSessionCount(), sessionCount + 1);
+
+        connectionManager.removeConnectionGroup("managerGroup");
+        Assert.assertEquals(connectionManager.getSessionCount(), sessionCount);
+    }
+
+    @Test
+    public void testStoreMemberships() {
+        MockWebSocketSession session1 = new MockWebSocketSession("managerStoreSession1");
+        MockWebSocketSession session2 = new MockWebSocketSession("managerStoreSession2");
+        int sessionCount = connectionManager.getSessionCount();
+
+        connectionManager.storeConnection("managerStoredConnection", session1);
+        Assert.assertEquals(connectionManager.getSessionCount(), sessionCount + 1);
+
+        // Storing another session with the same name replaces the membership of the first one
+        connectionManager.storeConnection("managerStoredConnection", session2);
+        Assert.assertEquals(connectionManager.getStoredConnection("managerStoredConnection"), session2);
+        Assert.assertEquals(connectionManager.getSessionCount(), sessionCount + 1);
+
+        connectionManager.removeConnectionFromStore("managerStoredConnection");
+        Assert.assertNull(connectionManager.getStoredConnection("managerStoredConnection"));
+        Assert.assertEquals(connectionManager.getSessionCount(), sessionCount);
+    }
+}
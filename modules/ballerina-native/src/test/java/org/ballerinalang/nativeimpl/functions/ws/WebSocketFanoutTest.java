@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.nativeimpl.functions.ws;
+
+import org.ballerinalang.services.dispatchers.ws.WebSocketConnectionManager;
+import org.ballerinalang.services.dispatchers.ws.WebSocketFanout;
+import org.ballerinalang.testutils.ws.MockAsyncRemoteEndpoint;
+import org.ballerinalang.testutils.ws.MockBasicRemoteEndpoint;
+import org.ballerinalang.testutils.ws.MockWebSocketSession;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test sending text to connection groups through the async remotes of the sessions.
+ */
+public class WebSocketFanoutTest {
+
+    private static final int SESSION_COUNT = 10000;
+
+    private final WebSocketConnectionManager connectionManager = WebSocketConnectionManager.getInstance();
+    private final WebSocketFanout fanout = connectionManager.getFanout();
+
+    @Test
+    public void testPushTextToLargeGroup() {
+        String groupName = "fanoutLargeGroup";
+        List<MockWebSocketSession> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            MockWebSocketSession session = new MockWebSocketSession("fanoutSession" + i, true);
+            sessions.add(session);
+            connectionManager.addConnectionToGroup(groupName, session);
+        }
+
+        Assert.assertTrue(connectionManager.pushTextToGroup(groupName, "hello all"));
+
+        for (MockWebSocketSession session : sessions) {
+            Assert.assertEquals(session.getTextReceived(), "hello all");
+            Assert.assertEquals(fanout.getPendingMessages(session), 0);
+        }
+        WebSocketFanout.FanoutStats stats = fanout.getStats(groupName);
+        Assert.assertEquals(stats.getMessageCount(), 1);
+        Assert.assertEquals(stats.getSentCount(), SESSION_COUNT);
+        Assert.assertEquals(stats.getCompletedCount(), 1);
+        Assert.assertTrue(stats.getMaxLatencyNanos() > 0);
+
+        connectionManager.removeConnectionGroup(groupName);
+    }
+
+    @Test
+    public void testSlowSessionDoesNotHoldUpGroup() {
+        String groupName = "fanoutSlowGroup";
+        MockWebSocketSession slowSession = new MockWebSocketSession("fanoutSlowSession", true);
+        MockWebSocketSession fastSession = new MockWebSocketSession("fanoutFastSession", true);
+        MockAsyncRemoteEndpoint slowRemote = (MockAsyncRemoteEndpoint) slowSession.getAsyncRemote();
+        slowRemote.setHoldSends(true);
+        connectionManager.addConnectionToGroup(groupName, slowSession);
+        connectionManager.addConnectionToGroup(groupName, fastSession);
+
+        // One more message than the default limit of pending messages
+        int messageCount = 65;
+        for (int i = 0; i < messageCount; i++) {
+            connectionManager.pushTextToGroup(groupName, "message " + i);
+            Assert.assertEquals(fastSession.getTextReceived(), "message " + i);
+        }
+
+        WebSocketFanout.FanoutStats stats = fanout.getStats(groupName);
+        Assert.assertEquals(fanout.getPendingMessages(slowSession), messageCount - 1);
+        Assert.assertEquals(stats.getDroppedCount(), 1);
+        Assert.assertEquals(stats.getCompletedCount(), 1);
+
+        slowRemote.releaseSends();
+        Assert.assertEquals(fanout.getPendingMessages(slowSession), 0);
+        Assert.assertEquals(stats.getSentCount(), 2 * messageCount - 1);
+        Assert.assertEquals(stats.getCompletedCount(), messageCount);
+
+        connectionManager.removeConnectionGroup(groupName);
+    }
+
+    @Test
+    public void testFailedSessionDoesNotStopGroup() {
+        String groupName = "fanoutFailingGroup";
+        MockWebSocketSession failingSession = new MockWebSocketSession("fanoutFailingSession", true);
+        MockWebSocketSession session = new MockWebSocketSession("fanoutWorkingSession", true);
+        ((MockAsyncRemoteEndpoint) failingSession.getAsyncRemote()).setFailure(new IOException("connection reset"));
+        connectionManager.addConnectionToGroup(groupName, failingSession);
+        connectionManager.addConnectionToGroup(groupName, session);
+
+        connectionManager.pushTextToGroup(groupName, "hello");
+
+        Assert.assertEquals(session.getTextReceived(), "hello");
+        WebSocketFanout.FanoutStats stats = fanout.getStats(groupName);
+        Assert.assertEquals(stats.getSentCount(), 1);
+        Assert.assertEquals(stats.getFailedCount(), 1);
+        Assert.assertEquals(fanout.getPendingMessages(failingSession), 0);
+
+        connectionManager.removeConnectionGroup(groupName);
+    }
+
+    @Test
+    public void testSendThrowingSessionDoesNotStopGroup() {
+        String groupName = "fanoutThrowingGroup";
+        MockWebSocketSession asyncSession = new MockWebSocketSession("fanoutThrowingAsyncSession", true);
+        MockWebSocketSession basicSession = new MockWebSocketSession("fanoutThrowingBasicSession", false);
+        MockWebSocketSession session = new MockWebSocketSession("fanoutNotThrowingSession", true);
+        ((MockAsyncRemoteEndpoint) asyncSession.getAsyncRemote())
+                .setSendException(new IllegalStateException("session is closed"));
+        ((MockBasicRemoteEndpoint) basicSession.getBasicRemote())
+                .setSendException(new IllegalStateException("session is closed"));
+        connectionManager.addConnectionToGroup(groupName, asyncSession);
+        connectionManager.addConnectionToGroup(groupName, basicSession);
+        connectionManager.addConnectionToGroup(groupName, session);
+
+        connectionManager.pushTextToGroup(groupName, "hello");
+
+        Assert.assertEquals(session.getTextReceived(), "hello");
+        WebSocketFanout.FanoutStats stats = fanout.getStats(groupName);
+        Assert.assertEquals(stats.getSentCount(), 1);
+        Assert.assertEquals(stats.getFailedCount(), 2);
+        Assert.assertEquals(stats.getCompletedCount(), 1);
+        // The sends which were not started do not hold a slot of the pending messages
+        Assert.assertEquals(fanout.getPendingMessages(asyncSession), 0);
+        Assert.assertEquals(fanout.getPendingMessages(basicSession), 0);
+
+        connectionManager.removeConnectionGroup(groupName);
+    }
+
+    @Test
+    public void testPushTextToMissingGroup() {
+        Assert.assertFalse(connectionManager.pushTextToGroup("fanoutMissingGroup", "hello"));
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        connectionManager.removeConnectionGroup("fanoutLargeGroup");
+        connectionManager.removeConnectionGroup("fanoutSlowGroup");
+        connectionManager.removeConnectionGroup("fanoutFailingGroup");
+        connectionManager.removeConnectionGroup("fanoutThrowingGroup");
+    }
+}
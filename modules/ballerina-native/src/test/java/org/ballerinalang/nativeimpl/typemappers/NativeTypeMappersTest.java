@@ -58,6 +58,46 @@ public class NativeTypeMappersTest {
         Assert.assertEquals(returns[0].stringValue().replaceAll("\\r|\\n|\\t| ", ""), expected);
     }
 
+    @Test
+    public void testXMLToJSONWithAttributesAndRepeatedElements() {
+        BValue[] args = {new BXMLItem("<person id=\"7\"><name>Jack</name><age>20</age><phone>1</phone>" +
+                "<phone>2</phone><active>true</active><note/></person>")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "xmltojson", args);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        final String expected = "{\"person\":{\"@id\":7,\"name\":\"Jack\",\"age\":20,\"phone\":[1,2]," +
+                "\"active\":true,\"note\":null}}";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
+    @Test
+    public void testXMLToJSONWithMixedContentAndNamespaces() {
+        BValue[] args = {new BXMLItem("<ns:a xmlns:ns=\"http://wso2.com\"><ns:b x=\"y\">text</ns:b></ns:a>")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "xmltojson", args);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        final String expected = "{\"ns:a\":{\"@xmlns:ns\":\"http://wso2.com\",\"ns:b\":{\"@x\":\"y\",\"$\":\"text\"}}}";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
+    @Test
+    public void testJSONToXMLWithAttributesAndArrays() {
+        BValue[] args = {new BJSON("{\"person\":{\"@id\":7,\"name\":\"Jack\",\"phone\":[1,2]}}")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "jsontoxml", args);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        final String expected = "<root><person id=\"7\"><name>Jack</name><phone>1</phone><phone>2</phone>" +
+                "</person></root>";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
+    @Test
+    public void testJSONToXMLWithNamespaces() {
+        BValue[] args = {new BJSON("{\"ns:a\":{\"@xmlns:ns\":\"http://wso2.com\",\"ns:b\":{\"@x\":\"y\"," +
+                "\"$\":\"text\"}}}")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "jsontoxml", args);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        final String expected = "<root><ns:a xmlns:ns=\"http://wso2.com\"><ns:b x=\"y\">text</ns:b></ns:a></root>";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
     @Test
     public void testStringToJSON() {
         BValue[] args = {new BString("{\"name\":\"chanaka\"}")};
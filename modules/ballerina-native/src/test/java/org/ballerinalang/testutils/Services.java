@@ -22,6 +22,8 @@ package org.ballerinalang.testutils;
 import org.ballerinalang.runtime.ServerConnectorMessageHandler;
 import org.wso2.carbon.messaging.CarbonMessage;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * This contains test utils related to Ballerina service invocations.
  *
@@ -37,4 +39,13 @@ public class Services {
         return callback.getResponse();  // This will only work for blocking behaviour
     }
 
+    public static CarbonMessage invoke(CarbonMessage cMsg, long timeout, TimeUnit unit) throws InterruptedException {
+
+        TestCallback callback = new TestCallback();
+        ServerConnectorMessageHandler.handleInbound(cMsg, callback);
+
+        // The resource may reply from another thread, once a non-blocking action completes
+        return callback.awaitResponse(timeout, unit);
+    }
+
 }
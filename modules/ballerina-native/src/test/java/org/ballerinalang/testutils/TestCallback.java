@@ -21,15 +21,34 @@ package org.ballerinalang.testutils;
 import org.ballerinalang.runtime.BalCallback;
 import org.wso2.carbon.messaging.CarbonMessage;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Callback for testing service/resource invocations.
  */
 public class TestCallback implements BalCallback {
 
-    CarbonMessage response;
+    volatile CarbonMessage response;
+
+    private final CountDownLatch responseLatch = new CountDownLatch(1);
 
     public void done(CarbonMessage carbonMessage) {
         response = carbonMessage;
+        responseLatch.countDown();
+    }
+
+    /**
+     * Waits for the response of a resource which replies from another thread, such as after a non-blocking action.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return response, or null if the resource did not reply in time
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public CarbonMessage awaitResponse(long timeout, TimeUnit unit) throws InterruptedException {
+        responseLatch.await(timeout, unit);
+        return response;
     }
 
     public CarbonMessage getResponse() {
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.testutils.ws;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+
+/**
+ * Mock async remote endpoint implementation for WebSocket tests. Sent text is recorded in the basic remote endpoint
+ * of the session, and sends either complete at once, are held until released, fail, or throw before starting.
+ */
+public class MockAsyncRemoteEndpoint implements RemoteEndpoint.Async {
+
+    private final MockBasicRemoteEndpoint basicRemoteEndpoint;
+    private final List<SendHandler> heldHandlers = new ArrayList<>();
+    private boolean holdSends = false;
+    private IOException failure = null;
+    private RuntimeException sendException = null;
+
+    public MockAsyncRemoteEndpoint(MockBasicRemoteEndpoint basicRemoteEndpoint) {
+        this.basicRemoteEndpoint = basicRemoteEndpoint;
+    }
+
+    public void setHoldSends(boolean holdSends) {
+        this.holdSends = holdSends;
+    }
+
+    public void setFailure(IOException failure) {
+        this.failure = failure;
+    }
+
+    public void setSendException(RuntimeException sendException) {
+        this.sendException = sendException;
+    }
+
+    public void releaseSends() {
+        List<SendHandler> handlers = new ArrayList<>(heldHandlers);
+        heldHandlers.clear();
+        handlers.forEach(handler -> handler.onResult(new SendResult()));
+    }
+
+    @Override
+    public long getSendTimeout() {
+        return 0;
+    }
+
+    @Override
+    public void setSendTimeout(long timeoutmillis) {
+    }
+
+    @Override
+    public void sendText(String text, SendHandler handler) {
+        if (sendException != null) {
+            // Thrown before the send is started, as done by containers for a closed session
+            throw sendException;
+        }
+        if (failure != null) {
+            handler.onResult(new SendResult(failure));
+            return;
+        }
+        try {
+            basicRemoteEndpoint.sendText(text);
+        } catch (IOException e) {
+            handler.onResult(new SendResult(e));
+            return;
+        }
+        if (holdSends) {
+            heldHandlers.add(handler);
+        } else {
+            handler.onResult(new SendResult());
+        }
+    }
+
+    @Override
+    public Future<Void> sendText(String text) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        sendText(text, result -> future.complete(null));
+        return future;
+    }
+
+    @Override
+    public Future<Void> sendBinary(ByteBuffer data) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void sendBinary(ByteBuffer data, SendHandler handler) {
+        handler.onResult(new SendResult());
+    }
+
+    @Override
+    public Future<Void> sendObject(Object data) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void sendObject(Object data, SendHandler handler) {
+        handler.onResult(new SendResult());
+    }
+
+    @Override
+    public void setBatchingAllowed(boolean allowed) throws IOException {
+    }
+
+    @Override
+    public boolean getBatchingAllowed() {
+        return false;
+    }
+
+    @Override
+    public void flushBatch() throws IOException {
+    }
+
+    @Override
+    public void sendPing(ByteBuffer applicationData) throws IOException, IllegalArgumentException {
+    }
+
+    @Override
+    public void sendPong(ByteBuffer applicationData) throws IOException, IllegalArgumentException {
+    }
+}
@@ -32,6 +32,11 @@ public class MockBasicRemoteEndpoint implements RemoteEndpoint.Basic {
 
     private String textReceived = null;
     private ByteBuffer bufferReceived = null;
+    private RuntimeException sendException = null;
+
+    public void setSendException(RuntimeException sendException) {
+        this.sendException = sendException;
+    }
 
     public String getTextReceived() {
         String tmp = textReceived;
@@ -47,6 +52,9 @@ public class MockBasicRemoteEndpoint implements RemoteEndpoint.Basic {
 
     @Override
     public void sendText(String text) throws IOException {
+        if (sendException != null) {
+            throw sendException;
+        }
         textReceived = text;
     }
 
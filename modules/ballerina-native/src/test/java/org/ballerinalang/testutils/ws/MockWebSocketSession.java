@@ -39,10 +39,16 @@ public class MockWebSocketSession implements Session {
 
     private final String id;
     private final MockBasicRemoteEndpoint remoteEndpoint;
+    private final MockAsyncRemoteEndpoint asyncRemoteEndpoint;
 
     public MockWebSocketSession(String id) {
+        this(id, false);
+    }
+
+    public MockWebSocketSession(String id, boolean hasAsyncRemote) {
         this.id = id;
         remoteEndpoint = new MockBasicRemoteEndpoint();
+        asyncRemoteEndpoint = hasAsyncRemote ? new MockAsyncRemoteEndpoint(remoteEndpoint) : null;
     }
 
     public String getTextReceived() {
@@ -140,7 +146,7 @@ public class MockWebSocketSession implements Session {
 
     @Override
     public RemoteEndpoint.Async getAsyncRemote() {
-        return null;
+        return asyncRemoteEndpoint;
     }
 
     @Override
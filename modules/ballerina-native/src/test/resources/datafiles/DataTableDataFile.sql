@@ -76,4 +76,28 @@ CREATE TABLE IF NOT EXISTS DateTimeTypes(
   timestamp_type timestamp,
 PRIMARY KEY (row_id)
 );
-/
\ No newline at end of file
+/
+CREATE TABLE IF NOT EXISTS LargeDataTable(
+  row_id       INTEGER,
+  int_type     INTEGER,
+  long_type    BIGINT,
+  float_type   FLOAT,
+  double_type  DOUBLE,
+  boolean_type BOOLEAN,
+  string_type  VARCHAR(50),
+  PRIMARY KEY (row_id)
+);
+/
+CREATE PROCEDURE InsertLargeDataTableRows(IN rowCount INTEGER)
+  MODIFIES SQL DATA
+  BEGIN ATOMIC
+  DECLARE i INTEGER DEFAULT 1;
+  WHILE i <= rowCount DO
+    INSERT INTO LargeDataTable (row_id, int_type, long_type, float_type, double_type, boolean_type, string_type)
+      VALUES (i, i * 10, i * 10000000000, i + 0.5, i * 1000.25, MOD(i, 2) = 0, 'Row ' || CAST(i AS VARCHAR(10)));
+    SET i = i + 1;
+  END WHILE;
+  END
+/
+CALL InsertLargeDataTableRows(150);
+/
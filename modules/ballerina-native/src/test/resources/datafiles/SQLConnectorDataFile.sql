@@ -157,3 +157,9 @@ CREATE PROCEDURE TestArrayINOutParams (IN id INT, OUT insertedCount INTEGER, INO
   SELECT string_array INTO varcharArray FROM ArrayTypes where row_id = 1;
   END
 /
+CREATE TABLE IF NOT EXISTS BatchUpdateTable(
+  row_id      INTEGER,
+  name        VARCHAR(300),
+  PRIMARY KEY (row_id)
+);
+/
@@ -0,0 +1,22 @@
+function testForkJoinAnyCancelsOtherWorkers()(int) {
+    int x;
+    fork {
+    worker W1 {
+    100 -> fork;
+    }
+    worker W2 {
+    int i = 0;
+    while (i >= 0) {
+        i = i + 1;
+    }
+    i -> fork;
+    }
+    } join (some 1) (map results) {
+    any[] w1;
+    w1,_ = (any[]) results["W1"];
+    x = (int) w1[0];
+    } timeout (30) (map results) {
+    x = -1;
+    }
+    return x;
+}
@@ -0,0 +1,96 @@
+import ballerina.lang.datatables;
+import ballerina.lang.errors;
+import ballerina.lang.messages;
+import ballerina.net.http;
+import ballerina.data.sql;
+
+@http:BasePath {value:"/sql"}
+service SQLService {
+
+    @http:GET{}
+    @http:Path {value:"/select"}
+    resource selectData (message m) {
+        map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_SERVICE",
+            "username":"SA", "password":"", "maximumPoolSize":1};
+        sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+        string firstName;
+        sql:Parameter[] parameters = [];
+        datatable dt = sql:ClientConnector.select(testDB, "SELECT FirstName from Customers where registrationID = 1",
+            parameters);
+        while (datatables:hasNext(dt)) {
+            firstName = datatables:getString(dt, 1);
+        }
+        datatables:close(dt);
+        sql:ClientConnector.close(testDB);
+
+        message response = {};
+        json responseJson = {"firstName":firstName};
+        messages:setJsonPayload(response, responseJson);
+        reply response;
+    }
+
+    @http:GET{}
+    @http:Path {value:"/update"}
+    resource updateData (message m) {
+        map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_SERVICE",
+            "username":"SA", "password":"", "maximumPoolSize":1};
+        sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+        sql:Parameter[] parameters = [];
+        int updateCount = sql:ClientConnector.update(testDB, "Update Customers set country = 'UK'
+            where registrationID = 1", parameters);
+        sql:ClientConnector.close(testDB);
+
+        message response = {};
+        json responseJson = {"updateCount":updateCount};
+        messages:setJsonPayload(response, responseJson);
+        reply response;
+    }
+
+    @http:GET{}
+    @http:Path {value:"/invalid-query"}
+    resource invalidQuery (message m) {
+        map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_SERVICE",
+            "username":"SA", "password":"", "maximumPoolSize":1};
+        sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+        string errorMessage;
+        sql:Parameter[] parameters = [];
+        try {
+            datatable dt = sql:ClientConnector.select(testDB, "SELECT FirstName from NoSuchTable", parameters);
+            datatables:close(dt);
+        } catch (errors:Error e) {
+            errorMessage = e.msg;
+        }
+        sql:ClientConnector.close(testDB);
+
+        message response = {};
+        json responseJson = {"error":errorMessage};
+        messages:setJsonPayload(response, responseJson);
+        reply response;
+    }
+
+    @http:GET{}
+    @http:Path {value:"/closed"}
+    resource closedConnector (message m) {
+        map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_SERVICE",
+            "username":"SA", "password":"", "maximumPoolSize":1};
+        sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+        sql:ClientConnector.close(testDB);
+
+        string errorMessage;
+        sql:Parameter[] parameters = [];
+        try {
+            datatable dt = sql:ClientConnector.select(testDB, "SELECT FirstName from Customers", parameters);
+            datatables:close(dt);
+        } catch (errors:Error e) {
+            errorMessage = e.msg;
+        }
+
+        message response = {};
+        json responseJson = {"error":errorMessage};
+        messages:setJsonPayload(response, responseJson);
+        reply response;
+    }
+}
@@ -538,6 +538,88 @@ function testBatchUpdate() (int[]) {
     return updateCount;
 }
 
+function testBatchUpdateInChunks() (int[], int) {
+    map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR",
+                         "username":"SA", "password":"", "maximumPoolSize":1, "batchSize":2,
+                         "batchCommitInterval":2};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+    sql:Parameter para1 = {sqlType:"varchar", value:"Alex", direction:0};
+    sql:Parameter para2 = {sqlType:"integer", value:310, direction:0};
+    sql:Parameter[] parameters1 = [para1, para2];
+
+    para1 = {sqlType:"varchar", value:"Peter", direction:0};
+    para2 = {sqlType:"integer", value:310, direction:0};
+    sql:Parameter[] parameters2 = [para1, para2];
+
+    para1 = {sqlType:"varchar", value:"John", direction:0};
+    para2 = {sqlType:"integer", value:310, direction:0};
+    sql:Parameter[] parameters3 = [para1, para2];
+    sql:Parameter[][] parameters = [parameters1, parameters2, parameters3];
+
+    int[] updateCount;
+    updateCount  = sql:ClientConnector.batchUpdate(testDB, "Insert into Customers
+                (firstName,registrationID) values (?,?)", parameters);
+
+    int count;
+    sql:Parameter[] emptyParameters = [];
+    datatable dt = sql:ClientConnector.select(testDB, "Select COUNT(*) from Customers where registrationID = 310",
+    emptyParameters);
+    while (datatables:hasNext(dt)) {
+        count = datatables:getInt(dt, 1);
+    }
+    datatables:close(dt);
+    sql:ClientConnector.close(testDB);
+    return updateCount, count;
+}
+
+function testBatchUpdateWithFailure() (int, string) {
+    map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR",
+                         "username":"SA", "password":"", "maximumPoolSize":1, "batchSize":2,
+                         "batchCommitInterval":2};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+    sql:Parameter para1 = {sqlType:"integer", value:1, direction:0};
+    sql:Parameter para2 = {sqlType:"varchar", value:"Row 1", direction:0};
+    sql:Parameter[] parameters1 = [para1, para2];
+
+    para1 = {sqlType:"integer", value:2, direction:0};
+    para2 = {sqlType:"varchar", value:"Row 2", direction:0};
+    sql:Parameter[] parameters2 = [para1, para2];
+
+    para1 = {sqlType:"integer", value:3, direction:0};
+    para2 = {sqlType:"varchar", value:"Row 3", direction:0};
+    sql:Parameter[] parameters3 = [para1, para2];
+
+    para1 = {sqlType:"integer", value:1, direction:0};
+    para2 = {sqlType:"varchar", value:"Row 4", direction:0};
+    sql:Parameter[] parameters4 = [para1, para2];
+
+    para1 = {sqlType:"integer", value:5, direction:0};
+    para2 = {sqlType:"varchar", value:"Row 5", direction:0};
+    sql:Parameter[] parameters5 = [para1, para2];
+    sql:Parameter[][] parameters = [parameters1, parameters2, parameters3, parameters4, parameters5];
+
+    // The second chunk fails on the duplicate row_id, after the first chunk has been committed
+    string errorMessage;
+    try {
+        sql:ClientConnector.batchUpdate(testDB, "Insert into BatchUpdateTable (row_id, name) values (?,?)",
+                                        parameters);
+    } catch (errors:Error e) {
+        errorMessage = e.msg;
+    }
+
+    int count;
+    sql:Parameter[] emptyParameters = [];
+    datatable dt = sql:ClientConnector.select(testDB, "Select COUNT(*) from BatchUpdateTable", emptyParameters);
+    while (datatables:hasNext(dt)) {
+        count = datatables:getInt(dt, 1);
+    }
+    datatables:close(dt);
+    sql:ClientConnector.close(testDB);
+    return count, errorMessage;
+}
+
 function testLocalTransacton () (int, int) {
     map propertiesMap = {"jdbcUrl":"jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR",
                          "username":"SA", "password":"", "maximumPoolSize":1};
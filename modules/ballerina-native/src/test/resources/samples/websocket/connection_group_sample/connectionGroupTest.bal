@@ -1,3 +1,4 @@
+import ballerina.lang.errors;
 import ballerina.lang.system;
 import ballerina.lang.messages;
 import ballerina.net.ws;
@@ -30,8 +31,17 @@ service oddEvenWebSocketConnector {
         } else if ("removeEvenConnection" == text) {
             ws:removeConnectionFromGroup("evenGroup");
         } else {
-            ws:pushTextToGroup("oddGroup", "oddGroup: " + messages:getStringPayload(m));
-            ws:pushTextToGroup("evenGroup", "evenGroup: " + messages:getStringPayload(m));
+            // A group which has been removed cannot be pushed to
+            try {
+                ws:pushTextToGroup("oddGroup", "oddGroup: " + messages:getStringPayload(m));
+            } catch (errors:Error e) {
+                system:println(e.msg);
+            }
+            try {
+                ws:pushTextToGroup("evenGroup", "evenGroup: " + messages:getStringPayload(m));
+            } catch (errors:Error e) {
+                system:println(e.msg);
+            }
         }
     }
 
@@ -0,0 +1,24 @@
+import ballerina.lang.messages;
+import ballerina.net.http;
+
+@http:BasePath {value:"/workerecho"}
+service WorkerEchoService {
+
+    @http:GET{}
+    @http:Path {value:"/echo/{id}"}
+    resource echo (message m, @http:PathParam {value:"id"} string id) {
+        message response = {};
+        string result;
+        id -> echoWorker;
+        result <- echoWorker;
+        json responseJson = {"id":result};
+        messages:setJsonPayload(response, responseJson);
+        reply response;
+
+        worker echoWorker {
+        string value;
+        value <- default;
+        value -> default;
+        }
+    }
+}